@@ -0,0 +1,124 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code BatchInsertResult} class reports the outcome of a bulk insert.
+ * It counts the rows that were written and records every row that failed,
+ * together with the reason, so callers can retry or report them individually.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class BatchInsertResult {
+
+    /**
+     * Describes a single row that could not be inserted.
+     */
+    public static class Failure {
+
+        private final int rowIndex;
+        private final Integer competitorID;
+        private final String message;
+
+        /**
+         * Constructs a {@code Failure} for one row.
+         *
+         * @param rowIndex the zero-based position of the row in the submitted collection
+         * @param competitorID the ID of the competitor in that row
+         * @param message the reason the row failed
+         */
+        public Failure(int rowIndex, Integer competitorID, String message) {
+            this.rowIndex = rowIndex;
+            this.competitorID = competitorID;
+            this.message = message;
+        }
+
+        /**
+         * Gets the position of the failed row in the submitted collection.
+         *
+         * @return the zero-based row index
+         */
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        /**
+         * Gets the ID of the competitor that failed.
+         *
+         * @return the competitor ID
+         */
+        public Integer getCompetitorID() {
+            return competitorID;
+        }
+
+        /**
+         * Gets the reason the row failed.
+         *
+         * @return the error message
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Row " + rowIndex + " (Competitor ID " + competitorID + "): " + message;
+        }
+    }
+
+    private int insertedCount;
+    private final List<Failure> failures = new ArrayList<>();
+
+    /**
+     * Adds to the number of rows written successfully.
+     *
+     * @param count the number of rows to add
+     */
+    void addInserted(int count) {
+        insertedCount += count;
+    }
+
+    /**
+     * Records a failed row.
+     *
+     * @param failure the failure to record
+     */
+    void addFailure(Failure failure) {
+        failures.add(failure);
+    }
+
+    /**
+     * Gets the number of rows written successfully.
+     *
+     * @return the number of inserted rows
+     */
+    public int getInsertedCount() {
+        return insertedCount;
+    }
+
+    /**
+     * Gets the rows that could not be written.
+     *
+     * @return an unmodifiable {@link List} of failures
+     */
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Checks whether every row was written.
+     *
+     * @return {@code true} if there were no failures
+     */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Inserted " + insertedCount + " competitor(s), " + failures.size() + " failure(s)";
+    }
+}
@@ -0,0 +1,59 @@
+package Main;
+
+/**
+ * The {@code BeltColor} enum lists the belt colors a competitor can hold, from the
+ * lowest rank to the highest.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public enum BeltColor {
+
+    WHITE("White"),
+    YELLOW("Yellow"),
+    BLUE("Blue"),
+    PURPLE("Purple"),
+    BROWN("Brown"),
+    BLACK("Black");
+
+    private static final BeltColor[] VALUES = values();
+
+    private final String label;
+
+    BeltColor(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the label stored in the database and shown to users.
+     *
+     * @return the label, for example {@code "Black"}
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Finds the belt color with the given label, ignoring case.
+     *
+     * @param label the label, possibly {@code null}
+     * @return the matching {@code BeltColor}, or {@code null} if {@code label} is {@code null}
+     * @throws IllegalArgumentException if the label is not a known belt color
+     */
+    public static BeltColor fromLabel(String label) {
+        if (label == null) {
+            return null;
+        }
+        for (BeltColor color : VALUES) {
+            if (color.label.equalsIgnoreCase(label.trim())) {
+                return color;
+            }
+        }
+        throw new IllegalArgumentException("Unknown belt color: " + label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,182 @@
+package Main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The {@code BinaryRosterCodec} class reads and writes the roster in a compact binary
+ * format. The file starts with a four-byte magic number and a version byte. Each record
+ * is an {@code int} length followed by that many bytes holding the ID, six nullable
+ * strings (a presence byte then modified UTF-8), the number of scores, the scores and
+ * the overall score. The length prefix lets a reader skip a record it cannot decode.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+final class BinaryRosterCodec {
+
+    static final int MAGIC = 0x4D525231; // "MRR1"
+    static final byte VERSION = 1;
+
+    /**
+     * Records longer than this are treated as corruption rather than allocated.
+     */
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private BinaryRosterCodec() {
+    }
+
+    /**
+     * Writes competitors as length-prefixed binary records.
+     */
+    static final class Writer implements RosterWriter {
+
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(128);
+        private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+        Writer(OutputStream out, boolean writeHeader) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+            if (writeHeader) {
+                this.out.writeInt(MAGIC);
+                this.out.writeByte(VERSION);
+            }
+        }
+
+        @Override
+        public void write(MRCompetitor competitor) throws IOException {
+            Name name = competitor.getName();
+            recordBytes.reset();
+            record.writeInt(competitor.getCompetitorID());
+            writeNullable(name == null ? null : name.getFirstName());
+            writeNullable(name == null ? null : name.getMiddleName());
+            writeNullable(name == null ? null : name.getLastName());
+            writeNullable(competitor.getCompetitionLevel());
+            writeNullable(competitor.getgender());
+            writeNullable(competitor.getBelbeltColor());
+            int[] scores = competitor.getScores();
+            int count = scores == null ? 0 : scores.length;
+            record.writeByte(count);
+            for (int i = 0; i < count; i++) {
+                record.writeInt(scores[i]);
+            }
+            record.writeDouble(competitor.getOverallScore());
+
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        /**
+         * Writes a presence byte and, if present, the string.
+         *
+         * @param value the string, possibly {@code null}
+         * @throws IOException if writing fails
+         */
+        private void writeNullable(String value) throws IOException {
+            if (value == null) {
+                record.writeBoolean(false);
+            } else {
+                record.writeBoolean(true);
+                record.writeUTF(value);
+            }
+        }
+    }
+
+    /**
+     * Reads competitors from length-prefixed binary records.
+     */
+    static final class Reader implements RosterReader {
+
+        private final DataInputStream in;
+        private byte[] buffer = new byte[256];
+        private int recordIndex = -1;
+
+        Reader(InputStream in) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+            if (this.in.readInt() != MAGIC) {
+                throw new IOException("Not a binary roster file");
+            }
+            byte version = this.in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary roster version " + version);
+            }
+        }
+
+        @Override
+        public MRCompetitor read() throws IOException {
+            // Only an end of file before the first byte of a record is a clean end
+            int first = in.read();
+            if (first < 0) {
+                return null;
+            }
+            int length;
+            try {
+                length = first << 24 | in.readUnsignedByte() << 16 | in.readUnsignedByte() << 8 | in.readUnsignedByte();
+            } catch (EOFException e) {
+                throw new EOFException("Truncated record length after record " + recordIndex);
+            }
+            if (length < 0 || length > MAX_RECORD_BYTES) {
+                throw new IOException("Corrupt record length " + length + " after record " + recordIndex);
+            }
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            try {
+                in.readFully(buffer, 0, length);
+            } catch (EOFException e) {
+                throw new EOFException("Truncated record after record " + recordIndex);
+            }
+            recordIndex++;
+
+            try {
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(buffer, 0, length));
+                int id = record.readInt();
+                Name name = new Name(readNullable(record), readNullable(record), readNullable(record));
+                String level = readNullable(record);
+                String gender = readNullable(record);
+                String belt = readNullable(record);
+                int[] scores = new int[record.readUnsignedByte()];
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = record.readInt();
+                }
+                return new MRCompetitor(id, name, level, gender, belt, scores, record.readDouble());
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Malformed record: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public int getRecordIndex() {
+            return recordIndex;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * Reads a presence byte and, if present, the string.
+         *
+         * @param record the record being decoded
+         * @return the string, or {@code null}
+         * @throws IOException if the record ends early
+         */
+        private static String readNullable(DataInputStream record) throws IOException {
+            return record.readBoolean() ? record.readUTF() : null;
+        }
+    }
+}
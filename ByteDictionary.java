@@ -0,0 +1,78 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code ByteDictionary} class encodes a small set of strings, such as competition
+ * levels or belt colors, as single-byte codes. Code 0 always stands for {@code null}
+ * and up to 255 distinct values get the codes 1 to 255 in the order they are first
+ * seen. Codes should be read with {@code code & 0xFF}. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ByteDictionary {
+
+    /**
+     * The code that stands for {@code null}.
+     */
+    public static final byte NULL_CODE = 0;
+
+    private static final int MAX_CODES = 256;
+
+    private final Map<String, Byte> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Constructs an empty dictionary.
+     */
+    public ByteDictionary() {
+        values.add(null);
+    }
+
+    /**
+     * Gets the code of a value, adding the value if it has not been seen before.
+     *
+     * @param value the value to encode, possibly {@code null}
+     * @return the byte code of the value
+     * @throws IllegalStateException if the dictionary already holds 255 values
+     */
+    public byte encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Byte code = codes.get(value);
+        if (code == null) {
+            if (values.size() == MAX_CODES) {
+                throw new IllegalStateException("Dictionary is full, cannot add \"" + value + "\"");
+            }
+            code = (byte) values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Gets the value of a code.
+     *
+     * @param code the byte code
+     * @return the value, or {@code null} for {@link #NULL_CODE}
+     * @throws IndexOutOfBoundsException if the code was never handed out
+     */
+    public String decode(byte code) {
+        return values.get(code & 0xFF);
+    }
+
+    /**
+     * Gets the number of codes in use, including the code for {@code null}.
+     *
+     * @return the number of codes, at most 256
+     */
+    public int size() {
+        return values.size();
+    }
+}
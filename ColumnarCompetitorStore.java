@@ -0,0 +1,245 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code ColumnarCompetitorStore} class holds a read-mostly copy of the roster as
+ * one primitive array per field instead of one {@link MRCompetitor} object per row.
+ * IDs, each score and the overall score live in their own {@code int[]} and
+ * {@code double[]} columns, and competition level, gender and belt color are
+ * dictionary-encoded into {@code byte[]} columns. The statistical summary, the top
+ * performer and the score frequency are computed as tight loops over these arrays,
+ * which keeps the scan cache-friendly for millions of competitors.
+ * <p>
+ * The store is a snapshot: it is filled with {@link #add(MRCompetitor)} or
+ * {@link #load(CompetitorRepository)} and does not see later changes to the repository.
+ * It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ColumnarCompetitorStore {
+
+    /**
+     * Score frequencies are counted in a dense array when the scores span at most this many values.
+     */
+    private static final int MAX_DENSE_SCORE_RANGE = 1 << 16;
+
+    private int size;
+    private int[] ids;
+    private final int[][] scores = new int[CompetitorRowMapper.SCORE_COLUMNS][];
+    private double[] overallScores;
+    private byte[] levels;
+    private byte[] genders;
+    private byte[] beltColors;
+    private String[] firstNames;
+    private String[] middleNames;
+    private String[] lastNames;
+
+    private final ByteDictionary levelDictionary = new ByteDictionary();
+    private final ByteDictionary genderDictionary = new ByteDictionary();
+    private final ByteDictionary beltColorDictionary = new ByteDictionary();
+
+    /**
+     * Constructs an empty store.
+     */
+    public ColumnarCompetitorStore() {
+        this(1024);
+    }
+
+    /**
+     * Constructs an empty store sized for the given number of competitors.
+     *
+     * @param expectedSize the number of competitors expected
+     */
+    public ColumnarCompetitorStore(int expectedSize) {
+        allocate(Math.max(16, expectedSize));
+    }
+
+    /**
+     * Builds a store holding every competitor in a repository.
+     *
+     * @param repository the repository to copy from
+     * @return a new store with one row per competitor
+     */
+    public static ColumnarCompetitorStore load(CompetitorRepository repository) {
+        ColumnarCompetitorStore store = new ColumnarCompetitorStore(repository.getTotalNumberOfCompetitors());
+        repository.forEachCompetitor(store::add);
+        return store;
+    }
+
+    /**
+     * Appends a competitor as a new row.
+     *
+     * @param competitor the competitor to add
+     * @throws IllegalStateException if a level, gender or belt color column has more than 255 distinct values
+     */
+    public void add(MRCompetitor competitor) {
+        if (size == ids.length) {
+            allocate(size * 2);
+        }
+        ids[size] = competitor.getCompetitorID();
+        int[] competitorScores = competitor.getScores();
+        for (int column = 0; column < scores.length; column++) {
+            scores[column][size] = competitorScores != null && column < competitorScores.length ? competitorScores[column] : 0;
+        }
+        overallScores[size] = competitor.getOverallScore();
+        levels[size] = levelDictionary.encode(competitor.getCompetitionLevel());
+        genders[size] = genderDictionary.encode(competitor.getgender());
+        beltColors[size] = beltColorDictionary.encode(competitor.getBelbeltColor());
+        Name name = competitor.getName();
+        if (name != null) {
+            firstNames[size] = name.getFirstName();
+            middleNames[size] = name.getMiddleName();
+            lastNames[size] = name.getLastName();
+        }
+        size++;
+    }
+
+    /**
+     * Gets the number of competitors in the store.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rebuilds the competitor stored in a row.
+     *
+     * @param row the row index, from 0 to {@code size() - 1}
+     * @return a new {@link MRCompetitor} with the row's values
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    public MRCompetitor getCompetitor(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range 0.." + (size - 1));
+        }
+        int[] competitorScores = new int[scores.length];
+        for (int column = 0; column < scores.length; column++) {
+            competitorScores[column] = scores[column][row];
+        }
+        return new MRCompetitor(ids[row], new Name(firstNames[row], middleNames[row], lastNames[row]),
+                levelDictionary.decode(levels[row]), genderDictionary.decode(genders[row]),
+                beltColorDictionary.decode(beltColors[row]), competitorScores, overallScores[row]);
+    }
+
+    /**
+     * Finds the competitor with the highest overall score. Ties go to the lowest ID.
+     *
+     * @return the top performer, or {@code null} if the store is empty
+     */
+    public MRCompetitor getTopPerformer() {
+        if (size == 0) {
+            return null;
+        }
+        int best = 0;
+        for (int row = 1; row < size; row++) {
+            double score = overallScores[row];
+            if (score > overallScores[best] || (score == overallScores[best] && ids[row] < ids[best])) {
+                best = row;
+            }
+        }
+        return getCompetitor(best);
+    }
+
+    /**
+     * Counts how often each individual score was given.
+     *
+     * @return a {@link Map} from score to frequency, in ascending score order
+     */
+    public Map<Integer, Integer> getScoreFrequency() {
+        Map<Integer, Integer> frequencyMap = new TreeMap<>();
+        if (size == 0) {
+            return frequencyMap;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int[] column : scores) {
+            for (int row = 0; row < size; row++) {
+                min = Math.min(min, column[row]);
+                max = Math.max(max, column[row]);
+            }
+        }
+
+        if ((long) max - min >= MAX_DENSE_SCORE_RANGE) {
+            for (int[] column : scores) {
+                for (int row = 0; row < size; row++) {
+                    frequencyMap.merge(column[row], 1, Integer::sum);
+                }
+            }
+            return frequencyMap;
+        }
+
+        int[] counts = new int[max - min + 1];
+        for (int[] column : scores) {
+            for (int row = 0; row < size; row++) {
+                counts[column[row] - min]++;
+            }
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                frequencyMap.put(min + i, counts[i]);
+            }
+        }
+        return frequencyMap;
+    }
+
+    /**
+     * Computes the statistical summary in a single pass over the overall score and level columns.
+     *
+     * @return a {@link ScoreSummary}
+     */
+    public ScoreSummary getStatisticalSummary() {
+        ScoreSummary summary = new ScoreSummary();
+        int[] levelCounts = new int[levelDictionary.size()];
+        double[] levelTotals = new double[levelDictionary.size()];
+        double max = 0.0;
+
+        for (int row = 0; row < size; row++) {
+            double overall = overallScores[row];
+            if (overall > max) {
+                max = overall;
+            }
+            int level = levels[row] & 0xFF;
+            levelCounts[level]++;
+            levelTotals[level] += overall;
+        }
+
+        summary.setTotalCompetitors(size);
+        summary.setMaxOverallScore(max);
+        for (Map.Entry<Integer, Integer> entry : getScoreFrequency().entrySet()) {
+            summary.putScoreFrequency(entry.getKey(), entry.getValue());
+        }
+        for (int code = 0; code < levelCounts.length; code++) {
+            if (levelCounts[code] > 0) {
+                String level = levelDictionary.decode((byte) code);
+                summary.putLevel(level == null ? "Unknown" : level, levelCounts[code], levelTotals[code] / levelCounts[code]);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Grows every column to the given capacity.
+     *
+     * @param capacity the number of rows the columns can hold
+     */
+    private void allocate(int capacity) {
+        ids = ids == null ? new int[capacity] : Arrays.copyOf(ids, capacity);
+        for (int column = 0; column < scores.length; column++) {
+            scores[column] = scores[column] == null ? new int[capacity] : Arrays.copyOf(scores[column], capacity);
+        }
+        overallScores = overallScores == null ? new double[capacity] : Arrays.copyOf(overallScores, capacity);
+        levels = levels == null ? new byte[capacity] : Arrays.copyOf(levels, capacity);
+        genders = genders == null ? new byte[capacity] : Arrays.copyOf(genders, capacity);
+        beltColors = beltColors == null ? new byte[capacity] : Arrays.copyOf(beltColors, capacity);
+        firstNames = firstNames == null ? new String[capacity] : Arrays.copyOf(firstNames, capacity);
+        middleNames = middleNames == null ? new String[capacity] : Arrays.copyOf(middleNames, capacity);
+        lastNames = lastNames == null ? new String[capacity] : Arrays.copyOf(lastNames, capacity);
+    }
+}
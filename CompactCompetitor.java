@@ -0,0 +1,258 @@
+package Main;
+
+/**
+ * The {@code CompactCompetitor} class is a memory-efficient, immutable form of
+ * {@link MRCompetitor} for keeping large rosters in memory. The ID and the five scores
+ * are primitive fields, the competition level is a single byte, gender and belt color
+ * are enum constants, and the name parts are stored directly (deduplicated by a shared
+ * {@link StringDeduplicator}) instead of in a {@link Name} object with its own initials.
+ * <p>
+ * Competitors are converted with {@link #from(MRCompetitor, StringDeduplicator)} when
+ * they are read from {@link CompetitorDB} and back with {@link #toMRCompetitor()} when
+ * they are written.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public final class CompactCompetitor {
+
+    /**
+     * Level code used when a competitor has no competition level.
+     */
+    public static final byte NO_LEVEL = -1;
+
+    /**
+     * The highest competition level accepted when registering a competitor.
+     */
+    public static final int MAX_LEVEL = 5;
+
+    private final int competitorID;
+    private final String firstName;
+    private final String middleName;
+    private final String lastName;
+    private final byte level;
+    private final Gender gender;
+    private final BeltColor beltColor;
+    private final int score1;
+    private final int score2;
+    private final int score3;
+    private final int score4;
+    private final int score5;
+    private final double overallScore;
+
+    /**
+     * Constructs a {@code CompactCompetitor} with the specified details.
+     *
+     * @param competitorID the unique ID of the competitor
+     * @param firstName the first name
+     * @param middleName the middle name
+     * @param lastName the last name
+     * @param level the competition level from 0 to {@link #MAX_LEVEL}, or {@link #NO_LEVEL}
+     * @param gender the gender
+     * @param beltColor the belt color
+     * @param scores the five scores
+     * @param overallScore the overall score for these scores
+     * @throws IllegalArgumentException if the level is out of range or there are not five scores
+     */
+    public CompactCompetitor(int competitorID, String firstName, String middleName, String lastName, byte level,
+                             Gender gender, BeltColor beltColor, int[] scores, double overallScore) {
+        if (level != NO_LEVEL && (level < 0 || level > MAX_LEVEL)) {
+            throw new IllegalArgumentException("Invalid competition level: " + level);
+        }
+        if (scores == null || scores.length != CompetitorRowMapper.SCORE_COLUMNS) {
+            throw new IllegalArgumentException("Expected " + CompetitorRowMapper.SCORE_COLUMNS + " scores");
+        }
+        this.competitorID = competitorID;
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.level = level;
+        this.gender = gender;
+        this.beltColor = beltColor;
+        this.score1 = scores[0];
+        this.score2 = scores[1];
+        this.score3 = scores[2];
+        this.score4 = scores[3];
+        this.score5 = scores[4];
+        this.overallScore = overallScore;
+    }
+
+    /**
+     * Converts an {@link MRCompetitor} to its compact form.
+     *
+     * @param competitor the competitor to convert
+     * @param strings the deduplicator shared by every competitor in the roster
+     * @return the compact competitor
+     * @throws IllegalArgumentException if the level, gender or belt color is not one of the known values
+     */
+    public static CompactCompetitor from(MRCompetitor competitor, StringDeduplicator strings) {
+        Name name = competitor.getName();
+        return new CompactCompetitor(competitor.getCompetitorID(),
+                strings.dedupe(name == null ? null : name.getFirstName()),
+                strings.dedupe(name == null ? null : name.getMiddleName()),
+                strings.dedupe(name == null ? null : name.getLastName()),
+                parseLevel(competitor.getCompetitionLevel()),
+                Gender.fromLabel(competitor.getgender()),
+                BeltColor.fromLabel(competitor.getBelbeltColor()),
+                competitor.getScores(),
+                competitor.getOverallScore());
+    }
+
+    /**
+     * Converts this competitor back to an {@link MRCompetitor}.
+     *
+     * @return a new {@link MRCompetitor} with the same details
+     */
+    public MRCompetitor toMRCompetitor() {
+        return new MRCompetitor(competitorID, getName(), getCompetitionLevel(),
+                gender == null ? null : gender.getLabel(),
+                beltColor == null ? null : beltColor.getLabel(),
+                getScores(), overallScore);
+    }
+
+    /**
+     * Parses a competition level such as {@code "3"} into its byte code.
+     *
+     * @param level the level text, possibly {@code null}
+     * @return the level code, or {@link #NO_LEVEL} if {@code level} is {@code null}
+     * @throws IllegalArgumentException if the level is not a number from 0 to {@link #MAX_LEVEL}
+     */
+    public static byte parseLevel(String level) {
+        if (level == null) {
+            return NO_LEVEL;
+        }
+        try {
+            int value = Integer.parseInt(level.trim());
+            if (value >= 0 && value <= MAX_LEVEL) {
+                return (byte) value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Unknown competition level: " + level);
+    }
+
+    /**
+     * Gets the competitor's unique ID.
+     *
+     * @return the competitor's ID
+     */
+    public int getCompetitorID() {
+        return competitorID;
+    }
+
+    /**
+     * Builds a {@link Name} from the stored name parts.
+     *
+     * @return a new {@link Name}
+     */
+    public Name getName() {
+        return new Name(firstName, middleName, lastName);
+    }
+
+    /**
+     * Gets the first name.
+     *
+     * @return the first name
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Gets the middle name.
+     *
+     * @return the middle name
+     */
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    /**
+     * Gets the last name.
+     *
+     * @return the last name
+     */
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * Gets the competition level code.
+     *
+     * @return the level from 0 to {@link #MAX_LEVEL}, or {@link #NO_LEVEL}
+     */
+    public byte getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the competition level as text, as stored in {@link MRCompetitor}.
+     *
+     * @return the level, or {@code null} if there is none
+     */
+    public String getCompetitionLevel() {
+        return level == NO_LEVEL ? null : Integer.toString(level);
+    }
+
+    /**
+     * Gets the gender.
+     *
+     * @return the gender
+     */
+    public Gender getGender() {
+        return gender;
+    }
+
+    /**
+     * Gets the belt color.
+     *
+     * @return the belt color
+     */
+    public BeltColor getBeltColor() {
+        return beltColor;
+    }
+
+    /**
+     * Gets one of the five scores.
+     *
+     * @param index the score index, from 0 to 4
+     * @return the score
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getScore(int index) {
+        switch (index) {
+            case 0: return score1;
+            case 1: return score2;
+            case 2: return score3;
+            case 3: return score4;
+            case 4: return score5;
+            default: throw new IndexOutOfBoundsException("Score index " + index);
+        }
+    }
+
+    /**
+     * Copies the five scores into a new array.
+     *
+     * @return the scores
+     */
+    public int[] getScores() {
+        return new int[] {score1, score2, score3, score4, score5};
+    }
+
+    /**
+     * Gets the overall score.
+     *
+     * @return the overall score
+     */
+    public double getOverallScore() {
+        return overallScore;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactCompetitor{id=" + competitorID + ", name=" + firstName + " " + lastName
+                + ", level=" + getCompetitionLevel() + ", gender=" + gender + ", belt=" + beltColor
+                + ", overall=" + overallScore + "}";
+    }
+}
@@ -0,0 +1,207 @@
+package Main;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * The {@code CompetitorCache} class is a bounded read-through cache of competitors
+ * keyed by competitor ID. A lookup that misses the cache loads the competitor through
+ * the supplied loader and keeps it for later lookups. Entries are dropped when the
+ * cache is full (least recently used first), when they are older than the time-to-live,
+ * or when they are invalidated after a write.
+ * <p>
+ * The cache keeps its own copy of every competitor and hands out a fresh copy on each
+ * lookup, so a caller editing a returned competitor, for example before an update that
+ * fails or is never saved, cannot change what later lookups see.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class CompetitorCache {
+
+    /**
+     * Default maximum number of cached competitors.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Default time a cached competitor stays valid.
+     */
+    public static final long DEFAULT_TTL_MILLIS = 60 * 1000;
+
+    /**
+     * A cached competitor and the time it was loaded.
+     */
+    private static class CachedCompetitor {
+        final MRCompetitor competitor;
+        final long loadedAt;
+
+        CachedCompetitor(MRCompetitor competitor, long loadedAt) {
+            this.competitor = competitor;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final IntFunction<MRCompetitor> loader;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<Integer, CachedCompetitor> entries;
+
+    /**
+     * Incremented by every invalidation, so a load that raced with a write is not cached.
+     */
+    private long invalidationCount;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * Constructs a {@code CompetitorCache}.
+     *
+     * @param loader loads a competitor by ID, returning {@code null} if it does not exist
+     * @param maxSize the maximum number of cached competitors
+     * @param ttlMillis how long a cached competitor stays valid, in milliseconds
+     */
+    public CompetitorCache(IntFunction<MRCompetitor> loader, int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.loader = loader;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<Integer, CachedCompetitor>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedCompetitor> eldest) {
+                if (size() > CompetitorCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a competitor by ID, loading it on a cache miss. Competitors that do not
+     * exist are not cached.
+     *
+     * @param competitorID the unique ID of the competitor
+     * @return the {@link MRCompetitor}, or {@code null} if not found
+     */
+    public MRCompetitor get(int competitorID) {
+        long version;
+        synchronized (this) {
+            CachedCompetitor entry = entries.get(competitorID);
+            if (entry != null) {
+                if (System.currentTimeMillis() - entry.loadedAt < ttlMillis) {
+                    hits++;
+                    return entry.competitor.copy();
+                }
+                entries.remove(competitorID);
+                expirations++;
+            }
+            misses++;
+            version = invalidationCount;
+        }
+
+        // Load outside the lock so a slow query does not block other lookups
+        MRCompetitor competitor = loader.apply(competitorID);
+
+        if (competitor != null) {
+            synchronized (this) {
+                if (version == invalidationCount) {
+                    entries.put(competitorID, new CachedCompetitor(competitor.copy(), System.currentTimeMillis()));
+                }
+            }
+        }
+        return competitor;
+    }
+
+    /**
+     * Removes a competitor from the cache, typically after it was added, updated or deleted.
+     *
+     * @param competitorID the unique ID of the competitor
+     */
+    public synchronized void invalidate(int competitorID) {
+        invalidationCount++;
+        entries.remove(competitorID);
+    }
+
+    /**
+     * Removes every competitor from the cache.
+     */
+    public synchronized void invalidateAll() {
+        invalidationCount++;
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of competitors currently cached.
+     *
+     * @return the cache size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to load the competitor.
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of competitors dropped because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of competitors dropped because they were older than the time-to-live.
+     *
+     * @return the number of expirations
+     */
+    public synchronized long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Gets the share of lookups served from the cache.
+     *
+     * @return the hit ratio between 0.0 and 1.0
+     */
+    public synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : hits / (double) lookups;
+    }
+
+    /**
+     * Returns a one-line summary of the cache statistics.
+     *
+     * @return a string describing the cache state
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("CompetitorCache[size=%d/%d, hits=%d, misses=%d, hitRatio=%.2f, evictions=%d, expirations=%d]",
+                entries.size(), maxSize, hits, misses, getHitRatio(), evictions, expirations);
+    }
+}
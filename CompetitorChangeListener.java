@@ -0,0 +1,36 @@
+package Main;
+
+/**
+ * The {@code CompetitorChangeListener} interface is implemented by in-memory views, such as
+ * leaderboards, that {@link Manager} keeps up to date on every write. A listener keeps its
+ * own copy of whatever it needs from each competitor, because the {@link MRCompetitor}
+ * passed in may be changed by the caller after the write.
+ * <p>
+ * Writes made directly against the repository, bypassing the {@code Manager}, are not seen.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public interface CompetitorChangeListener {
+
+    /**
+     * Called after a competitor has been added or updated. Any earlier version of the
+     * competitor with the same ID is replaced.
+     *
+     * @param competitor the competitor as it was written
+     */
+    void competitorSaved(MRCompetitor competitor);
+
+    /**
+     * Called after a competitor has been deleted. Unknown IDs are ignored.
+     *
+     * @param competitorID the ID of the deleted competitor
+     */
+    void competitorDeleted(int competitorID);
+
+    /**
+     * Forgets every competitor. Called before the listener is filled from storage, for
+     * example after a bulk import or rescoring run.
+     */
+    void clear();
+}
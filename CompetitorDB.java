@@ -1,16 +1,77 @@
 package Main;
 
+import java.io.IOException;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.ResultSet;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CompetitorDB {
 
-    private Connection connection;
+    /**
+     * JDBC URL of the competitors database.
+     */
+    private static final String DB_URL = "jdbc:mysql://localhost:3306/competitors" // Correct database name
+            + "?rewriteBatchedStatements=true" // Send JDBC batches as multi-row statements
+            + "&useCursorFetch=true" // Let setFetchSize use a server-side cursor
+            + "&useServerPrepStmts=true"; // Prepare statements on the server so cached statements skip re-parsing
+    //"jdbc:mysql://mi-linux.wlv.ac.uk/db2334768","2334768","agurkas"
+    private static final String DB_USER = "root"; // Your MySQL username
+    private static final String DB_PASSWORD = "";  // Your MySQL password
+
+    /**
+     * Maximum number of connections kept open by the pool.
+     */
+    private static final int POOL_SIZE = 8;
+
+    /**
+     * Idle connections are closed after this many milliseconds without use.
+     */
+    private static final long POOL_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+
+    /**
+     * How long a caller waits for a free connection before giving up.
+     */
+    private static final long POOL_BORROW_TIMEOUT_MILLIS = 10 * 1000;
+
+    /**
+     * The instance shared by the application, created on first use.
+     */
+    private static CompetitorDB sharedInstance;
+
+    /**
+     * Number of rows sent per batch and committed per transaction by default.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Number of rows fetched from the server cursor at a time when streaming.
+     */
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Every individual score as one row, used for frequency counts.
+     */
+    private static final String ALL_SCORES_SQL =
+            "SELECT score1 AS score FROM mrcompetitors UNION ALL " +
+            "SELECT score2 FROM mrcompetitors UNION ALL " +
+            "SELECT score3 FROM mrcompetitors UNION ALL " +
+            "SELECT score4 FROM mrcompetitors UNION ALL " +
+            "SELECT score5 FROM mrcompetitors";
+
+    private static final String INSERT_COMPETITOR_SQL = "INSERT INTO mrcompetitors (competitorID, firstName, middleName, lastName, CompetitionLevel, gender, BelbeltColort, score1, score2, score3, score4, score5, overallScore) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)";
+
+    private static final String UPDATE_OVERALL_SCORE_SQL = "UPDATE mrcompetitors SET overallScore=? WHERE competitorID=?";
+
+    private final ConnectionPool pool;
+
+    private final CompetitorIdAllocator idAllocator;
 
     /**
      * The {@code CompetitorDB} class manages the database operations for competitors.
@@ -22,36 +83,99 @@ public class CompetitorDB {
      * @since 2024
      */
     public CompetitorDB() {
-    	
+        this(DB_URL, DB_USER, DB_PASSWORD);
+    }
+
+    /**
+     * Constructs a {@code CompetitorDB} for another database, for example an embedded
+     * database in tests and benchmarks. The database must hold a {@code mrcompetitors}
+     * table in a schema named {@code competitors}.
+     * 
+     * @param url the JDBC URL
+     * @param user the database user
+     * @param password the user's password
+     */
+    public CompetitorDB(String url, String user, String password) {
+        pool = new ConnectionPool(url, user, password,
+                POOL_SIZE, POOL_IDLE_TIMEOUT_MILLIS, POOL_BORROW_TIMEOUT_MILLIS);
+        idAllocator = new CompetitorIdAllocator(pool, CompetitorIdAllocator.DEFAULT_BLOCK_SIZE);
+
+        // Open the first connection up front so configuration problems are reported at start-up
         try {
-            connection = DriverManager.getConnection(
-            		//"jdbc:mysql://mi-linux.wlv.ac.uk/db2334768","2334768","agurkas"
-                "jdbc:mysql://localhost:3306/competitors", // Correct database name
-                "root", // Your MySQL username
-                ""      // Your MySQL password
-            );
-           // System.out.println("Database connection successful!");
+            pool.borrow().close();
         } catch (SQLException e) {
             System.err.println("Failed to connect to the database. Please check your credentials and database server.");
             e.printStackTrace();
            
         }
     }
+
     /**
-     * Retrieves the database connection.
+     * Retrieves the {@code CompetitorDB} shared by the whole application, so that
+     * every caller draws from the same connection pool.
      * 
-     * @return the {@link Connection} object
+     * @return the shared {@code CompetitorDB} instance
      */
-    public Connection getConnection() {
-        return connection;
+    public static synchronized CompetitorDB getInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new CompetitorDB();
+        }
+        return sharedInstance;
     }
+
     /**
-     * Checks if the database connection is valid.
+     * Borrows a database connection from the pool. The caller must close the returned
+     * object, which gives the connection back to the pool.
+     * 
+     * @return a {@link PooledConnection} wrapping the JDBC connection
+     * @throws SQLException if no connection could be obtained
+     */
+    public PooledConnection getConnection() throws SQLException {
+        return pool.borrow();
+    }
+
+    /**
+     * Checks if the database connection is valid by running a validation query
+     * on a pooled connection.
      * 
      * @return {@code true} if the connection is valid, {@code false} otherwise
      */
     public boolean isConnectionValid() {
-        return connection != null;
+        return pool.isValid();
+    }
+
+    /**
+     * Retrieves the connection pool, mainly to inspect its metrics.
+     * 
+     * @return the {@link ConnectionPool} used by this object
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the number of statements served from the per-connection statement caches.
+     * 
+     * @return the number of statement cache hits
+     */
+    public long getStatementCacheHits() {
+        return pool.getStatementCacheHits();
+    }
+
+    /**
+     * Gets the number of statements that had to be prepared because they were not cached.
+     * 
+     * @return the number of statement cache misses
+     */
+    public long getStatementCacheMisses() {
+        return pool.getStatementCacheMisses();
+    }
+
+    /**
+     * Closes the connection pool and every idle connection.
+     */
+    public void close() {
+        pool.close();
     }
 
     /**
@@ -59,59 +183,232 @@ public class CompetitorDB {
      * 
      * @param competitors the {@link MRCompetitor} object containing competitor details
      * @param name the {@link Name} object representing the competitor's name
+     * @return {@code true} if the row was inserted, {@code false} if the insert failed
      */
-    public void addCompetitorDB(MRCompetitor competitors, Name name) {
-        if (!isConnectionValid()) {
-            System.err.println("Cannot add competitor: Database connection is null.");
-            return;
-        }
-
-        String sql_statement = "INSERT INTO mrcompetitors (competitorID, firstName, middleName, lastName, CompetitionLevel, gender, BelbeltColort, score1, score2, score3, score4, score5, overallScore) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)";
-
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
-            statement.setInt(1, competitors.getCompetitorID());
-            statement.setString(2, name.getFirstName());
-            statement.setString(3, name.getMiddleName());
-            statement.setString(4, name.getLastName());
-            statement.setString(5, competitors.getCompetitionLevel());
-            statement.setString(6, competitors.getgender());
-            statement.setString(7, competitors.getBelbeltColor());
-            statement.setInt(8, competitors.getScore1());
-            statement.setInt(9, competitors.getScore2());
-            statement.setInt(10, competitors.getScore3());
-            statement.setInt(11, competitors.getScore4());
-            statement.setInt(12, competitors.getScore5());
- 
-
-            double overallScore = competitors.getOverallScore();
+    public boolean addCompetitorDB(MRCompetitor competitors, Name name) {
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(INSERT_COMPETITOR_SQL);
+            double overallScore = bindInsert(statement, competitors, name);
             System.out.println("Computed Overall Score for Add: " + overallScore); // Debug
-            statement.setDouble(13, overallScore);
             statement.executeUpdate();
             
             
             System.out.println("Competitor added to the database.");
+            return true;
         } catch (SQLException e) {
             System.err.println("Error adding competitor: " + e.getMessage());
+            return false;
         }
     }
 
+    /**
+     * Adds many competitors to the database using JDBC batches of
+     * {@link #DEFAULT_BATCH_SIZE} rows.
+     * 
+     * @param competitors the competitors to add
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
+     */
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors) {
+        return addCompetitorsBatch(competitors, DEFAULT_BATCH_SIZE);
+    }
 
     /**
-     * Updates an existing competitor in the database.
+     * Adds many competitors to the database using JDBC batches. Each chunk of
+     * {@code batchSize} rows is sent in one batch and committed in its own transaction.
+     * If a chunk fails, whether the database rejects it or a row cannot be bound, it is
+     * rolled back and its rows are retried one at a time so that every failing row is
+     * reported individually and the valid rows are still stored.
      * 
-     * @param competitors the {@link MRCompetitor} object containing updated competitor details
+     * @param competitors the competitors to add
+     * @param batchSize the number of rows per batch and per transaction
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
      */
-    public void updateCompetitor(MRCompetitor competitors) {
-        if (!isConnectionValid()) {
-            System.err.println("Cannot update competitor: Database connection is null.");
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        BatchInsertResult result = new BatchInsertResult();
+        List<MRCompetitor> chunk = new ArrayList<>(Math.min(batchSize, competitors.size()));
+        int chunkStart = 0;
+
+        try (PooledConnection pooled = pool.borrow()) {
+            Connection connection = pooled.getConnection();
+            connection.setAutoCommit(false);
+            PreparedStatement statement = pooled.prepare(INSERT_COMPETITOR_SQL);
+            try {
+                // The statement is cached per connection, and clearParameters keeps queued rows
+                statement.clearBatch();
+                for (MRCompetitor competitor : competitors) {
+                    chunk.add(competitor);
+                    if (chunk.size() == batchSize) {
+                        insertChunk(connection, statement, chunk, chunkStart, result);
+                        chunkStart += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    insertChunk(connection, statement, chunk, chunkStart, result);
+                    chunkStart += chunk.size();
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Leaving auto-commit would commit the open transaction, so undo the failed chunk first
+                statement.clearBatch();
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error adding competitors in batch: " + e.getMessage());
+            // Every row that was not reached is reported as failed
+            int index = 0;
+            for (MRCompetitor competitor : competitors) {
+                if (index >= chunkStart) {
+                    result.addFailure(new BatchInsertResult.Failure(index, competitor.getCompetitorID(), e.getMessage()));
+                }
+                index++;
+            }
+        }
+        if (result.getInsertedCount() > 0) {
+            // The rows brought their own IDs, which may fall inside the block already reserved
+            idAllocator.discardBlock();
+        }
+        return result;
+    }
+
+    /**
+     * Sends one chunk as a batch inside a transaction, falling back to single-row
+     * inserts when the batch fails or a row cannot be bound, for example because it
+     * has no name.
+     * 
+     * @param connection the connection the chunk runs on, with auto-commit off
+     * @param statement the prepared insert statement
+     * @param chunk the competitors in this chunk
+     * @param chunkStart the index of the chunk's first row in the whole collection
+     * @param result the result that collects inserted rows and failures
+     * @throws SQLException if the transaction cannot be committed or rolled back
+     */
+    private void insertChunk(Connection connection, PreparedStatement statement, List<MRCompetitor> chunk,
+                             int chunkStart, BatchInsertResult result) throws SQLException {
+        try {
+            for (MRCompetitor competitor : chunk) {
+                bindInsert(statement, competitor, competitor.getName());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+            result.addInserted(chunk.size());
             return;
+        } catch (BatchUpdateException | RuntimeException e) {
+            connection.rollback();
+            statement.clearBatch();
+        }
+
+        // The batch was rejected as a whole: retry row by row to find the bad rows
+        for (int i = 0; i < chunk.size(); i++) {
+            MRCompetitor competitor = chunk.get(i);
+            try {
+                bindInsert(statement, competitor, competitor.getName());
+                statement.executeUpdate();
+                connection.commit();
+                result.addInserted(1);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                String message = e.getMessage() != null ? e.getMessage() : e.toString();
+                result.addFailure(new BatchInsertResult.Failure(chunkStart + i, competitor.getCompetitorID(), message));
+            }
         }
+    }
+
+    /**
+     * Binds a competitor's values to the parameters of the insert statement. The overall
+     * score is computed from the scores with the active {@link ScoringEngine}.
+     * 
+     * @param statement the insert statement
+     * @param competitors the competitor to bind
+     * @param name the competitor's name
+     * @return the overall score that was bound
+     * @throws SQLException if a parameter cannot be set
+     */
+    private double bindInsert(PreparedStatement statement, MRCompetitor competitors, Name name) throws SQLException {
+        statement.setInt(1, competitors.getCompetitorID());
+        statement.setString(2, name.getFirstName());
+        statement.setString(3, name.getMiddleName());
+        statement.setString(4, name.getLastName());
+        statement.setString(5, competitors.getCompetitionLevel());
+        statement.setString(6, competitors.getgender());
+        statement.setString(7, competitors.getBelbeltColor());
+        statement.setInt(8, competitors.getScore1());
+        statement.setInt(9, competitors.getScore2());
+        statement.setInt(10, competitors.getScore3());
+        statement.setInt(11, competitors.getScore4());
+        statement.setInt(12, competitors.getScore5());
+        double overallScore = ScoringEngine.getActive().score(competitors.getScores());
+        statement.setDouble(13, overallScore);
+        return overallScore;
+    }
 
+    /**
+     * Writes new overall scores for many competitors using JDBC batches. Each batch of
+     * {@code batchSize} rows is committed in its own transaction.
+     *
+     * @param competitorIDs the IDs of the competitors to update
+     * @param overallScores the new overall scores, matching {@code competitorIDs}
+     * @param count the number of entries to write from the start of both arrays
+     * @param batchSize the number of rows per batch and per transaction
+     * @return the number of rows written, or -1 if an error occurred
+     */
+    public int updateOverallScores(int[] competitorIDs, double[] overallScores, int count, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        int written = 0;
+        try (PooledConnection pooled = pool.borrow()) {
+            Connection connection = pooled.getConnection();
+            connection.setAutoCommit(false);
+            PreparedStatement statement = pooled.prepare(UPDATE_OVERALL_SCORE_SQL);
+            try {
+                statement.clearBatch();
+                for (int i = 0; i < count; i++) {
+                    statement.setDouble(1, overallScores[i]);
+                    statement.setInt(2, competitorIDs[i]);
+                    statement.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == count - 1) {
+                        statement.executeBatch();
+                        connection.commit();
+                        written = i + 1;
+                    }
+                }
+            } catch (SQLException e) {
+                statement.clearBatch();
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error updating overall scores after " + written + " rows: " + e.getMessage());
+            return -1;
+        }
+        return written;
+    }
+
+
+    /**
+     * Updates an existing competitor in the database.
+     * 
+     * @param competitors the {@link MRCompetitor} object containing updated competitor details
+     * @return {@code true} if a row was updated, {@code false} if none has the ID or the update failed
+     */
+    public boolean updateCompetitor(MRCompetitor competitors) {
         String sql_statement = "UPDATE competitors.mrcompetitors " +
                                "SET firstName=?, middleName=?, lastName=?, CompetitionLevel=?, gender=?, BelbeltColort=?, score1=?, score2=?, score3=?, score4=?, score5=?, overallScore=? " +
                                "WHERE competitorID=?";
 
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
             statement.setString(1, competitors.getName().getFirstName());
             statement.setString(2, competitors.getName().getMiddleName());
             statement.setString(3, competitors.getName().getLastName());
@@ -124,10 +421,10 @@ public class CompetitorDB {
             statement.setInt(10, competitors.getScore4());
             statement.setInt(11, competitors.getScore5());
            
-            double overallScore = competitors.getOverallScore();
+            double overallScore = ScoringEngine.getActive().score(competitors.getScores());
             System.out.println("Computed Overall Score for Update: " + overallScore); // Debug
 
-            statement.setDouble(12, competitors.getOverallScore());
+            statement.setDouble(12, overallScore);
             statement.setInt(13, competitors.getCompetitorID());
 
 
@@ -136,11 +433,13 @@ public class CompetitorDB {
             int rowsUpdated = statement.executeUpdate();
             if (rowsUpdated > 0) {
                 System.out.println("Competitor with ID " + competitors.getCompetitorID() + " updated successfully.");
-            } else {
-                System.out.println("No competitor found with ID " + competitors.getCompetitorID());
+                return true;
             }
+            System.out.println("No competitor found with ID " + competitors.getCompetitorID());
+            return false;
         } catch (SQLException e) {
             System.err.println("Error while updating competitor: " + e.getMessage());
+            return false;
         }
     }
 
@@ -148,22 +447,24 @@ public class CompetitorDB {
      * Deletes a competitor from the database by ID.
      * 
      * @param competitorID the unique ID of the competitor to delete
+     * @return {@code true} if a row was deleted, {@code false} if none has the ID or the delete failed
      */
-    public void deleteCompetitor(int competitorID) {
-        if (!isConnectionValid()) {
-            System.err.println("Cannot delete competitor: Database connection is null.");
-            return;
-        }
-
+    public boolean deleteCompetitor(int competitorID) {
         String sql_statement = "DELETE FROM competitors.mrcompetitors WHERE competitorID=?";
 
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
             statement.setInt(1, competitorID);
-            statement.executeUpdate();
+            if (statement.executeUpdate() == 0) {
+                System.out.println("No competitor found with ID " + competitorID);
+                return false;
+            }
 
             System.out.println("The competitor with ID " + competitorID + " was deleted from the database.");
+            return true;
         } catch (SQLException e) {
             System.err.println("Error while deleting competitor: " + e.getMessage());
+            return false;
         }
     }
     /**
@@ -175,29 +476,14 @@ public class CompetitorDB {
         String sql = "SELECT * FROM mrcompetitors";
         List<MRCompetitor> competitors = new ArrayList<>();
 
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            ResultSet rs = statement.executeQuery();
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
+            try (ResultSet rs = statement.executeQuery()) {
+                CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
 
-            while (rs.next()) {
-                int competitorID = rs.getInt("competitorID");
-                String firstName = rs.getString("firstName");
-                String middleName = rs.getString("middleName");
-                String lastName = rs.getString("lastName");
-                String competitionLevel = rs.getString("CompetitionLevel");
-                String gender = rs.getString("gender");
-                String beltColor = rs.getString("BelbeltColort");
-
-                int[] scores = new int[5];
-                scores[0] = rs.getInt("score1");
-                scores[1] = rs.getInt("score2");
-                scores[2] = rs.getInt("score3");
-                scores[3] = rs.getInt("score4");
-                scores[4] = rs.getInt("score5");
-
-                Name name = new Name(firstName, middleName, lastName);
-                MRCompetitor competitor = new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
-
-                competitors.add(competitor);
+                while (rs.next()) {
+                    competitors.add(mapper.map(rs));
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -206,6 +492,196 @@ public class CompetitorDB {
         return competitors;
     }
 
+    /**
+     * Streams all competitors from the database without loading the whole table.
+     * Rows are read through a server-side cursor {@link #STREAM_FETCH_SIZE} at a time,
+     * so memory use stays constant however large the table is. The stream holds a pooled
+     * connection until it is closed, so it must be used in a try-with-resources block.
+     * 
+     * @return a {@link Stream} of {@link MRCompetitor} objects, or an empty stream on error
+     */
+    public Stream<MRCompetitor> streamAllCompetitors() {
+        String sql = "SELECT * FROM mrcompetitors";
+        PooledConnection pooled = null;
+        PreparedStatement statement = null;
+        try {
+            pooled = pool.borrow();
+            statement = pooled.getConnection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            ResultSet rs = statement.executeQuery();
+            CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+
+            PooledConnection openConnection = pooled;
+            PreparedStatement openStatement = statement;
+            Spliterator<MRCompetitor> rows = new Spliterators.AbstractSpliterator<MRCompetitor>(
+                    Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super MRCompetitor> action) {
+                    try {
+                        if (!rs.next()) {
+                            return false;
+                        }
+                        action.accept(mapper.map(rs));
+                        return true;
+                    } catch (SQLException e) {
+                        System.err.println("Error streaming competitors: " + e.getMessage());
+                        return false;
+                    }
+                }
+            };
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                try {
+                    rs.close();
+                    openStatement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing competitor stream: " + e.getMessage());
+                } finally {
+                    openConnection.close();
+                }
+            });
+        } catch (SQLException e) {
+            System.err.println("Error streaming competitors: " + e.getMessage());
+            try {
+                if (statement != null) {
+                    statement.close();
+                }
+            } catch (SQLException ignored) {
+                // The statement is being discarded anyway
+            }
+            if (pooled != null) {
+                pooled.close();
+            }
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Passes every competitor in the database to the given callback, one row at a time,
+     * without loading the whole table into memory.
+     * 
+     * @param action the callback to run for each competitor
+     */
+    public void forEachCompetitor(Consumer<? super MRCompetitor> action) {
+        try (Stream<MRCompetitor> competitors = streamAllCompetitors()) {
+            competitors.forEach(action);
+        }
+    }
+
+    /**
+     * Passes every competitor whose ID lies in a range to the given callback, in ascending
+     * ID order. Rows are read through a server-side cursor, so ranges can be scanned in
+     * parallel on separate pooled connections.
+     *
+     * @param fromId the lowest ID to include
+     * @param toId the ID to stop before
+     * @param action the callback to run for each competitor
+     */
+    public void forEachCompetitorInRange(int fromId, int toId, Consumer<? super MRCompetitor> action) {
+        String sql = "SELECT * FROM mrcompetitors WHERE competitorID >= ? AND competitorID < ? ORDER BY competitorID";
+        try (PooledConnection pooled = pool.borrow();
+             PreparedStatement statement = pooled.getConnection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setInt(1, fromId);
+            statement.setInt(2, toId);
+            try (ResultSet rs = statement.executeQuery()) {
+                CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+                while (rs.next()) {
+                    action.accept(mapper.map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading competitors " + fromId + " to " + toId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves all competitors in their {@link CompactCompetitor} form. Rows are streamed
+     * and converted one at a time, and name parts are deduplicated across the roster.
+     * Rows whose level, gender or belt color is not one of the known values are reported
+     * and skipped.
+     *
+     * @return a {@link List} of {@link CompactCompetitor} objects
+     */
+    public List<CompactCompetitor> getAllCompactCompetitors() {
+        List<CompactCompetitor> competitors = new ArrayList<>();
+        StringDeduplicator strings = new StringDeduplicator();
+        forEachCompetitor(competitor -> {
+            try {
+                competitors.add(CompactCompetitor.from(competitor, strings));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error converting competitor " + competitor.getCompetitorID() + ": " + e.getMessage());
+            }
+        });
+        return competitors;
+    }
+
+    /**
+     * Adds many {@link CompactCompetitor} objects to the database using JDBC batches.
+     *
+     * @param competitors the competitors to add
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
+     * @see #addCompetitorsBatch(Collection, int)
+     */
+    public BatchInsertResult addCompactCompetitorsBatch(Collection<CompactCompetitor> competitors) {
+        List<MRCompetitor> converted = new ArrayList<>(competitors.size());
+        for (CompactCompetitor competitor : competitors) {
+            converted.add(competitor.toMRCompetitor());
+        }
+        return addCompetitorsBatch(converted, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Retrieves one page of competitors using keyset (seek) pagination. Instead of
+     * skipping rows with {@code OFFSET}, each page starts right after the last competitor
+     * of the previous page, so every page costs the same however deep the listing goes.
+     * Ordering by overall score benefits from an index on {@code (overallScore, competitorID)}.
+     * 
+     * @param afterId the ID of the last competitor on the previous page, or {@code null} for the first page
+     * @param afterScore the overall score of the last competitor on the previous page; only
+     *        used when ordering by overall score
+     * @param limit the maximum number of competitors to return
+     * @param sortKey the order of the listing
+     * @return a {@link List} of at most {@code limit} competitors, empty when there are no more
+     */
+    public List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey) {
+        String sql;
+        if (sortKey == CompetitorSortKey.OVERALL_SCORE) {
+            sql = afterId == null
+                    ? "SELECT * FROM mrcompetitors ORDER BY overallScore DESC, competitorID LIMIT ?"
+                    : "SELECT * FROM mrcompetitors " +
+                      "WHERE overallScore < ? OR (overallScore = ? AND competitorID > ?) " +
+                      "ORDER BY overallScore DESC, competitorID LIMIT ?";
+        } else {
+            sql = afterId == null
+                    ? "SELECT * FROM mrcompetitors ORDER BY competitorID LIMIT ?"
+                    : "SELECT * FROM mrcompetitors WHERE competitorID > ? ORDER BY competitorID LIMIT ?";
+        }
+
+        List<MRCompetitor> page = new ArrayList<>(limit);
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
+            int index = 1;
+            if (afterId != null) {
+                if (sortKey == CompetitorSortKey.OVERALL_SCORE) {
+                    statement.setDouble(index++, afterScore);
+                    statement.setDouble(index++, afterScore);
+                }
+                statement.setInt(index++, afterId);
+            }
+            statement.setInt(index, limit);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+                while (rs.next()) {
+                    page.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error fetching page of competitors: " + e.getMessage());
+        }
+        return page;
+    }
+
     /**
      * Retrieves a competitor by their ID from the database.
      * 
@@ -214,34 +690,15 @@ public class CompetitorDB {
      */
     public MRCompetitor getCompetitorsById(int competitorID) {
         String sql_statement = "SELECT * FROM mrcompetitors WHERE competitorID=?";
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
             statement.setInt(1, competitorID);
-            ResultSet rs = statement.executeQuery();
-
-            if (rs.next()) {
-                // Retrieve fields from the result set
-                String firstName = rs.getString("firstName");
-                String middleName = rs.getString("middleName");
-                String lastName = rs.getString("lastName");
-                String competitionLevel = rs.getString("CompetitionLevel");
-                String gender = rs.getString("gender");
-                String beltColor = rs.getString("BelbeltColort");
-                int score1 = rs.getInt("score1");
-                int score2 = rs.getInt("score2");
-                int score3 = rs.getInt("score3");
-                int score4 = rs.getInt("score4");
-                int score5 = rs.getInt("score5");
-
-                // Create Name object
-                Name name = new Name(firstName, middleName, lastName);
-
-                // Create Scores array
-                int[] scores = {score1, score2, score3, score4, score5};
-
-                // Construct and return the MRCompetitor object
-                return new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
-            } else {
-                System.out.println("No competitor found with ID: " + competitorID);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    return new CompetitorRowMapper(rs).map(rs);
+                } else {
+                    System.out.println("No competitor found with ID: " + competitorID);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error fetching competitor by ID: " + e.getMessage());
@@ -257,31 +714,12 @@ public class CompetitorDB {
      */
     public MRCompetitor getTopPerformer() {
         String sql_statement = "SELECT * FROM competitors.mrcompetitors ORDER BY overallScore DESC LIMIT 1";
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
-            ResultSet rs = statement.executeQuery();
-            if (rs.next()) {
-                int competitorID = rs.getInt("competitorID");
-                String firstName = rs.getString("firstName");
-                String middleName = rs.getString("middleName");
-                String lastName = rs.getString("lastName");
-                String competitionLevel = rs.getString("CompetitionLevel");
-                String gender = rs.getString("gender");
-                String beltColor = rs.getString("BelbeltColort");
-
-                int[] scores = new int[5];
-                scores[0] = rs.getInt("score1");
-                scores[1] = rs.getInt("score2");
-                scores[2] = rs.getInt("score3");
-                scores[3] = rs.getInt("score4");
-                scores[4] = rs.getInt("score5");
-
-                double overallScore = rs.getDouble("overallScore");
-
-                Name name = new Name(firstName, middleName, lastName);
-                
-                
-                MRCompetitor competitor = new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
-                return competitor;
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    return new CompetitorRowMapper(rs).map(rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving top performer: " + e.getMessage());
@@ -295,20 +733,13 @@ public class CompetitorDB {
      * @return a {@link Map} where the key is the score and the value is its frequency
      */
     public Map<Integer, Integer> getScoreFrequency() {
-        Map<Integer, Integer> frequencyMap = new HashMap<>();
-        String sql_statement = "SELECT score1, score2, score3, score4, score5 FROM competitors.mrcompetitors";
-        try (PreparedStatement statement = connection.prepareStatement(sql_statement)) {
-            ResultSet rs = statement.executeQuery();
-            while (rs.next()) {
-                int[] scores = new int[5];
-                scores[0] = rs.getInt("score1");
-                scores[1] = rs.getInt("score2");
-                scores[2] = rs.getInt("score3");
-                scores[3] = rs.getInt("score4");
-                scores[4] = rs.getInt("score5");
-
-                for (int score : scores) {
-                    frequencyMap.put(score, frequencyMap.getOrDefault(score, 0) + 1);
+        Map<Integer, Integer> frequencyMap = new TreeMap<>();
+        String sql_statement = "SELECT score, COUNT(*) AS frequency FROM (" + ALL_SCORES_SQL + ") scores GROUP BY score";
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    frequencyMap.put(rs.getInt(1), rs.getInt(2));
                 }
             }
         } catch (SQLException e) {
@@ -316,6 +747,98 @@ public class CompetitorDB {
         }
         return frequencyMap;
     }
+
+    /**
+     * Counts the frequency of scores in the database and returns it as a dense
+     * {@link ScoreHistogram}, without boxing a map entry per score.
+     * 
+     * @return the histogram of all individual scores
+     */
+    public ScoreHistogram getScoreHistogram() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        String sql_statement = "SELECT score, COUNT(*) AS frequency FROM (" + ALL_SCORES_SQL + ") scores GROUP BY score";
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql_statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    histogram.add(rs.getInt(1), rs.getInt(2));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error calculating score histogram: " + e.getMessage());
+        }
+        return histogram;
+    }
+
+    /**
+     * Computes exact distribution figures for the overall scores. Only the
+     * {@code overallScore} column is read, through a server-side cursor, into a
+     * primitive array.
+     * 
+     * @return the {@link OverallScoreStatistics}
+     */
+    public OverallScoreStatistics getOverallScoreStatistics() {
+        double[] scores = new double[1024];
+        int count = 0;
+        String sql = "SELECT overallScore FROM mrcompetitors";
+        try (PooledConnection pooled = pool.borrow();
+             PreparedStatement statement = pooled.getConnection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (count == scores.length) {
+                        scores = Arrays.copyOf(scores, count * 2);
+                    }
+                    scores[count++] = rs.getDouble(1);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error reading overall scores: " + e.getMessage());
+        }
+        return OverallScoreStatistics.of(scores, count);
+    }
+
+    /**
+     * Computes the statistical summary in the database with a single query: the number
+     * of competitors, the highest overall score, the frequency of each individual score,
+     * and the count and average overall score per competition level. Only the aggregated
+     * rows are sent back, so the cost does not grow with the number of competitors.
+     * 
+     * @return a {@link ScoreSummary}, empty if an error occurs
+     */
+    public ScoreSummary getStatisticalSummary() {
+        ScoreSummary summary = new ScoreSummary();
+        String sql = "SELECT 'S' AS kind, CAST(score AS CHAR) AS label, COUNT(*) AS total, NULL AS value " +
+                     "FROM (" + ALL_SCORES_SQL + ") scores GROUP BY score " +
+                     "UNION ALL " +
+                     "SELECT 'L', CompetitionLevel, COUNT(*), AVG(overallScore) FROM mrcompetitors GROUP BY CompetitionLevel " +
+                     "UNION ALL " +
+                     "SELECT 'T', NULL, COUNT(*), MAX(overallScore) FROM mrcompetitors";
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    switch (rs.getString(1)) {
+                        case "S":
+                            summary.putScoreFrequency(Integer.parseInt(rs.getString(2)), rs.getInt(3));
+                            break;
+                        case "L":
+                            String level = rs.getString(2);
+                            summary.putLevel(level == null ? "Unknown" : level, rs.getInt(3), rs.getDouble(4));
+                            break;
+                        default:
+                            summary.setTotalCompetitors(rs.getInt(3));
+                            summary.setMaxOverallScore(rs.getDouble(4));
+                            break;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error calculating statistical summary: " + e.getMessage());
+        }
+        return summary;
+    }
+
     /**
      * Retrieves the total number of competitors in the database.
      * 
@@ -323,49 +846,78 @@ public class CompetitorDB {
      */
     public int getTotalNumberOfCompetitors() {
         String sql = "SELECT COUNT(*) AS total FROM mrcompetitors";
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            ResultSet rs = statement.executeQuery();
-            if (rs.next()) {
-                return rs.getInt("total");
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("total");
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving total number of competitors: " + e.getMessage());
         }
         return 0; // Return 0 if an error occurs
     }
+
+    /**
+     * Streams the competitor table, in ascending ID order, straight from a server-side
+     * cursor into a report writer. Only the columns shown in the table are read and no
+     * {@link MRCompetitor} objects are built, so memory use stays constant however large
+     * the table is.
+     *
+     * @param writer the report writer that formats the rows
+     * @throws IOException if writing to the report fails
+     */
+    public void writeCompetitorTable(CompetitorReportWriter writer) throws IOException {
+        String sql = "SELECT competitorID, firstName, middleName, lastName, CompetitionLevel, score1, score2, score3, score4, score5, overallScore FROM mrcompetitors ORDER BY competitorID";
+        try (PooledConnection pooled = pool.borrow();
+             PreparedStatement statement = pooled.getConnection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            try (ResultSet rs = statement.executeQuery()) {
+                CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+                while (rs.next()) {
+                    writer.writeRow(mapper.readId(rs), mapper.readFirstName(rs), mapper.readMiddleName(rs),
+                            mapper.readLastName(rs), mapper.readCompetitionLevel(rs), mapper.readScores(rs),
+                            mapper.readOverallScore(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error writing competitor table: " + e.getMessage());
+        }
+    }
+
     /**
      * Retrieves a table of competitor details from the database.
-     * 
+     *
      * @return a {@link List} of strings representing rows of competitor data
+     * @deprecated builds the whole table in memory; use {@link #writeCompetitorTable(CompetitorReportWriter)}
      */
+    @Deprecated
     public List<String> getCompetitorTable() {
         List<String> tableRows = new ArrayList<>();
         String sql = "SELECT competitorID, firstName, lastName, CompetitionLevel, score1, score2, score3, score4, score5, overallScore FROM mrcompetitors";
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            ResultSet rs = statement.executeQuery();
-            while (rs.next()) {
-                int competitorID = rs.getInt("competitorID");
-                String firstName = rs.getString("firstName");
-                String lastName = rs.getString("lastName");
-                String level = rs.getString("CompetitionLevel");
-                int[] scores = {
-                    rs.getInt("score1"),
-                    rs.getInt("score2"),
-                    rs.getInt("score3"),
-                    rs.getInt("score4"),
-                    rs.getInt("score5")
-                };
-                double overallScore = rs.getDouble("overallScore");
-
-                String row = String.format(
-                    "%-10d %-15s %-10s %-10s %-15s %-5.2f",
-                    competitorID,
-                    firstName + " " + lastName,
-                    level,
-                    Arrays.toString(scores),
-                    overallScore
-                );
-                tableRows.add(row);
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
+            try (ResultSet rs = statement.executeQuery()) {
+                CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+                while (rs.next()) {
+                    int competitorID = mapper.readId(rs);
+                    String firstName = mapper.readFirstName(rs);
+                    String lastName = mapper.readLastName(rs);
+                    String level = mapper.readCompetitionLevel(rs);
+                    int[] scores = mapper.readScores(rs);
+                    double overallScore = mapper.readOverallScore(rs);
+
+                    String row = String.format(
+                        "%-10d %-15s %-10s %-10s %-15s %-5.2f",
+                        competitorID,
+                        firstName + " " + lastName,
+                        level,
+                        Arrays.toString(scores),
+                        overallScore
+                    );
+                    tableRows.add(row);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error fetching competitor table: " + e.getMessage());
@@ -380,14 +932,17 @@ public class CompetitorDB {
      */
     public String getCompetitorDetails(int competitorID) {
         String sql = "SELECT * FROM mrcompetitors WHERE competitorID=?";
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sql);
             statement.setInt(1, competitorID);
-            ResultSet rs = statement.executeQuery();
-            if (rs.next()) {
-                return "Competitor ID: " + rs.getInt("competitorID") +
-                       ", Name: " + rs.getString("firstName") + " " + rs.getString("lastName") +
-                       ", Level: " + rs.getString("CompetitionLevel") +
-                       ", Overall Score: " + rs.getDouble("overallScore");
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+                    return "Competitor ID: " + mapper.readId(rs) +
+                           ", Name: " + mapper.readFirstName(rs) + " " + mapper.readLastName(rs) +
+                           ", Level: " + mapper.readCompetitionLevel(rs) +
+                           ", Overall Score: " + mapper.readOverallScore(rs);
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error fetching competitor details: " + e.getMessage());
@@ -401,19 +956,15 @@ public class CompetitorDB {
      * @return a string containing last number from database, or an error message if not found
      */
     public int getMaxCompetitorID() {
-        if (!isConnectionValid()) {
-            System.err.println("Cannot fetch maximum competitor ID: Database connection is null.");
-            return -1; // Return a sentinel value indicating an error
-        }
-
         int maxCompetitorID = 0; // Default value if no ID exists in the database
         String sqlStatement = "SELECT MAX(competitorID) AS max_id FROM mrcompetitors";
 
-        try (PreparedStatement statement = connection.prepareStatement(sqlStatement);
-             ResultSet resultSet = statement.executeQuery()) {
-            
-            if (resultSet.next()) {
-                maxCompetitorID = resultSet.getInt("max_id");
+        try (PooledConnection pooled = pool.borrow()) {
+            PreparedStatement statement = pooled.prepare(sqlStatement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    maxCompetitorID = resultSet.getInt("max_id");
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error fetching maximum competitor ID: " + e.getMessage());
@@ -423,14 +974,31 @@ public class CompetitorDB {
     }
     
     
+    /**
+     * Allocates a new competitor ID that no other caller will receive, without a
+     * database round trip in most cases.
+     * 
+     * @return a new competitor ID, or -1 if no ID could be reserved
+     */
+    public int nextCompetitorID() {
+        try {
+            return idAllocator.nextId();
+        } catch (SQLException e) {
+            System.err.println("Error allocating competitor ID: " + e.getMessage());
+            return -1;
+        }
+    }
+
     /**
      * stores details of a max number of the competitorID from database.
      * 
      * @return a string containing last number from database.
+     * @deprecated {@code MAX(competitorID) + 1} races between concurrent clients;
+     *             use {@link #nextCompetitorID()} to get a new ID instead
      */
+    @Deprecated
     public static int fetchMaxCompetitorID() {
-        CompetitorDB competitorDB = new CompetitorDB(); // Create an instance of the class
-        return competitorDB.getMaxCompetitorID(); // Call the non-static method
+        return getInstance().getMaxCompetitorID(); // Reuse the shared pool instead of opening a new connection
     }
 } 
 
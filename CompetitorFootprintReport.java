@@ -0,0 +1,112 @@
+package Main;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The {@code CompetitorFootprintReport} class measures how many heap bytes one
+ * competitor takes as an {@link MRCompetitor} and as a {@link CompactCompetitor}. It
+ * builds a synthetic roster in each form, with names drawn from a small pool and copied
+ * the way a JDBC driver would return them, and compares the used heap before and after.
+ * <p>
+ * Run it with {@code java Main.CompetitorFootprintReport [competitors]}. The numbers are
+ * estimates from {@link Runtime} and vary with the JVM and its settings, for example
+ * compressed object pointers.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class CompetitorFootprintReport {
+
+    private static final int DEFAULT_COMPETITORS = 200_000;
+
+    private static final String[] FIRST_NAMES = {"Ana", "Ben", "Carla", "Dmitri", "Eva", "Farid", "Grace", "Hugo",
+            "Ines", "Jonas", "Kai", "Lena", "Marco", "Nadia", "Oscar", "Petra"};
+    private static final String[] LAST_NAMES = {"Silva", "Kowalski", "Nguyen", "Smith", "Garcia", "Muller",
+            "Rossi", "Tanaka", "Kim", "Novak", "Dubois", "Jensen"};
+    private static final String[] GENDERS = {"Male", "Female"};
+    private static final String[] BELT_COLORS = {"White", "Yellow", "Blue", "Purple", "Brown", "Black"};
+
+    /**
+     * Prints the bytes-per-competitor report.
+     *
+     * @param args optionally, the number of competitors to build
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMPETITORS;
+
+        double mrBytes = measure(count, false);
+        double compactBytes = measure(count, true);
+
+        System.out.println("Competitor heap footprint (" + count + " competitors)");
+        System.out.printf("  %-20s %8.1f bytes/competitor%n", "MRCompetitor", mrBytes);
+        System.out.printf("  %-20s %8.1f bytes/competitor%n", "CompactCompetitor", compactBytes);
+        System.out.printf("  %-20s %8.1f%%%n", "Compact / original", 100.0 * compactBytes / mrBytes);
+    }
+
+    /**
+     * Builds a roster in one form and measures the heap it retains.
+     *
+     * @param count the number of competitors
+     * @param compact {@code true} to build {@link CompactCompetitor} objects
+     * @return the retained heap divided by {@code count}
+     */
+    static double measure(int count, boolean compact) {
+        Random random = new Random(42);
+        long before = usedHeap();
+        List<Object> roster = new ArrayList<>(count);
+        StringDeduplicator strings = new StringDeduplicator();
+        for (int i = 0; i < count; i++) {
+            MRCompetitor competitor = randomCompetitor(i + 1, random);
+            roster.add(compact ? CompactCompetitor.from(competitor, strings) : competitor);
+        }
+        long after = usedHeap();
+        Reference.reachabilityFence(roster);
+        Reference.reachabilityFence(strings);
+        return (after - before) / (double) count;
+    }
+
+    /**
+     * Builds a competitor with fresh string copies, as if it had been read from the database.
+     *
+     * @param id the competitor ID
+     * @param random the source of random values
+     * @return a new {@link MRCompetitor}
+     */
+    private static MRCompetitor randomCompetitor(int id, Random random) {
+        int[] scores = new int[CompetitorRowMapper.SCORE_COLUMNS];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(6);
+        }
+        Name name = new Name(new String(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]), null,
+                new String(LAST_NAMES[random.nextInt(LAST_NAMES.length)]));
+        MRCompetitor competitor = new MRCompetitor(id, name, Integer.toString(1 + random.nextInt(5)),
+                new String(GENDERS[random.nextInt(GENDERS.length)]),
+                new String(BELT_COLORS[random.nextInt(BELT_COLORS.length)]), scores);
+        competitor.getOverallScore();
+        return competitor;
+    }
+
+    /**
+     * Gets the used heap after asking the JVM to collect garbage.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,168 @@
+package Main;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The {@code CompetitorIdAllocator} class hands out new competitor IDs using the
+ * hi/lo pattern. It reserves a block of IDs at a time from a sequence table in the
+ * database and then serves IDs from memory until the block is used up, so most
+ * inserts need no database round trip to get an ID.
+ * <p>
+ * Blocks are reserved under a row lock, so several clients, and several threads in
+ * one client, never receive the same ID. IDs left in a block when the application
+ * stops are not reused, which leaves gaps in the numbering. A new block never starts
+ * at or below the highest ID in the table, so rows inserted with their own IDs, for
+ * example by a roster import, are skipped over.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class CompetitorIdAllocator {
+
+    /**
+     * Default number of IDs reserved per database round trip.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 50;
+
+    private static final String SEQUENCE_NAME = "mrcompetitors.competitorID";
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS id_sequences (" +
+            "name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+            "next_value INT NOT NULL)";
+
+    /**
+     * Starts the sequence after the highest existing ID the first time it is used.
+     */
+    private static final String SEED_SQL =
+            "INSERT IGNORE INTO id_sequences (name, next_value) " +
+            "SELECT ?, COALESCE(MAX(competitorID), 0) + 1 FROM mrcompetitors";
+
+    private static final String LOCK_SQL = "SELECT next_value FROM id_sequences WHERE name=? FOR UPDATE";
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(competitorID), 0) + 1 FROM mrcompetitors";
+
+    private static final String ADVANCE_SQL = "UPDATE id_sequences SET next_value = ? WHERE name=?";
+
+    private final ConnectionPool pool;
+    private final int blockSize;
+
+    /**
+     * The next ID to hand out from the current block.
+     */
+    private int next;
+
+    /**
+     * The first ID beyond the current block.
+     */
+    private int limit;
+
+    private boolean sequenceReady;
+
+    /**
+     * Constructs a {@code CompetitorIdAllocator} that reserves blocks through the given pool.
+     *
+     * @param pool the connection pool used to reserve blocks
+     * @param blockSize the number of IDs reserved at a time
+     */
+    public CompetitorIdAllocator(ConnectionPool pool, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.pool = pool;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns a new, unused competitor ID. Only reaches the database when the
+     * current block is exhausted.
+     *
+     * @return the next competitor ID
+     * @throws SQLException if a new block could not be reserved
+     */
+    public synchronized int nextId() throws SQLException {
+        if (next >= limit) {
+            reserveBlock();
+        }
+        return next++;
+    }
+
+    /**
+     * Reserves the next block of IDs from the sequence table.
+     *
+     * @throws SQLException if the sequence table cannot be read or updated
+     */
+    private void reserveBlock() throws SQLException {
+        try (PooledConnection pooled = pool.borrow()) {
+            Connection connection = pooled.getConnection();
+            if (!sequenceReady) {
+                // DDL commits implicitly in MySQL, so it has to run outside the transaction below
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_TABLE_SQL);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(SEED_SQL)) {
+                    statement.setString(1, SEQUENCE_NAME);
+                    statement.executeUpdate();
+                }
+                sequenceReady = true;
+            }
+
+            connection.setAutoCommit(false);
+            try {
+                int start;
+                try (PreparedStatement statement = connection.prepareStatement(LOCK_SQL)) {
+                    statement.setString(1, SEQUENCE_NAME);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException("Sequence " + SEQUENCE_NAME + " is missing from id_sequences");
+                        }
+                        start = rs.getInt(1);
+                    }
+                }
+                // Rows inserted with explicit IDs do not move the sequence, so never start below them
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(MAX_ID_SQL)) {
+                    if (rs.next()) {
+                        start = Math.max(start, rs.getInt(1));
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(ADVANCE_SQL)) {
+                    statement.setInt(1, start + blockSize);
+                    statement.setString(2, SEQUENCE_NAME);
+                    statement.executeUpdate();
+                }
+                connection.commit();
+
+                next = start;
+                limit = start + blockSize;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Drops the rest of the current block, so the next ID comes from a freshly reserved
+     * block that starts above the highest ID in the table. Call it after inserting rows
+     * that carry their own IDs.
+     */
+    public synchronized void discardBlock() {
+        next = limit;
+    }
+
+    /**
+     * Gets the number of IDs reserved per database round trip.
+     *
+     * @return the block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+}
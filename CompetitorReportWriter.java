@@ -0,0 +1,199 @@
+package Main;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The {@code CompetitorReportWriter} class renders the comprehensive competitor table to
+ * any {@link Appendable}, such as a buffered file {@link java.io.Writer} or
+ * {@code System.out}. Rows are written one at a time as they arrive, so a table of any
+ * size is rendered in constant memory.
+ * <p>
+ * Each row is assembled in one reused {@link StringBuilder} with fixed column widths and
+ * appended to the output in a single call. No format strings, regular expressions or
+ * temporary strings are used per row, and the overall score is written with two decimals
+ * without going through {@link String#format}. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class CompetitorReportWriter {
+
+    private static final int ID_WIDTH = 10;
+    private static final int NAME_WIDTH = 20;
+    private static final int LEVEL_WIDTH = 15;
+    private static final int SCORES_WIDTH = 25;
+
+    private static final String SPACES = "                                                  ";
+
+    private static final String HEADER = pad("ID", ID_WIDTH) + " " + pad("Name", NAME_WIDTH) + " "
+            + pad("Level", LEVEL_WIDTH) + " " + pad("Scores", SCORES_WIDTH) + " Overall\n"
+            + "----------------------------------------------------------------------------\n";
+
+    private final Appendable out;
+    private final StringBuilder line = new StringBuilder(128);
+    private long rowsWritten;
+
+    /**
+     * Constructs a {@code CompetitorReportWriter} that writes to the given output.
+     *
+     * @param out where the table is written; wrap files in a {@link java.io.BufferedWriter}
+     */
+    public CompetitorReportWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the column headings and the separator line.
+     *
+     * @throws IOException if writing fails
+     */
+    public void writeHeader() throws IOException {
+        out.append(HEADER);
+    }
+
+    /**
+     * Writes one competitor as a table row.
+     *
+     * @param competitor the competitor to write
+     * @throws IOException if writing fails
+     */
+    public void writeRow(MRCompetitor competitor) throws IOException {
+        Name name = competitor.getName();
+        writeRow(competitor.getCompetitorID(),
+                name == null ? null : name.getFirstName(),
+                name == null ? null : name.getMiddleName(),
+                name == null ? null : name.getLastName(),
+                competitor.getCompetitionLevel(), competitor.getScores(), competitor.getOverallScore());
+    }
+
+    /**
+     * Writes one table row from raw column values, so rows read from the database do not
+     * need to be turned into {@link MRCompetitor} objects first.
+     *
+     * @param competitorID the competitor ID
+     * @param firstName the first name
+     * @param middleName the middle name, or {@code null}
+     * @param lastName the last name
+     * @param level the competition level
+     * @param scores the scores
+     * @param overallScore the overall score
+     * @throws IOException if writing fails
+     */
+    public void writeRow(int competitorID, String firstName, String middleName, String lastName,
+                         String level, int[] scores, double overallScore) throws IOException {
+        line.setLength(0);
+
+        int start = line.length();
+        line.append(competitorID);
+        padTo(start, ID_WIDTH);
+
+        start = line.length();
+        line.append(firstName).append(' ');
+        if (middleName != null && !middleName.isEmpty()) {
+            line.append(middleName).append(' ');
+        }
+        line.append(lastName);
+        padTo(start, NAME_WIDTH);
+
+        start = line.length();
+        line.append(level);
+        padTo(start, LEVEL_WIDTH);
+
+        start = line.length();
+        if (scores != null) {
+            for (int i = 0; i < scores.length; i++) {
+                if (i > 0) {
+                    line.append(", ");
+                }
+                line.append(scores[i]);
+            }
+        }
+        padTo(start, SCORES_WIDTH);
+
+        appendTwoDecimals(overallScore);
+        line.append('\n');
+
+        out.append(line);
+        rowsWritten++;
+    }
+
+    /**
+     * Flushes the output if it supports flushing.
+     *
+     * @throws IOException if flushing fails
+     */
+    public void flush() throws IOException {
+        if (out instanceof Flushable) {
+            ((Flushable) out).flush();
+        }
+    }
+
+    /**
+     * Gets the number of rows written so far.
+     *
+     * @return the row count
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Pads the current column with spaces and adds the column separator.
+     *
+     * @param start the position in the line where the column began
+     * @param width the column width
+     */
+    private void padTo(int start, int width) {
+        int padding = width - (line.length() - start);
+        while (padding > 0) {
+            int chunk = Math.min(padding, SPACES.length());
+            line.append(SPACES, 0, chunk);
+            padding -= chunk;
+        }
+        line.append(' ');
+    }
+
+    /**
+     * Appends a number rounded to two decimal places, as {@code %.2f} would. Like
+     * {@code %.2f}, halves are rounded away from zero in the shortest decimal form of the
+     * number, so 2.675 becomes 2.68 even though the nearest double is slightly below it.
+     *
+     * @param value the number
+     */
+    private void appendTwoDecimals(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= 1e15) {
+            line.append(String.format("%.2f", value));
+            return;
+        }
+        double scaled = Math.abs(value) * 100;
+        long hundredths = Math.round(scaled);
+        if (Math.abs(scaled - Math.floor(scaled) - 0.5) < 1e-6) {
+            // Near a half the binary product can land on either side, so round the decimal form
+            hundredths = BigDecimal.valueOf(Math.abs(value)).movePointRight(2)
+                    .setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+        if (value < 0 || 1 / value < 0) {
+            line.append('-');
+        }
+        line.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    /**
+     * Pads a heading to a column width.
+     *
+     * @param text the heading
+     * @param width the column width
+     * @return the padded heading
+     */
+    private static String pad(String text, int width) {
+        return text + SPACES.substring(0, Math.max(0, width - text.length()));
+    }
+}
@@ -0,0 +1,217 @@
+package Main;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code CompetitorRepository} interface describes where competitors are stored.
+ * {@link Manager} works only through this interface, so the same application can run
+ * against MySQL ({@link JdbcCompetitorRepository}), entirely in memory
+ * ({@link InMemoryCompetitorRepository}) or on a local memory-mapped file
+ * ({@link MappedFileCompetitorRepository}).
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public interface CompetitorRepository extends AutoCloseable {
+
+    /**
+     * Allocates a new, unique competitor ID.
+     *
+     * @return a new competitor ID, or -1 if no ID could be allocated
+     */
+    int nextCompetitorID();
+
+    /**
+     * Adds a competitor.
+     *
+     * @param competitor the competitor to add
+     * @return {@code true} if the competitor was stored, {@code false} if it was not, for
+     *         example because its ID is already taken
+     */
+    boolean addCompetitor(MRCompetitor competitor);
+
+    /**
+     * Adds many competitors, reporting every row that could not be added.
+     *
+     * @param competitors the competitors to add
+     * @param batchSize the number of rows written together
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
+     */
+    BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors, int batchSize);
+
+    /**
+     * Updates an existing competitor.
+     *
+     * @param competitor the competitor with updated details
+     * @return {@code true} if the competitor was stored, {@code false} if no competitor has
+     *         its ID or the write failed
+     */
+    boolean updateCompetitor(MRCompetitor competitor);
+
+    /**
+     * Deletes a competitor by ID.
+     *
+     * @param competitorID the unique ID of the competitor to delete
+     * @return {@code true} if a competitor was deleted, {@code false} if none has that ID
+     *         or the write failed
+     */
+    boolean deleteCompetitor(int competitorID);
+
+    /**
+     * Retrieves a competitor by ID.
+     *
+     * @param competitorID the unique ID of the competitor
+     * @return the {@link MRCompetitor}, or {@code null} if not found
+     */
+    MRCompetitor getCompetitorsById(int competitorID);
+
+    /**
+     * Retrieves all competitors.
+     *
+     * @return a {@link List} of all competitors
+     */
+    List<MRCompetitor> getAllCompetitors();
+
+    /**
+     * Retrieves one page of competitors, starting after the given competitor. When ordering
+     * by overall score, the previous page's last score and ID together form the seek key, so
+     * the page does not depend on that competitor still existing or keeping its score.
+     *
+     * @param afterId the ID of the last competitor on the previous page, or {@code null} for the first page
+     * @param afterScore the overall score of the last competitor on the previous page; only
+     *        used when ordering by overall score
+     * @param limit the maximum number of competitors to return
+     * @param sortKey the order of the listing
+     * @return a {@link List} of at most {@code limit} competitors
+     */
+    List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey);
+
+    /**
+     * Streams all competitors. The stream may hold resources and must be closed after use.
+     *
+     * @return a {@link Stream} of all competitors
+     */
+    Stream<MRCompetitor> streamAllCompetitors();
+
+    /**
+     * Passes every competitor to the given callback.
+     *
+     * @param action the callback to run for each competitor
+     */
+    void forEachCompetitor(Consumer<? super MRCompetitor> action);
+
+    /**
+     * Passes every competitor whose ID lies in a range to the given callback, in
+     * ascending ID order. Different ranges may be scanned concurrently.
+     *
+     * @param fromId the lowest ID to include
+     * @param toId the ID to stop before
+     * @param action the callback to run for each competitor
+     */
+    default void forEachCompetitorInRange(int fromId, int toId, Consumer<? super MRCompetitor> action) {
+        Integer afterId = fromId == Integer.MIN_VALUE ? null : fromId - 1;
+        List<MRCompetitor> page;
+        while (!(page = getCompetitorsPage(afterId, 0, CompetitorDB.DEFAULT_BATCH_SIZE, CompetitorSortKey.COMPETITOR_ID)).isEmpty()) {
+            for (MRCompetitor competitor : page) {
+                if (competitor.getCompetitorID() >= toId) {
+                    return;
+                }
+                action.accept(competitor);
+            }
+            afterId = page.get(page.size() - 1).getCompetitorID();
+        }
+    }
+
+    /**
+     * Gets the highest competitor ID in use.
+     *
+     * @return the highest ID, or 0 if there are no competitors
+     */
+    int getMaxCompetitorID();
+
+    /**
+     * Writes every competitor as a row of the competitor table, in ascending ID order.
+     * Rows are streamed to the writer one at a time.
+     *
+     * @param writer the report writer that formats the rows
+     * @throws IOException if writing fails
+     */
+    default void writeCompetitorTable(CompetitorReportWriter writer) throws IOException {
+        Integer afterId = null;
+        List<MRCompetitor> page;
+        while (!(page = getCompetitorsPage(afterId, 0, CompetitorDB.DEFAULT_BATCH_SIZE, CompetitorSortKey.COMPETITOR_ID)).isEmpty()) {
+            for (MRCompetitor competitor : page) {
+                writer.writeRow(competitor);
+            }
+            afterId = page.get(page.size() - 1).getCompetitorID();
+        }
+    }
+
+    /**
+     * Retrieves the competitor with the highest overall score.
+     *
+     * @return the top performer, or {@code null} if there are no competitors
+     */
+    MRCompetitor getTopPerformer();
+
+    /**
+     * Counts how often each individual score was given.
+     *
+     * @return a {@link Map} from score to frequency
+     */
+    Map<Integer, Integer> getScoreFrequency();
+
+    /**
+     * Computes the statistical summary of all competitors.
+     *
+     * @return a {@link ScoreSummary}
+     */
+    ScoreSummary getStatisticalSummary();
+
+    /**
+     * Counts how often each individual score was given, in a dense histogram.
+     *
+     * @return a {@link ScoreHistogram} of all individual scores
+     */
+    default ScoreHistogram getScoreHistogram() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        forEachCompetitor(competitor -> histogram.addAll(competitor.getScores()));
+        return histogram;
+    }
+
+    /**
+     * Computes exact distribution figures for the overall scores.
+     *
+     * @return the {@link OverallScoreStatistics}
+     */
+    default OverallScoreStatistics getOverallScoreStatistics() {
+        double[][] scores = {new double[1024]};
+        int[] count = new int[1];
+        forEachCompetitor(competitor -> {
+            if (count[0] == scores[0].length) {
+                scores[0] = Arrays.copyOf(scores[0], count[0] * 2);
+            }
+            scores[0][count[0]++] = competitor.getOverallScore();
+        });
+        return OverallScoreStatistics.of(scores[0], count[0]);
+    }
+
+    /**
+     * Counts the competitors.
+     *
+     * @return the number of competitors
+     */
+    int getTotalNumberOfCompetitors();
+
+    /**
+     * Releases any resources held by the repository.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,217 @@
+package Main;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * The {@code CompetitorRowMapper} class turns rows of the {@code mrcompetitors} table
+ * into {@link MRCompetitor} objects. Column positions are looked up once when the
+ * mapper is created for a result set, and every row is then read by index.
+ * <p>
+ * Queries that select only some columns (projections) are supported: columns that
+ * are absent are read as {@code null} strings or zero scores. A mapper is tied to the
+ * result set it was created for and is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class CompetitorRowMapper {
+
+    /**
+     * Number of judge score columns in the table.
+     */
+    public static final int SCORE_COLUMNS = 5;
+
+    private static final String[] SCORE_LABELS = {"score1", "score2", "score3", "score4", "score5"};
+
+    private final int idColumn;
+    private final int firstNameColumn;
+    private final int middleNameColumn;
+    private final int lastNameColumn;
+    private final int levelColumn;
+    private final int genderColumn;
+    private final int beltColumn;
+    private final int overallScoreColumn;
+    private final int[] scoreColumns = new int[SCORE_COLUMNS];
+
+    /**
+     * Scores of the current row, reused for every row.
+     */
+    private final int[] scoresBuffer = new int[SCORE_COLUMNS];
+
+    /**
+     * Constructs a {@code CompetitorRowMapper} for the columns of the given result set.
+     *
+     * @param rs the result set whose rows will be mapped
+     * @throws SQLException if the result set metadata cannot be read
+     */
+    public CompetitorRowMapper(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        idColumn = findColumn(metaData, "competitorID");
+        firstNameColumn = findColumn(metaData, "firstName");
+        middleNameColumn = findColumn(metaData, "middleName");
+        lastNameColumn = findColumn(metaData, "lastName");
+        levelColumn = findColumn(metaData, "CompetitionLevel");
+        genderColumn = findColumn(metaData, "gender");
+        beltColumn = findColumn(metaData, "BelbeltColort");
+        overallScoreColumn = findColumn(metaData, "overallScore");
+        for (int i = 0; i < SCORE_COLUMNS; i++) {
+            scoreColumns[i] = findColumn(metaData, SCORE_LABELS[i]);
+        }
+    }
+
+    /**
+     * Finds the position of a column by its label.
+     *
+     * @param metaData the result set metadata
+     * @param label the column label, compared without regard to case
+     * @return the one-based column index, or 0 if the column is not selected
+     * @throws SQLException if the metadata cannot be read
+     */
+    private static int findColumn(ResultSetMetaData metaData, String label) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (label.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Builds a competitor from the current row. When the stored overall score is selected
+     * and not {@code null} it is used as the competitor's overall score; otherwise the
+     * score is computed from the judges' scores when it is first needed. Rows written
+     * before the column was filled in, or not yet reached by a rescoring run, hold
+     * {@code null}.
+     *
+     * @param rs the result set positioned on a row
+     * @return a new {@link MRCompetitor} with its own copy of the scores
+     * @throws SQLException if a column cannot be read
+     */
+    public MRCompetitor map(ResultSet rs) throws SQLException {
+        Name name = new Name(getString(rs, firstNameColumn), getString(rs, middleNameColumn), getString(rs, lastNameColumn));
+        int[] scores = readScores(rs).clone();
+        if (overallScoreColumn != 0) {
+            // Reuse the stored overall score instead of computing it again
+            double overallScore = rs.getDouble(overallScoreColumn);
+            if (!rs.wasNull()) {
+                return new MRCompetitor(readId(rs), name, getString(rs, levelColumn), getString(rs, genderColumn),
+                        getString(rs, beltColumn), scores, overallScore);
+            }
+        }
+        return new MRCompetitor(readId(rs), name, getString(rs, levelColumn), getString(rs, genderColumn),
+                getString(rs, beltColumn), scores);
+    }
+
+    /**
+     * Reads the competitor ID of the current row.
+     *
+     * @param rs the result set positioned on a row
+     * @return the competitor ID, or 0 if the column is not selected
+     * @throws SQLException if the column cannot be read
+     */
+    public int readId(ResultSet rs) throws SQLException {
+        return idColumn == 0 ? 0 : rs.getInt(idColumn);
+    }
+
+    /**
+     * Reads the scores of the current row into a buffer shared by all rows.
+     * The returned array is overwritten by the next call, so callers that keep
+     * the scores must copy them.
+     *
+     * @param rs the result set positioned on a row
+     * @return the scores of the current row
+     * @throws SQLException if a column cannot be read
+     */
+    public int[] readScores(ResultSet rs) throws SQLException {
+        for (int i = 0; i < SCORE_COLUMNS; i++) {
+            scoresBuffer[i] = scoreColumns[i] == 0 ? 0 : rs.getInt(scoreColumns[i]);
+        }
+        return scoresBuffer;
+    }
+
+    /**
+     * Reads the stored overall score of the current row. When the column is not selected
+     * or holds {@code null}, the score is computed from the row's scores with the active
+     * {@link ScoringEngine}.
+     *
+     * @param rs the result set positioned on a row
+     * @return the overall score
+     * @throws SQLException if a column cannot be read
+     */
+    public double readOverallScore(ResultSet rs) throws SQLException {
+        if (overallScoreColumn != 0) {
+            double overallScore = rs.getDouble(overallScoreColumn);
+            if (!rs.wasNull()) {
+                return overallScore;
+            }
+        }
+        return ScoringEngine.getActive().score(readScores(rs));
+    }
+
+    /**
+     * Reads the first name of the current row.
+     *
+     * @param rs the result set positioned on a row
+     * @return the first name, or {@code null} if the column is not selected
+     * @throws SQLException if the column cannot be read
+     */
+    public String readFirstName(ResultSet rs) throws SQLException {
+        return getString(rs, firstNameColumn);
+    }
+
+    /**
+     * Reads the middle name of the current row.
+     *
+     * @param rs the result set positioned on a row
+     * @return the middle name, or {@code null} if the column is not selected
+     * @throws SQLException if the column cannot be read
+     */
+    public String readMiddleName(ResultSet rs) throws SQLException {
+        return getString(rs, middleNameColumn);
+    }
+
+    /**
+     * Reads the last name of the current row.
+     *
+     * @param rs the result set positioned on a row
+     * @return the last name, or {@code null} if the column is not selected
+     * @throws SQLException if the column cannot be read
+     */
+    public String readLastName(ResultSet rs) throws SQLException {
+        return getString(rs, lastNameColumn);
+    }
+
+    /**
+     * Reads the competition level of the current row.
+     *
+     * @param rs the result set positioned on a row
+     * @return the competition level, or {@code null} if the column is not selected
+     * @throws SQLException if the column cannot be read
+     */
+    public String readCompetitionLevel(ResultSet rs) throws SQLException {
+        return getString(rs, levelColumn);
+    }
+
+    /**
+     * Checks whether the stored overall score was selected.
+     *
+     * @return {@code true} if the {@code overallScore} column is present
+     */
+    public boolean hasOverallScore() {
+        return overallScoreColumn != 0;
+    }
+
+    /**
+     * Reads a string column, treating an absent column as {@code null}.
+     *
+     * @param rs the result set positioned on a row
+     * @param column the one-based column index, or 0 if absent
+     * @return the column value
+     * @throws SQLException if the column cannot be read
+     */
+    private static String getString(ResultSet rs, int column) throws SQLException {
+        return column == 0 ? null : rs.getString(column);
+    }
+}
@@ -0,0 +1,22 @@
+package Main;
+
+/**
+ * The {@code CompetitorSortKey} enum lists the orders in which competitor listings
+ * can be paged. Each key is paired with a unique tie-breaker so that keyset
+ * pagination never skips or repeats a competitor.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public enum CompetitorSortKey {
+
+    /**
+     * Ascending by competitor ID.
+     */
+    COMPETITOR_ID,
+
+    /**
+     * Descending by overall score, then ascending by competitor ID for equal scores.
+     */
+    OVERALL_SCORE
+}
@@ -0,0 +1,399 @@
+package Main;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code ConnectionPool} class keeps a bounded set of JDBC connections open
+ * so that database operations do not pay for a new TCP connection and login each time.
+ * Connections are borrowed with {@link #borrow()} and handed back by closing the
+ * returned {@link PooledConnection}. Idle connections are validated before reuse
+ * and evicted by a background task once they have been unused for too long.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Query used to check that a connection is still usable.
+     */
+    public static final String VALIDATION_QUERY = "SELECT 1";
+
+    /**
+     * Idle connections older than this are validated before being handed out.
+     */
+    private static final long VALIDATE_AFTER_MILLIS = 30_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+
+    /**
+     * Limits the number of connections in use or idle to {@code maxSize}.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Idle connections, most recently returned first.
+     */
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+    private final ScheduledExecutorService evictor;
+
+    private volatile boolean closed;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong active = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    /**
+     * Constructs a {@code ConnectionPool} for the given database.
+     *
+     * @param url the JDBC URL of the database
+     * @param user the database user name
+     * @param password the database password
+     * @param maxSize the maximum number of open connections
+     * @param idleTimeoutMillis how long a connection may stay idle before it is closed
+     * @param borrowTimeoutMillis how long {@link #borrow()} waits for a free connection
+     */
+    public ConnectionPool(String url, String user, String password,
+                          int maxSize, long idleTimeoutMillis, long borrowTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if none is idle.
+     * Closing the returned object gives the connection back to the pool.
+     *
+     * @return a {@link PooledConnection} ready for use
+     * @throws SQLException if the pool is closed, exhausted or the database cannot be reached
+     */
+    public PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                borrowTimeouts.incrementAndGet();
+                throw new SQLException("Timed out waiting for a database connection after " + borrowTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - start);
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = pollIdle()) != null) {
+                if (System.currentTimeMillis() - pooled.getLastUsed() < VALIDATE_AFTER_MILLIS || validate(pooled.getConnection())) {
+                    break;
+                }
+                validationFailures.incrementAndGet();
+                closeQuietly(pooled);
+            }
+
+            if (pooled == null) {
+                pooled = new PooledConnection(this, DriverManager.getConnection(url, user, password));
+                created.incrementAndGet();
+            }
+
+            pooled.markBorrowed();
+            borrowed.incrementAndGet();
+            active.incrementAndGet();
+            return pooled;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool. Called by {@link PooledConnection#close()}.
+     *
+     * @param pooled the connection being returned
+     */
+    void release(PooledConnection pooled) {
+        active.decrementAndGet();
+        try {
+            boolean reusable = !closed && !pooled.getConnection().isClosed();
+            if (reusable && !pooled.getConnection().getAutoCommit()) {
+                // Never hand a connection with an open transaction to the next borrower
+                pooled.getConnection().rollback();
+                pooled.getConnection().setAutoCommit(true);
+            }
+            if (reusable) {
+                pooled.touch();
+                synchronized (idle) {
+                    idle.addFirst(pooled);
+                }
+            } else {
+                closeQuietly(pooled);
+            }
+        } catch (SQLException e) {
+            closeQuietly(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Checks whether the database can be reached by running the validation query
+     * on a pooled connection.
+     *
+     * @return {@code true} if the validation query succeeded, {@code false} otherwise
+     */
+    public boolean isValid() {
+        try (PooledConnection pooled = borrow()) {
+            boolean valid = validate(pooled.getConnection());
+            if (!valid) {
+                validationFailures.incrementAndGet();
+            }
+            return valid;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs the validation query on a single connection.
+     *
+     * @param connection the connection to check
+     * @return {@code true} if the query ran without error
+     */
+    private boolean validate(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(5);
+            statement.execute(VALIDATION_QUERY);
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Takes the most recently used idle connection, if any.
+     *
+     * @return an idle connection, or {@code null} if there is none
+     */
+    private PooledConnection pollIdle() {
+        synchronized (idle) {
+            return idle.pollFirst();
+        }
+    }
+
+    /**
+     * Closes connections that have been idle for longer than the idle timeout.
+     */
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        synchronized (idle) {
+            Iterator<PooledConnection> it = idle.descendingIterator();
+            while (it.hasNext()) {
+                PooledConnection pooled = it.next();
+                if (pooled.getLastUsed() < cutoff) {
+                    it.remove();
+                    evicted.incrementAndGet();
+                    closeQuietly(pooled);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the underlying connection without reporting errors.
+     *
+     * @param pooled the connection to close
+     */
+    private void closeQuietly(PooledConnection pooled) {
+        try {
+            pooled.getConnection().close();
+        } catch (SQLException e) {
+            // Nothing useful can be done with a connection that fails to close
+        }
+    }
+
+    /**
+     * Closes the pool and all idle connections. Borrowed connections are closed
+     * when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        synchronized (idle) {
+            for (PooledConnection pooled : idle) {
+                closeQuietly(pooled);
+            }
+            idle.clear();
+        }
+    }
+
+    /**
+     * Gets the maximum number of connections this pool will open.
+     *
+     * @return the pool size limit
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of connections currently borrowed.
+     *
+     * @return the number of active connections
+     */
+    public long getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Gets the number of open connections waiting in the pool.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * Gets the number of physical connections opened since the pool was created.
+     *
+     * @return the number of connections created
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Gets the number of successful borrows since the pool was created.
+     *
+     * @return the number of borrows
+     */
+    public long getBorrowCount() {
+        return borrowed.get();
+    }
+
+    /**
+     * Gets the number of connections closed for being idle too long.
+     *
+     * @return the number of evicted connections
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Gets the number of connections discarded because the validation query failed.
+     *
+     * @return the number of validation failures
+     */
+    public long getValidationFailureCount() {
+        return validationFailures.get();
+    }
+
+    /**
+     * Gets the number of borrows that gave up waiting for a free connection.
+     *
+     * @return the number of borrow timeouts
+     */
+    public long getBorrowTimeoutCount() {
+        return borrowTimeouts.get();
+    }
+
+    /**
+     * Gets the average time callers waited for a free connection.
+     *
+     * @return the average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long count = borrowed.get();
+        return count == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Records a statement served from a connection's statement cache.
+     */
+    void recordStatementCacheHit() {
+        statementCacheHits.incrementAndGet();
+    }
+
+    /**
+     * Records a statement that had to be prepared because it was not cached.
+     */
+    void recordStatementCacheMiss() {
+        statementCacheMisses.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of statements served from the statement caches of all connections.
+     *
+     * @return the number of statement cache hits
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    /**
+     * Gets the number of statements prepared because they were not cached.
+     *
+     * @return the number of statement cache misses
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    /**
+     * Returns a one-line summary of the pool metrics.
+     *
+     * @return a string describing the current pool state
+     */
+    @Override
+    public String toString() {
+        return String.format("ConnectionPool[max=%d, active=%d, idle=%d, created=%d, borrowed=%d, evicted=%d, validationFailures=%d, timeouts=%d, avgWait=%.3f ms, statementCacheHits=%d, statementCacheMisses=%d]",
+                maxSize, getActiveCount(), getIdleCount(), getCreatedCount(), getBorrowCount(),
+                getEvictedCount(), getValidationFailureCount(), getBorrowTimeoutCount(), getAverageWaitMillis(),
+                getStatementCacheHits(), getStatementCacheMisses());
+    }
+}
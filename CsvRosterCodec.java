@@ -0,0 +1,266 @@
+package Main;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CsvRosterCodec} class reads and writes the roster as CSV. The first row holds
+ * the column names of the {@code mrcompetitors} table. Fields containing commas, quotes or
+ * line breaks are quoted as described in RFC 4180. An empty unquoted field stands for
+ * {@code null} and {@code ""} for an empty string.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+final class CsvRosterCodec {
+
+    static final String HEADER = "competitorID,firstName,middleName,lastName,CompetitionLevel,gender,BelbeltColort,"
+            + "score1,score2,score3,score4,score5,overallScore";
+
+    private static final int COLUMN_COUNT = 13;
+
+    private CsvRosterCodec() {
+    }
+
+    /**
+     * Writes competitors as CSV rows.
+     */
+    static final class Writer implements RosterWriter {
+
+        private final BufferedWriter out;
+        private final StringBuilder line = new StringBuilder(128);
+
+        Writer(OutputStream out, boolean writeHeader) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            if (writeHeader) {
+                this.out.write(HEADER);
+                this.out.write('\n');
+            }
+        }
+
+        @Override
+        public void write(MRCompetitor competitor) throws IOException {
+            Name name = competitor.getName();
+            line.setLength(0);
+            line.append(competitor.getCompetitorID()).append(',');
+            appendField(name == null ? null : name.getFirstName());
+            appendField(name == null ? null : name.getMiddleName());
+            appendField(name == null ? null : name.getLastName());
+            appendField(competitor.getCompetitionLevel());
+            appendField(competitor.getgender());
+            appendField(competitor.getBelbeltColor());
+            int[] scores = competitor.getScores();
+            for (int i = 0; i < CompetitorRowMapper.SCORE_COLUMNS; i++) {
+                line.append(scores != null && i < scores.length ? scores[i] : 0).append(',');
+            }
+            line.append(competitor.getOverallScore()).append('\n');
+            out.append(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        /**
+         * Appends a text field and the following comma, quoting it when needed.
+         *
+         * @param value the field value, possibly {@code null}
+         */
+        private void appendField(String value) {
+            if (value != null) {
+                boolean quote = value.isEmpty();
+                for (int i = 0; i < value.length() && !quote; i++) {
+                    char c = value.charAt(i);
+                    quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+                }
+                if (quote) {
+                    line.append('"');
+                    for (int i = 0; i < value.length(); i++) {
+                        char c = value.charAt(i);
+                        if (c == '"') {
+                            line.append('"');
+                        }
+                        line.append(c);
+                    }
+                    line.append('"');
+                } else {
+                    line.append(value);
+                }
+            }
+            line.append(',');
+        }
+    }
+
+    /**
+     * Reads competitors from CSV rows. A header row, if present, is skipped.
+     */
+    static final class Reader implements RosterReader {
+
+        private final InputStreamReader in;
+        private final char[] buffer = new char[1 << 16];
+        private int position;
+        private int limit;
+        private final List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        private final StringBuilder field = new StringBuilder();
+        private int recordIndex = -1;
+        private boolean started;
+
+        Reader(InputStream in) {
+            this.in = new InputStreamReader(in, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public MRCompetitor read() throws IOException {
+            if (!readRecord()) {
+                return null;
+            }
+            if (!started) {
+                started = true;
+                if (!fields.isEmpty() && "competitorID".equalsIgnoreCase(fields.get(0))) {
+                    if (!readRecord()) {
+                        return null;
+                    }
+                }
+            }
+            recordIndex++;
+
+            if (fields.size() != COLUMN_COUNT) {
+                throw new IllegalArgumentException("Expected " + COLUMN_COUNT + " fields but found " + fields.size());
+            }
+            try {
+                int[] scores = new int[CompetitorRowMapper.SCORE_COLUMNS];
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = Integer.parseInt(fields.get(7 + i).trim());
+                }
+                return new MRCompetitor(Integer.parseInt(fields.get(0).trim()),
+                        new Name(fields.get(1), fields.get(2), fields.get(3)),
+                        fields.get(4), fields.get(5), fields.get(6), scores,
+                        Double.parseDouble(fields.get(12).trim()));
+            } catch (NumberFormatException | NullPointerException e) {
+                throw new IllegalArgumentException("Invalid number: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public int getRecordIndex() {
+            return recordIndex;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * Splits the next record into {@link #fields}. Records end at an unquoted
+         * {@code \n}, {@code \r\n} or {@code \r}; line breaks inside a quoted field are
+         * kept exactly as written.
+         *
+         * @return {@code false} at the end of the file
+         * @throws IOException if reading fails or a quoted field is not closed
+         */
+        private boolean readRecord() throws IOException {
+            int c = next();
+            while (c == '\n' || c == '\r') {
+                c = next();
+            }
+            if (c < 0) {
+                return false;
+            }
+
+            fields.clear();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            while (true) {
+                if (c < 0) {
+                    if (quoted) {
+                        throw new IOException("Unterminated quoted field in record " + (recordIndex + 1));
+                    }
+                    break;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        c = next();
+                        if (c == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c == ',') {
+                    addField(wasQuoted);
+                    wasQuoted = false;
+                } else if (c == '\n') {
+                    break;
+                } else if (c == '\r') {
+                    if (peek() == '\n') {
+                        position++;
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = next();
+            }
+            addField(wasQuoted);
+            return true;
+        }
+
+        /**
+         * Reads the next character.
+         *
+         * @return the character, or {@code -1} at the end of the file
+         * @throws IOException if reading fails
+         */
+        private int next() throws IOException {
+            int c = peek();
+            if (c >= 0) {
+                position++;
+            }
+            return c;
+        }
+
+        /**
+         * Looks at the next character without consuming it, refilling the buffer if needed.
+         *
+         * @return the character, or {@code -1} at the end of the file
+         * @throws IOException if reading fails
+         */
+        private int peek() throws IOException {
+            while (position == limit) {
+                int read = in.read(buffer, 0, buffer.length);
+                if (read < 0) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+            }
+            return buffer[position];
+        }
+
+        /**
+         * Ends the current field, turning an empty unquoted field into {@code null}.
+         *
+         * @param wasQuoted whether the field was quoted
+         */
+        private void addField(boolean wasQuoted) {
+            fields.add(field.length() == 0 && !wasQuoted ? null : field.toString());
+            field.setLength(0);
+        }
+    }
+}
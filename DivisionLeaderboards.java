@@ -0,0 +1,256 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The {@code DivisionLeaderboards} class keeps a live leaderboard for every division,
+ * that is every combination of competition level, gender and belt color, plus one for
+ * the whole roster. Each leaderboard is a sorted tree ordered by overall score, highest
+ * first, with ties broken by the lower competitor ID. It is updated in O(log n) on every
+ * write, so the leader is found in O(log n) and the top {@code k} in O(log n + k).
+ * <p>
+ * Register it with {@link Manager#addChangeListener} to keep it current. All methods are
+ * thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class DivisionLeaderboards implements CompetitorChangeListener {
+
+    /**
+     * Identifies one division. Any of the parts may be {@code null}.
+     */
+    public static final class Division {
+
+        private final String level;
+        private final String gender;
+        private final String beltColor;
+
+        /**
+         * Constructs a {@code Division}.
+         *
+         * @param level the competition level
+         * @param gender the gender
+         * @param beltColor the belt color
+         */
+        public Division(String level, String gender, String beltColor) {
+            this.level = level;
+            this.gender = gender;
+            this.beltColor = beltColor;
+        }
+
+        /**
+         * Gets the division a competitor belongs to.
+         *
+         * @param competitor the competitor
+         * @return the competitor's division
+         */
+        public static Division of(MRCompetitor competitor) {
+            return new Division(competitor.getCompetitionLevel(), competitor.getgender(), competitor.getBelbeltColor());
+        }
+
+        /**
+         * Gets the competition level.
+         *
+         * @return the level
+         */
+        public String getLevel() {
+            return level;
+        }
+
+        /**
+         * Gets the gender.
+         *
+         * @return the gender
+         */
+        public String getGender() {
+            return gender;
+        }
+
+        /**
+         * Gets the belt color.
+         *
+         * @return the belt color
+         */
+        public String getBeltColor() {
+            return beltColor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Division)) {
+                return false;
+            }
+            Division other = (Division) o;
+            return Objects.equals(level, other.level) && Objects.equals(gender, other.gender)
+                    && Objects.equals(beltColor, other.beltColor);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(level, gender, beltColor);
+        }
+
+        @Override
+        public String toString() {
+            return "Level " + level + " / " + gender + " / " + beltColor;
+        }
+    }
+
+    /**
+     * A private copy of a competitor together with the score and division it is filed
+     * under. Neither the listener's caller nor a caller of the getters ever holds the
+     * copy, so changing a competitor cannot corrupt the order of the trees or change
+     * what the leaderboards show.
+     */
+    private static final class Entry {
+
+        final int competitorID;
+        final double overallScore;
+        final Division division;
+        final MRCompetitor competitor;
+
+        Entry(MRCompetitor competitor) {
+            this.competitor = competitor.copy();
+            this.competitorID = this.competitor.getCompetitorID();
+            this.overallScore = this.competitor.getOverallScore();
+            this.division = Division.of(this.competitor);
+        }
+    }
+
+    private static final Comparator<Entry> BY_SCORE = (a, b) -> {
+        int result = Double.compare(b.overallScore, a.overallScore);
+        return result != 0 ? result : Integer.compare(a.competitorID, b.competitorID);
+    };
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Division, NavigableSet<Entry>> divisions = new HashMap<>();
+    private final NavigableSet<Entry> overall = new TreeSet<>(BY_SCORE);
+
+    @Override
+    public synchronized void competitorSaved(MRCompetitor competitor) {
+        Entry entry = new Entry(competitor);
+        remove(entries.put(entry.competitorID, entry));
+        overall.add(entry);
+        divisions.computeIfAbsent(entry.division, d -> new TreeSet<>(BY_SCORE)).add(entry);
+    }
+
+    @Override
+    public synchronized void competitorDeleted(int competitorID) {
+        remove(entries.remove(competitorID));
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        divisions.clear();
+        overall.clear();
+    }
+
+    /**
+     * Takes an entry out of the trees it is filed in.
+     *
+     * @param entry the entry to remove, possibly {@code null}
+     */
+    private void remove(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        overall.remove(entry);
+        NavigableSet<Entry> division = divisions.get(entry.division);
+        division.remove(entry);
+        if (division.isEmpty()) {
+            divisions.remove(entry.division);
+        }
+    }
+
+    /**
+     * Gets the competitor with the highest overall score.
+     *
+     * @return a copy of the leader, or {@code null} if there are no competitors
+     */
+    public synchronized MRCompetitor getLeader() {
+        return overall.isEmpty() ? null : overall.first().competitor.copy();
+    }
+
+    /**
+     * Gets the competitor with the highest overall score in a division.
+     *
+     * @param division the division
+     * @return a copy of the leader, or {@code null} if the division has no competitors
+     */
+    public synchronized MRCompetitor getLeader(Division division) {
+        NavigableSet<Entry> board = divisions.get(division);
+        return board == null ? null : board.first().competitor.copy();
+    }
+
+    /**
+     * Gets the highest-scoring competitors across all divisions.
+     *
+     * @param limit the maximum number of competitors to return
+     * @return copies of up to {@code limit} competitors, best first
+     */
+    public synchronized List<MRCompetitor> getTop(int limit) {
+        return top(overall, limit);
+    }
+
+    /**
+     * Gets the highest-scoring competitors in a division, for example {@code 3} for the podium.
+     *
+     * @param division the division
+     * @param limit the maximum number of competitors to return
+     * @return copies of up to {@code limit} competitors, best first
+     */
+    public synchronized List<MRCompetitor> getTop(Division division, int limit) {
+        NavigableSet<Entry> board = divisions.get(division);
+        return board == null ? Collections.emptyList() : top(board, limit);
+    }
+
+    /**
+     * Gets the divisions that have at least one competitor.
+     *
+     * @return a copy of the set of divisions
+     */
+    public synchronized Set<Division> getDivisions() {
+        return new HashSet<>(divisions.keySet());
+    }
+
+    /**
+     * Gets the number of competitors on the leaderboards.
+     *
+     * @return the number of competitors
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Copies the first entries of a leaderboard.
+     *
+     * @param board the leaderboard
+     * @param limit the maximum number of competitors to copy
+     * @return copies of the competitors, best first
+     */
+    private static List<MRCompetitor> top(NavigableSet<Entry> board, int limit) {
+        List<MRCompetitor> result = new ArrayList<>(Math.max(0, Math.min(limit, board.size())));
+        Iterator<Entry> iterator = board.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next().competitor.copy());
+        }
+        return result;
+    }
+}
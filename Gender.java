@@ -0,0 +1,54 @@
+package Main;
+
+/**
+ * The {@code Gender} enum lists the genders accepted when a competitor is registered.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public enum Gender {
+
+    MALE("Male"),
+    FEMALE("Female");
+
+    private static final Gender[] VALUES = values();
+
+    private final String label;
+
+    Gender(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the label stored in the database and shown to users.
+     *
+     * @return the label, for example {@code "Male"}
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Finds the gender with the given label, ignoring case.
+     *
+     * @param label the label, possibly {@code null}
+     * @return the matching {@code Gender}, or {@code null} if {@code label} is {@code null}
+     * @throws IllegalArgumentException if the label is not a known gender
+     */
+    public static Gender fromLabel(String label) {
+        if (label == null) {
+            return null;
+        }
+        for (Gender gender : VALUES) {
+            if (gender.label.equalsIgnoreCase(label.trim())) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("Unknown gender: " + label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,282 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code InMemoryCompetitorRepository} class keeps all competitors in memory, indexed
+ * by a primitive {@link IntObjectHashMap}, so no database is needed and every operation
+ * runs without network latency. It is intended for live events where latency matters
+ * and for tests.
+ * <p>
+ * Competitors are copied when they are stored and whenever they are returned, whether by
+ * ID, as a list, a page or the top performer, so changing a returned object does not
+ * change the repository until it is passed to {@link #updateCompetitor(MRCompetitor)}.
+ * Only the competitors passed to scan callbacks are the stored objects, to keep full
+ * scans free of copying, and they must be treated as read-only. All methods are thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class InMemoryCompetitorRepository implements CompetitorRepository {
+
+    private final IntObjectHashMap<MRCompetitor> competitors = new IntObjectHashMap<>();
+
+    /**
+     * Competitor IDs in ascending order, rebuilt on demand after writes.
+     */
+    private int[] idOrder;
+
+    /**
+     * Competitors by descending overall score, rebuilt on demand after writes.
+     */
+    private MRCompetitor[] scoreOrder;
+
+    private int highestID;
+
+    @Override
+    public synchronized int nextCompetitorID() {
+        return ++highestID;
+    }
+
+    @Override
+    public synchronized boolean addCompetitor(MRCompetitor competitor) {
+        if (competitors.containsKey(competitor.getCompetitorID())) {
+            System.err.println("Error adding competitor: Competitor ID " + competitor.getCompetitorID() + " already exists.");
+            return false;
+        }
+        store(competitor);
+        return true;
+    }
+
+    @Override
+    public synchronized BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> batch, int batchSize) {
+        BatchInsertResult result = new BatchInsertResult();
+        int index = 0;
+        for (MRCompetitor competitor : batch) {
+            if (competitors.containsKey(competitor.getCompetitorID())) {
+                result.addFailure(new BatchInsertResult.Failure(index, competitor.getCompetitorID(), "Duplicate competitor ID"));
+            } else {
+                store(competitor);
+                result.addInserted(1);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized boolean updateCompetitor(MRCompetitor competitor) {
+        if (!competitors.containsKey(competitor.getCompetitorID())) {
+            System.out.println("No competitor found with ID " + competitor.getCompetitorID());
+            return false;
+        }
+        store(competitor);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteCompetitor(int competitorID) {
+        if (competitors.remove(competitorID) == null) {
+            return false;
+        }
+        invalidateOrders();
+        return true;
+    }
+
+    @Override
+    public synchronized MRCompetitor getCompetitorsById(int competitorID) {
+        MRCompetitor competitor = competitors.get(competitorID);
+        return competitor == null ? null : competitor.copy();
+    }
+
+    @Override
+    public synchronized List<MRCompetitor> getAllCompetitors() {
+        List<MRCompetitor> all = new ArrayList<>(competitors.size());
+        competitors.forEachValue(competitor -> all.add(competitor.copy()));
+        return all;
+    }
+
+    @Override
+    public synchronized List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey) {
+        List<MRCompetitor> page = new ArrayList<>(limit);
+        if (sortKey == CompetitorSortKey.OVERALL_SCORE) {
+            MRCompetitor[] ordered = getScoreOrder();
+            int start = afterId == null ? 0 : findAfterInScoreOrder(ordered, afterScore, afterId);
+            for (int i = start; i < ordered.length && page.size() < limit; i++) {
+                page.add(ordered[i].copy());
+            }
+        } else {
+            int[] ordered = getIdOrder();
+            int start = 0;
+            if (afterId != null) {
+                start = Arrays.binarySearch(ordered, afterId);
+                start = start >= 0 ? start + 1 : -start - 1;
+            }
+            for (int i = start; i < ordered.length && page.size() < limit; i++) {
+                page.add(competitors.get(ordered[i]).copy());
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public Stream<MRCompetitor> streamAllCompetitors() {
+        return getAllCompetitors().stream();
+    }
+
+    @Override
+    public synchronized void forEachCompetitor(Consumer<? super MRCompetitor> action) {
+        competitors.forEachValue(action);
+    }
+
+    @Override
+    public synchronized int getMaxCompetitorID() {
+        int[] ordered = getIdOrder();
+        return ordered.length == 0 ? 0 : ordered[ordered.length - 1];
+    }
+
+    @Override
+    public synchronized MRCompetitor getTopPerformer() {
+        MRCompetitor[] ordered = getScoreOrder();
+        return ordered.length == 0 ? null : ordered[0].copy();
+    }
+
+    @Override
+    public synchronized Map<Integer, Integer> getScoreFrequency() {
+        Map<Integer, Integer> frequencyMap = new TreeMap<>();
+        competitors.forEachValue(competitor -> {
+            for (int score : competitor.getScores()) {
+                frequencyMap.merge(score, 1, Integer::sum);
+            }
+        });
+        return frequencyMap;
+    }
+
+    @Override
+    public synchronized ScoreSummary getStatisticalSummary() {
+        ScoreSummary summary = new ScoreSummary();
+        Map<String, double[]> levels = new TreeMap<>();
+        double[] max = {0.0};
+
+        competitors.forEachValue(competitor -> {
+            double overall = competitor.getOverallScore();
+            max[0] = Math.max(max[0], overall);
+            String level = competitor.getCompetitionLevel() == null ? "Unknown" : competitor.getCompetitionLevel();
+            double[] totals = levels.computeIfAbsent(level, key -> new double[2]);
+            totals[0]++;
+            totals[1] += overall;
+        });
+
+        summary.setTotalCompetitors(competitors.size());
+        summary.setMaxOverallScore(max[0]);
+        for (Map.Entry<Integer, Integer> entry : getScoreFrequency().entrySet()) {
+            summary.putScoreFrequency(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, double[]> entry : levels.entrySet()) {
+            double[] totals = entry.getValue();
+            summary.putLevel(entry.getKey(), (int) totals[0], totals[1] / totals[0]);
+        }
+        return summary;
+    }
+
+    @Override
+    public synchronized int getTotalNumberOfCompetitors() {
+        return competitors.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        competitors.clear();
+        invalidateOrders();
+    }
+
+    /**
+     * Stores a copy of a competitor and keeps the ID counter ahead of every stored ID.
+     *
+     * @param competitor the competitor to store
+     */
+    private void store(MRCompetitor competitor) {
+        competitors.put(competitor.getCompetitorID(), competitor.copy());
+        highestID = Math.max(highestID, competitor.getCompetitorID());
+        invalidateOrders();
+    }
+
+    /**
+     * Drops the sorted views so they are rebuilt on the next paged or ranked read.
+     */
+    private void invalidateOrders() {
+        idOrder = null;
+        scoreOrder = null;
+    }
+
+    /**
+     * Gets the competitor IDs in ascending order.
+     *
+     * @return the sorted IDs
+     */
+    private int[] getIdOrder() {
+        if (idOrder == null) {
+            idOrder = competitors.keys();
+            Arrays.sort(idOrder);
+        }
+        return idOrder;
+    }
+
+    /**
+     * Gets the competitors by descending overall score, then ascending ID.
+     *
+     * @return the sorted competitors
+     */
+    private MRCompetitor[] getScoreOrder() {
+        if (scoreOrder == null) {
+            MRCompetitor[] ordered = new MRCompetitor[competitors.size()];
+            int[] index = {0};
+            competitors.forEachValue(competitor -> ordered[index[0]++] = competitor);
+            Arrays.sort(ordered, InMemoryCompetitorRepository::compareByScore);
+            scoreOrder = ordered;
+        }
+        return scoreOrder;
+    }
+
+    /**
+     * Finds the first position in the score order that comes after a seek key, by binary search.
+     *
+     * @param ordered the competitors sorted by {@link #compareByScore(MRCompetitor, MRCompetitor)}
+     * @param afterScore the overall score of the seek key
+     * @param afterId the competitor ID of the seek key
+     * @return the position of the first competitor after the key, or {@code ordered.length}
+     */
+    private static int findAfterInScoreOrder(MRCompetitor[] ordered, double afterScore, int afterId) {
+        int low = 0;
+        int high = ordered.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int byScore = Double.compare(afterScore, ordered[mid].getOverallScore());
+            if (byScore < 0 || (byScore == 0 && ordered[mid].getCompetitorID() <= afterId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Orders competitors by descending overall score, then ascending ID.
+     *
+     * @param a the first competitor
+     * @param b the second competitor
+     * @return a negative number, zero or a positive number as {@code a} comes before, with or after {@code b}
+     */
+    private static int compareByScore(MRCompetitor a, MRCompetitor b) {
+        int byScore = Double.compare(b.getOverallScore(), a.getOverallScore());
+        return byScore != 0 ? byScore : Integer.compare(a.getCompetitorID(), b.getCompetitorID());
+    }
+}
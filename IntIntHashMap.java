@@ -0,0 +1,214 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IntIntHashMap} class is a hash map from primitive {@code int} keys to
+ * primitive {@code int} values. It uses open addressing with linear probing over plain
+ * arrays, so nothing is boxed and no entry objects are allocated. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class IntIntHashMap {
+
+    /**
+     * Value returned by {@link #get(int)} and {@link #remove(int)} for absent keys.
+     */
+    public static final int NO_VALUE = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty map sized for the given number of entries.
+     *
+     * @param expectedSize the number of entries expected
+     */
+    public IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Gets the value stored for a key.
+     *
+     * @param key the key
+     * @return the value, or {@link #NO_VALUE} if the key is absent
+     */
+    public int get(int key) {
+        int slot = find(key);
+        return slot < 0 ? NO_VALUE : values[slot];
+    }
+
+    /**
+     * Checks whether a key is present.
+     *
+     * @param key the key
+     * @return {@code true} if the map holds a value for the key
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Stores a value for a key, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or {@link #NO_VALUE} if the key was absent
+     */
+    public int put(int key, int value) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Removes a key and its value.
+     *
+     * @param key the key
+     * @return the removed value, or {@link #NO_VALUE} if the key was absent
+     */
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+        int previous = values[slot];
+        size--;
+
+        // Shift later entries of the probe chain back so lookups never stop at a hole
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        return previous;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the map size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Copies every key into a new array, in no particular order.
+     *
+     * @return an array of the keys
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int index = 0;
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) {
+                result[index++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the slot holding a key.
+     *
+     * @param key the key
+     * @return the slot index, or -1 if the key is absent
+     */
+    private int find(int key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Spreads the bits of a key so sequential IDs do not cluster.
+     *
+     * @param key the key
+     * @return the mixed hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Allocates empty arrays of the given capacity.
+     *
+     * @param capacity the number of slots, a power of two
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Moves every entry into arrays of a new capacity.
+     *
+     * @param capacity the new number of slots, a power of two
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldUsed.length; slot++) {
+            if (oldUsed[slot]) {
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
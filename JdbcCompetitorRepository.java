@@ -0,0 +1,138 @@
+package Main;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code JdbcCompetitorRepository} class stores competitors in the MySQL
+ * {@code mrcompetitors} table by delegating to a {@link CompetitorDB}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class JdbcCompetitorRepository implements CompetitorRepository {
+
+    private final CompetitorDB db;
+
+    /**
+     * Constructs a {@code JdbcCompetitorRepository} backed by the given database access object.
+     *
+     * @param db the {@link CompetitorDB} to delegate to
+     */
+    public JdbcCompetitorRepository(CompetitorDB db) {
+        this.db = db;
+    }
+
+    /**
+     * Gets the database access object, for example to inspect pool metrics.
+     *
+     * @return the {@link CompetitorDB} used by this repository
+     */
+    public CompetitorDB getCompetitorDB() {
+        return db;
+    }
+
+    @Override
+    public int nextCompetitorID() {
+        return db.nextCompetitorID();
+    }
+
+    @Override
+    public boolean addCompetitor(MRCompetitor competitor) {
+        return db.addCompetitorDB(competitor, competitor.getName());
+    }
+
+    @Override
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors, int batchSize) {
+        return db.addCompetitorsBatch(competitors, batchSize);
+    }
+
+    @Override
+    public boolean updateCompetitor(MRCompetitor competitor) {
+        return db.updateCompetitor(competitor);
+    }
+
+    @Override
+    public boolean deleteCompetitor(int competitorID) {
+        return db.deleteCompetitor(competitorID);
+    }
+
+    @Override
+    public MRCompetitor getCompetitorsById(int competitorID) {
+        return db.getCompetitorsById(competitorID);
+    }
+
+    @Override
+    public List<MRCompetitor> getAllCompetitors() {
+        return db.getAllCompetitors();
+    }
+
+    @Override
+    public List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey) {
+        return db.getCompetitorsPage(afterId, afterScore, limit, sortKey);
+    }
+
+    @Override
+    public Stream<MRCompetitor> streamAllCompetitors() {
+        return db.streamAllCompetitors();
+    }
+
+    @Override
+    public void forEachCompetitor(Consumer<? super MRCompetitor> action) {
+        db.forEachCompetitor(action);
+    }
+
+    @Override
+    public void forEachCompetitorInRange(int fromId, int toId, Consumer<? super MRCompetitor> action) {
+        db.forEachCompetitorInRange(fromId, toId, action);
+    }
+
+    @Override
+    public int getMaxCompetitorID() {
+        return db.getMaxCompetitorID();
+    }
+
+    @Override
+    public void writeCompetitorTable(CompetitorReportWriter writer) throws IOException {
+        db.writeCompetitorTable(writer);
+    }
+
+    @Override
+    public MRCompetitor getTopPerformer() {
+        return db.getTopPerformer();
+    }
+
+    @Override
+    public Map<Integer, Integer> getScoreFrequency() {
+        return db.getScoreFrequency();
+    }
+
+    @Override
+    public ScoreSummary getStatisticalSummary() {
+        return db.getStatisticalSummary();
+    }
+
+    @Override
+    public ScoreHistogram getScoreHistogram() {
+        return db.getScoreHistogram();
+    }
+
+    @Override
+    public OverallScoreStatistics getOverallScoreStatistics() {
+        return db.getOverallScoreStatistics();
+    }
+
+    @Override
+    public int getTotalNumberOfCompetitors() {
+        return db.getTotalNumberOfCompetitors();
+    }
+
+    @Override
+    public void close() {
+        db.close();
+    }
+}
@@ -0,0 +1,361 @@
+package Main;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The {@code JsonLinesRosterCodec} class reads and writes the roster as JSON Lines: one
+ * JSON object per competitor, one object per line, for example
+ * <pre>
+ * {"competitorID":1,"firstName":"Ana","middleName":null,"lastName":"Silva","CompetitionLevel":"3",
+ *  "gender":"Female","BelbeltColort":"Blue","scores":[4,5,3,4,4],"overallScore":4.0}
+ * </pre>
+ * Only the flat objects written by this class are supported. Unknown keys are ignored
+ * when reading.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+final class JsonLinesRosterCodec {
+
+    private JsonLinesRosterCodec() {
+    }
+
+    /**
+     * Writes competitors as JSON objects, one per line.
+     */
+    static final class Writer implements RosterWriter {
+
+        private final BufferedWriter out;
+        private final StringBuilder line = new StringBuilder(192);
+
+        Writer(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        }
+
+        @Override
+        public void write(MRCompetitor competitor) throws IOException {
+            Name name = competitor.getName();
+            line.setLength(0);
+            line.append("{\"competitorID\":").append(competitor.getCompetitorID());
+            appendString("firstName", name == null ? null : name.getFirstName());
+            appendString("middleName", name == null ? null : name.getMiddleName());
+            appendString("lastName", name == null ? null : name.getLastName());
+            appendString("CompetitionLevel", competitor.getCompetitionLevel());
+            appendString("gender", competitor.getgender());
+            appendString("BelbeltColort", competitor.getBelbeltColor());
+            line.append(",\"scores\":[");
+            int[] scores = competitor.getScores();
+            if (scores != null) {
+                for (int i = 0; i < scores.length; i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    line.append(scores[i]);
+                }
+            }
+            line.append("],\"overallScore\":").append(competitor.getOverallScore()).append("}\n");
+            out.append(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        /**
+         * Appends a string member, escaping it as JSON requires.
+         *
+         * @param key the member name
+         * @param value the value, possibly {@code null}
+         */
+        private void appendString(String key, String value) {
+            line.append(",\"").append(key).append("\":");
+            if (value == null) {
+                line.append("null");
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"': line.append("\\\""); break;
+                    case '\\': line.append("\\\\"); break;
+                    case '\n': line.append("\\n"); break;
+                    case '\r': line.append("\\r"); break;
+                    case '\t': line.append("\\t"); break;
+                    default:
+                        if (c < 0x20) {
+                            line.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            line.append(c);
+                        }
+                }
+            }
+            line.append('"');
+        }
+    }
+
+    /**
+     * Reads competitors from JSON objects, one per line.
+     */
+    static final class Reader implements RosterReader {
+
+        private final BufferedReader in;
+        private final StringBuilder text = new StringBuilder();
+        private String line;
+        private int pos;
+        private int recordIndex = -1;
+
+        Reader(InputStream in) {
+            this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        }
+
+        @Override
+        public MRCompetitor read() throws IOException {
+            do {
+                line = in.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.trim().isEmpty());
+            recordIndex++;
+            pos = 0;
+
+            Integer id = null;
+            String firstName = null;
+            String middleName = null;
+            String lastName = null;
+            String level = null;
+            String gender = null;
+            String belt = null;
+            int[] scores = null;
+            double overallScore = Double.NaN;
+
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    String key = readString();
+                    expect(':');
+                    switch (key) {
+                        case "competitorID": id = readInt(); break;
+                        case "firstName": firstName = readNullableString(); break;
+                        case "middleName": middleName = readNullableString(); break;
+                        case "lastName": lastName = readNullableString(); break;
+                        case "CompetitionLevel": level = readNullableString(); break;
+                        case "gender": gender = readNullableString(); break;
+                        case "BelbeltColort": belt = readNullableString(); break;
+                        case "scores": scores = readScores(); break;
+                        case "overallScore": overallScore = readNumber(); break;
+                        default: skipValue();
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+
+            if (id == null) {
+                throw new IllegalArgumentException("Missing competitorID");
+            }
+            if (scores == null) {
+                throw new IllegalArgumentException("Missing scores");
+            }
+            Name name = new Name(firstName, middleName, lastName);
+            return Double.isNaN(overallScore)
+                    ? new MRCompetitor(id, name, level, gender, belt, scores)
+                    : new MRCompetitor(id, name, level, gender, belt, scores, overallScore);
+        }
+
+        @Override
+        public int getRecordIndex() {
+            return recordIndex;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * Reads an array of whole numbers.
+         *
+         * @return the numbers
+         */
+        private int[] readScores() {
+            expect('[');
+            int[] values = new int[CompetitorRowMapper.SCORE_COLUMNS];
+            int count = 0;
+            if (!consume(']')) {
+                do {
+                    if (count == values.length) {
+                        values = Arrays.copyOf(values, count * 2);
+                    }
+                    values[count++] = readInt();
+                } while (consume(','));
+                expect(']');
+            }
+            return Arrays.copyOf(values, count);
+        }
+
+        /**
+         * Reads a string or {@code null}.
+         *
+         * @return the string, or {@code null}
+         */
+        private String readNullableString() {
+            skipWhitespace();
+            if (line.startsWith("null", pos)) {
+                pos += 4;
+                return null;
+            }
+            return readString();
+        }
+
+        /**
+         * Reads a quoted string, decoding escape sequences.
+         *
+         * @return the string
+         */
+        private String readString() {
+            expect('"');
+            text.setLength(0);
+            while (pos < line.length()) {
+                char c = line.charAt(pos++);
+                if (c == '"') {
+                    return text.toString();
+                }
+                if (c == '\\') {
+                    if (pos >= line.length()) {
+                        break;
+                    }
+                    char escaped = line.charAt(pos++);
+                    switch (escaped) {
+                        case 'n': text.append('\n'); break;
+                        case 'r': text.append('\r'); break;
+                        case 't': text.append('\t'); break;
+                        case 'b': text.append('\b'); break;
+                        case 'f': text.append('\f'); break;
+                        case 'u':
+                            if (pos + 4 > line.length()) {
+                                throw error("Bad unicode escape");
+                            }
+                            text.append((char) Integer.parseInt(line.substring(pos, pos + 4), 16));
+                            pos += 4;
+                            break;
+                        default: text.append(escaped);
+                    }
+                } else {
+                    text.append(c);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        /**
+         * Reads a number.
+         *
+         * @return the number
+         */
+        private double readNumber() {
+            skipWhitespace();
+            int start = pos;
+            while (pos < line.length() && "+-0123456789.eE".indexOf(line.charAt(pos)) >= 0) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Expected a number");
+            }
+            try {
+                return Double.parseDouble(line.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number");
+            }
+        }
+
+        /**
+         * Reads a number that must be a whole number in {@code int} range.
+         *
+         * @return the number
+         */
+        private int readInt() {
+            double value = readNumber();
+            if (value != Math.rint(value) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw error("Expected a whole number");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Skips a value of an unknown member.
+         */
+        private void skipValue() {
+            skipWhitespace();
+            if (pos >= line.length()) {
+                throw error("Expected a value");
+            }
+            char c = line.charAt(pos);
+            if (c == '"') {
+                readString();
+            } else if (c == '[') {
+                readScores();
+            } else if (line.startsWith("null", pos) || line.startsWith("true", pos)) {
+                pos += 4;
+            } else if (line.startsWith("false", pos)) {
+                pos += 5;
+            } else {
+                readNumber();
+            }
+        }
+
+        /**
+         * Consumes a character if it comes next.
+         *
+         * @param c the character
+         * @return {@code true} if it was consumed
+         */
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (pos < line.length() && line.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Consumes a character that must come next.
+         *
+         * @param c the character
+         */
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        /**
+         * Moves past any whitespace.
+         */
+        private void skipWhitespace() {
+            while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        /**
+         * Builds the exception for a malformed record.
+         *
+         * @param message what was wrong
+         * @return the exception to throw
+         */
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at column " + (pos + 1));
+        }
+    }
+}
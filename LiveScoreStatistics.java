@@ -0,0 +1,184 @@
+package Main;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code LiveScoreStatistics} class keeps the figures of the statistical summary up to
+ * date as competitors are written: the number of competitors, how often each judge score
+ * occurs, the number and mean overall score per level, and the highest overall score.
+ * Each write applies the difference between the old and new version of one competitor,
+ * so a {@link ScoreSummary} can be produced at any time without reading storage.
+ * <p>
+ * The class keeps a small snapshot of every competitor (level, scores and overall score)
+ * so the old version is known when a competitor is updated or deleted. Competitors
+ * without a level are counted under {@code "Unknown"}, as in the repositories.
+ * <p>
+ * Register it with {@link Manager#addChangeListener} to keep it current. All methods are
+ * thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class LiveScoreStatistics implements CompetitorChangeListener {
+
+    private static final String UNKNOWN_LEVEL = "Unknown";
+
+    /**
+     * The parts of a competitor the statistics are built from.
+     */
+    private static final class Snapshot {
+
+        final String level;
+        final double overallScore;
+        final int[] scores;
+
+        Snapshot(MRCompetitor competitor) {
+            this.level = competitor.getCompetitionLevel() == null ? UNKNOWN_LEVEL : competitor.getCompetitionLevel();
+            this.overallScore = competitor.getOverallScore();
+            this.scores = competitor.getScores() == null ? new int[0] : competitor.getScores().clone();
+        }
+    }
+
+    /**
+     * Running count and sum of overall scores for one level.
+     */
+    private static final class LevelTotals {
+
+        int count;
+        double sum;
+    }
+
+    private final Map<Integer, Snapshot> snapshots = new HashMap<>();
+    private ScoreHistogram scoreFrequency = new ScoreHistogram();
+    private final Map<String, LevelTotals> levels = new TreeMap<>();
+
+    /**
+     * Number of competitors with each overall score, so the maximum survives deletes.
+     */
+    private final TreeMap<Double, Integer> overallScores = new TreeMap<>();
+
+    @Override
+    public synchronized void competitorSaved(MRCompetitor competitor) {
+        Snapshot snapshot = new Snapshot(competitor);
+        Snapshot previous = snapshots.get(competitor.getCompetitorID());
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        try {
+            apply(snapshot, 1);
+        } catch (RuntimeException e) {
+            if (previous != null) {
+                apply(previous, 1);
+            }
+            throw e;
+        }
+        snapshots.put(competitor.getCompetitorID(), snapshot);
+    }
+
+    @Override
+    public synchronized void competitorDeleted(int competitorID) {
+        Snapshot previous = snapshots.get(competitorID);
+        if (previous != null) {
+            apply(previous, -1);
+            snapshots.remove(competitorID);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        snapshots.clear();
+        scoreFrequency = new ScoreHistogram();
+        levels.clear();
+        overallScores.clear();
+    }
+
+    /**
+     * Adds a competitor to, or takes one away from, the running totals. Either every
+     * total changes or, if the histogram rejects a score, none does.
+     *
+     * @param snapshot the competitor
+     * @param sign {@code 1} to add, {@code -1} to take away
+     */
+    private void apply(Snapshot snapshot, int sign) {
+        int applied = 0;
+        try {
+            for (int score : snapshot.scores) {
+                scoreFrequency.add(score, sign);
+                applied++;
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < applied; i++) {
+                scoreFrequency.add(snapshot.scores[i], -sign);
+            }
+            throw e;
+        }
+        adjust(overallScores, snapshot.overallScore, sign);
+
+        LevelTotals totals = levels.computeIfAbsent(snapshot.level, level -> new LevelTotals());
+        totals.count += sign;
+        totals.sum += sign * snapshot.overallScore;
+        if (totals.count == 0) {
+            levels.remove(snapshot.level);
+        }
+    }
+
+    /**
+     * Changes a count, removing the key when it drops to zero.
+     *
+     * @param counts the counts
+     * @param key the key to change
+     * @param delta the change
+     * @param <K> the key type
+     */
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    /**
+     * Gets the number of competitors.
+     *
+     * @return the number of competitors
+     */
+    public synchronized int getTotalCompetitors() {
+        return snapshots.size();
+    }
+
+    /**
+     * Gets how often each judge score has been given.
+     *
+     * @return a copy of the map from score to frequency, ordered by score
+     */
+    public synchronized Map<Integer, Integer> getScoreFrequency() {
+        return scoreFrequency.toMap();
+    }
+
+    /**
+     * Gets how often each judge score has been given, as a dense histogram.
+     *
+     * @return a copy of the {@link ScoreHistogram}
+     */
+    public synchronized ScoreHistogram getScoreHistogram() {
+        return scoreFrequency.copy();
+    }
+
+    /**
+     * Builds a summary from the current totals.
+     *
+     * @return a {@link ScoreSummary} of all competitors
+     */
+    public synchronized ScoreSummary getSummary() {
+        ScoreSummary summary = new ScoreSummary();
+        summary.setTotalCompetitors(snapshots.size());
+        summary.setMaxOverallScore(overallScores.isEmpty() ? 0.0 : Math.max(0.0, overallScores.lastKey()));
+        for (Map.Entry<Integer, Integer> entry : scoreFrequency.toMap().entrySet()) {
+            summary.putScoreFrequency(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, LevelTotals> entry : levels.entrySet()) {
+            LevelTotals totals = entry.getValue();
+            summary.putLevel(entry.getKey(), totals.count, totals.sum / totals.count);
+        }
+        return summary;
+    }
+}
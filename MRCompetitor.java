@@ -43,6 +43,21 @@ public class MRCompetitor {
      */
     private int[] Scores;
 
+    /**
+     * The overall score computed from {@link #Scores}, valid while {@link #overallScoreValid} is set.
+     */
+    private double overallScore;
+
+    /**
+     * Whether {@link #overallScore} matches the current scores.
+     */
+    private boolean overallScoreValid;
+
+    /**
+     * The engine that computed {@link #overallScore}, or {@code null} for a stored score.
+     */
+    private ScoringEngine scoredBy;
+
     /**
      * Constructs an {@code MRCompetitor} with the specified details.
      * 
@@ -62,6 +77,24 @@ public class MRCompetitor {
         setScores(Scores);
     }
 
+    /**
+     * Constructs an {@code MRCompetitor} whose overall score is already known, for example
+     * the value stored in the database, so it does not have to be computed again.
+     * 
+     * @param competitorID the unique ID of the competitor
+     * @param name the {@link Name} object representing the competitor's name
+     * @param CompetitionLevel the competition level of the competitor
+     * @param gender the gender of the competitor
+     * @param BelbeltColort the belt color of the competitor
+     * @param Scores an array of scores for the competitor
+     * @param overallScore the overall score for these scores
+     */
+    public MRCompetitor(Integer competitorID, Name name, String CompetitionLevel, String gender, String BelbeltColort, int[] Scores, double overallScore) {
+        this(competitorID, name, CompetitionLevel, gender, BelbeltColort, Scores);
+        this.overallScore = overallScore;
+        this.overallScoreValid = true;
+    }
+
     /**
      * Gets the competitor's unique ID.
      * 
@@ -135,7 +168,9 @@ public class MRCompetitor {
     }
 
     /**
-     * Gets the scores of the competitor.
+     * Gets the scores of the competitor. The overall score is cached, so scores must be
+     * changed through {@link #setScores(int[])} or the {@code setScoreN} methods rather
+     * than by writing to the returned array.
      * 
      * @return an array of scores
      */
@@ -150,6 +185,7 @@ public class MRCompetitor {
      */
     public void setScores(int[] scores) {
         this.Scores = scores;
+        overallScoreValid = false;
     }
 
     /**
@@ -204,6 +240,7 @@ public class MRCompetitor {
      */
     public void setScore1(int score) {
         Scores[0] = score;
+        overallScoreValid = false;
     }
 
     /**
@@ -213,6 +250,7 @@ public class MRCompetitor {
      */
     public void setScore2(int score) {
         Scores[1] = score;
+        overallScoreValid = false;
     }
 
     /**
@@ -222,6 +260,7 @@ public class MRCompetitor {
      */
     public void setScore3(int score) {
         Scores[2] = score;
+        overallScoreValid = false;
     }
 
     /**
@@ -231,6 +270,7 @@ public class MRCompetitor {
      */
     public void setScore4(int score) {
         Scores[3] = score;
+        overallScoreValid = false;
     }
 
     /**
@@ -240,6 +280,7 @@ public class MRCompetitor {
      */
     public void setScore5(int score) {
         Scores[4] = score;
+        overallScoreValid = false;
     }
 
     /**
@@ -261,21 +302,34 @@ public class MRCompetitor {
     }
 
     /**
-     * Calculates the overall score of the competitor by averaging all but the highest and lowest scores.
+     * Calculates the overall score of the competitor with the active {@link ScoringEngine},
+     * which by default averages all but the highest and lowest scores. The result is cached
+     * until the scores or the active engine change. A score passed to the constructor is
+     * kept until the scores change.
      * 
      * @return the overall score as a double
      */
     public double getOverallScore() {
-        if (Scores == null || Scores.length < 3) {
-            return 0.0; 
-        }   
-        int[] sortedScores = Scores.clone();
-        Arrays.sort(sortedScores);
-        int sum = 0;
-        for (int i = 1; i < sortedScores.length - 1; i++) {
-            sum += sortedScores[i];
+        ScoringEngine engine = ScoringEngine.getActive();
+        if (!overallScoreValid || (scoredBy != null && scoredBy != engine)) {
+            overallScore = engine.score(Scores);
+            overallScoreValid = true;
+            scoredBy = engine;
         }
-        return sum / (double) (sortedScores.length - 2);
+        return overallScore;
+    }
+
+    /**
+     * Makes an independent copy of this competitor, including its name and scores, so
+     * that changing one does not change the other. The copy keeps the current overall
+     * score as its stored score.
+     * 
+     * @return the copy
+     */
+    public MRCompetitor copy() {
+        Name nameCopy = name == null ? null : new Name(name.getFirstName(), name.getMiddleName(), name.getLastName());
+        int[] scoresCopy = Scores == null ? null : Scores.clone();
+        return new MRCompetitor(CompetitorID, nameCopy, CompetitionLevel, Gender, BelbeltColort, scoresCopy, getOverallScore());
     }
 
     /**
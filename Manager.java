@@ -1,11 +1,16 @@
 package Main;
 
-import java.sql.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * The {@code Manager} class handles the operations for managing competitors in the system.
- * It interacts with the {@link CompetitorDB} to add, update, delete, and retrieve competitors.
+ * It works through a {@link CompetitorRepository} to add, update, delete, and retrieve competitors,
+ * so it can run against the MySQL database or an in-memory store.
  * Additionally, it provides functionalities to fetch top performers and display statistical summaries.
  * 
  * @author YourName
@@ -20,20 +25,85 @@ public class Manager {
     private List<MRCompetitor> allCompetitors;
 
     /**
-     * The top-performing competitor.
+     * Storage used for competitor operations.
      */
-    private MRCompetitor topPerformer;
+    private final CompetitorRepository repository;
 
     /**
-     * Database connection for competitor operations.
+     * Read-through cache of competitors looked up by ID.
      */
-    private CompetitorDB db;
+    private final CompetitorCache cache;
 
     /**
-     * Constructs a new {@code Manager} object and initializes the database connection.
+     * In-memory views kept up to date on every write made through this manager.
+     */
+    private final List<CompetitorChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Live division leaderboards, created on first use.
+     */
+    private DivisionLeaderboards leaderboards;
+
+    /**
+     * Live standings for rank lookups, created on first use.
+     */
+    private RankIndex rankIndex;
+
+    /**
+     * Running totals behind the statistical summary, created on first use.
+     */
+    private LiveScoreStatistics statistics;
+
+    /**
+     * Constructs a new {@code Manager} object backed by the shared {@link CompetitorDB}.
      */
     public Manager() {
-        db = new CompetitorDB();
+        this(CompetitorDB.getInstance());
+    }
+
+    /**
+     * Constructs a new {@code Manager} object backed by the given {@link CompetitorDB}.
+     * 
+     * @param db the database access object to use
+     */
+    public Manager(CompetitorDB db) {
+        this(new JdbcCompetitorRepository(db));
+    }
+
+    /**
+     * Constructs a new {@code Manager} object backed by the given repository.
+     * 
+     * @param repository the storage to use, for example {@link InMemoryCompetitorRepository}
+     */
+    public Manager(CompetitorRepository repository) {
+        this.repository = repository;
+        this.cache = new CompetitorCache(repository::getCompetitorsById,
+                CompetitorCache.DEFAULT_MAX_SIZE, CompetitorCache.DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * Gets the storage this manager works against.
+     * 
+     * @return the {@link CompetitorRepository} in use
+     */
+    public CompetitorRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Gets the cache used for lookups by ID, mainly to inspect its statistics.
+     * 
+     * @return the {@link CompetitorCache} used by this manager
+     */
+    public CompetitorCache getCompetitorCache() {
+        return cache;
+    }
+
+    /**
+     * Releases the resources, such as database connections, held by this manager.
+     */
+    public void close() {
+        repository.close();
     }
 
     /**
@@ -51,70 +121,137 @@ public class Manager {
      * @return a {@link List} of {@link MRCompetitor} objects
      */
     public List<MRCompetitor> getAllCompetitors() {
-        return db.getAllCompetitors();
+        return repository.getAllCompetitors();
     }
 
     /**
-     * Adds a competitor to the database.
+     * Retrieves one page of competitors, starting after the given competitor.
      * 
-     * @param competitor the {@link MRCompetitor} object to add
+     * @param afterId the ID of the last competitor on the previous page, or {@code null} for the first page
+     * @param afterScore the overall score of the last competitor on the previous page; only
+     *        used when ordering by overall score
+     * @param limit the maximum number of competitors to return
+     * @param sortKey the order of the listing
+     * @return a {@link List} of at most {@code limit} competitors
      */
-    public void addCompetitor(MRCompetitor competitor) {
-        db.addCompetitorDB(competitor, competitor.getName());
+    public List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey) {
+        return repository.getCompetitorsPage(afterId, afterScore, limit, sortKey);
     }
 
     /**
-     * Updates the details of an existing competitor in the database.
+     * Streams all competitors from the database without loading the whole table.
+     * The stream holds a database connection and must be closed after use.
      * 
-     * @param competitor the {@link MRCompetitor} object with updated details
+     * @return a {@link Stream} of {@link MRCompetitor} objects
      */
-    public void updateCompetitor(MRCompetitor competitor) {
-        db.updateCompetitor(competitor);
+    public Stream<MRCompetitor> streamAllCompetitors() {
+        return repository.streamAllCompetitors();
     }
 
     /**
-     * Retrieves a competitor by their ID from the database.
+     * Passes every competitor in the database to the given callback, one row at a time.
      * 
-     * @param competitorID the unique ID of the competitor
-     * @return the {@link MRCompetitor} object if found, or {@code null} if not found
+     * @param action the callback to run for each competitor
      */
-    public MRCompetitor getCompetitorsById(int competitorID) {
-        if (!db.isConnectionValid()) {
-            System.err.println("Cannot fetch competitor: Database connection is null.");
-            return null;
+    public void forEachCompetitor(Consumer<? super MRCompetitor> action) {
+        repository.forEachCompetitor(action);
+    }
+
+    /**
+     * Allocates a new, unique competitor ID.
+     * 
+     * @return a new competitor ID, or -1 if no ID could be reserved
+     */
+    public int nextCompetitorID() {
+        return repository.nextCompetitorID();
+    }
+
+    /**
+     * Adds a competitor to the database. The leaderboards and other registered views are
+     * only told about the competitor if it was stored.
+     * 
+     * @param competitor the {@link MRCompetitor} object to add
+     * @return {@code true} if the competitor was added
+     */
+    public boolean addCompetitor(MRCompetitor competitor) {
+        if (!repository.addCompetitor(competitor)) {
+            return false;
+        }
+        cache.invalidate(competitor.getCompetitorID());
+        for (CompetitorChangeListener listener : listeners) {
+            listener.competitorSaved(competitor);
         }
+        return true;
+    }
 
-        String sql_statement = "SELECT * FROM mrcompetitors WHERE competitorID=?";
-        try (PreparedStatement statement = db.getConnection().prepareStatement(sql_statement)) {
-            statement.setInt(1, competitorID);
-
-            try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next()) {
-                    String firstName = rs.getString("firstName");
-                    String middleName = rs.getString("middleName");
-                    String lastName = rs.getString("lastName");
-                    String competitionLevel = rs.getString("CompetitionLevel");
-                    String gender = rs.getString("gender");
-                    String beltColor = rs.getString("BelbeltColort");
-
-                    int[] scores = new int[5];
-                    scores[0] = rs.getInt("score1");
-                    scores[1] = rs.getInt("score2");
-                    scores[2] = rs.getInt("score3");
-                    scores[3] = rs.getInt("score4");
-                    scores[4] = rs.getInt("score5");
-
-                    Name name = new Name(firstName, middleName, lastName);
-                    return new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
-                } else {
-                    System.out.println("No competitor found with ID " + competitorID);
-                    return null;
+    /**
+     * Adds many competitors to the database in batches.
+     * 
+     * @param competitors the competitors to add
+     * @param batchSize the number of rows sent and committed together
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
+     */
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors, int batchSize) {
+        BatchInsertResult result = repository.addCompetitorsBatch(competitors, batchSize);
+        for (MRCompetitor competitor : competitors) {
+            cache.invalidate(competitor.getCompetitorID());
+        }
+        if (!listeners.isEmpty()) {
+            Set<Integer> failedRows = new HashSet<>();
+            for (BatchInsertResult.Failure failure : result.getFailures()) {
+                failedRows.add(failure.getRowIndex());
+            }
+            int row = 0;
+            for (MRCompetitor competitor : competitors) {
+                if (!failedRows.contains(row++)) {
+                    for (CompetitorChangeListener listener : listeners) {
+                        listener.competitorSaved(competitor);
+                    }
                 }
             }
-        } catch (SQLException e) {
-            System.err.println("Error fetching competitor: " + e.getMessage());
-            return null;
         }
+        return result;
+    }
+
+    /**
+     * Adds many competitors to the database using the default batch size.
+     * 
+     * @param competitors the competitors to add
+     * @return a {@link BatchInsertResult} describing inserted and failed rows
+     */
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors) {
+        return addCompetitorsBatch(competitors, CompetitorDB.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Updates the details of an existing competitor in the database. The registered views
+     * are only told about the change if it was stored. The cached copy is dropped either
+     * way, so the next lookup reads what the database holds.
+     * 
+     * @param competitor the {@link MRCompetitor} object with updated details
+     * @return {@code true} if the competitor was updated
+     */
+    public boolean updateCompetitor(MRCompetitor competitor) {
+        boolean updated = repository.updateCompetitor(competitor);
+        cache.invalidate(competitor.getCompetitorID());
+        if (!updated) {
+            return false;
+        }
+        for (CompetitorChangeListener listener : listeners) {
+            listener.competitorSaved(competitor);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves a competitor by their ID, from the cache when it was looked up recently
+     * and from the database otherwise.
+     * 
+     * @param competitorID the unique ID of the competitor
+     * @return the {@link MRCompetitor} object if found, or {@code null} if not found
+     */
+    public MRCompetitor getCompetitorsById(int competitorID) {
+        return cache.get(competitorID);
     }
 
     /**
@@ -137,67 +274,259 @@ public class Manager {
     }
 
     /**
-     * Retrieves the top-performing competitor.
+     * Retrieves the top-performing competitor from the live leaderboards, so the answer
+     * reflects every add, update and delete made through this manager.
      * 
      * @return the {@link MRCompetitor} object representing the top performer
      */
     public MRCompetitor getTopPerformer() {
-        if (topPerformer == null) {
-            topPerformer = fetchTopPerformer();
+        return getLeaderboards().getLeader();
+    }
+
+    /**
+     * Retrieves the highest-scoring competitors of one division.
+     * 
+     * @param level the competition level
+     * @param gender the gender
+     * @param beltColor the belt color
+     * @param limit the maximum number of competitors to return, for example 3 for the podium
+     * @return up to {@code limit} competitors, best first
+     */
+    public List<MRCompetitor> getDivisionLeaderboard(String level, String gender, String beltColor, int limit) {
+        return getLeaderboards().getTop(new DivisionLeaderboards.Division(level, gender, beltColor), limit);
+    }
+
+    /**
+     * Gets the live division leaderboards. They are filled from storage the first time
+     * this is called and kept current from then on.
+     * 
+     * @return the {@link DivisionLeaderboards}
+     */
+    public synchronized DivisionLeaderboards getLeaderboards() {
+        if (leaderboards == null) {
+            leaderboards = new DivisionLeaderboards();
+            addChangeListener(leaderboards);
         }
-        return topPerformer;
+        return leaderboards;
     }
 
     /**
-     * Sets the top-performing competitor.
+     * Gets the competition rank of a competitor, where tied competitors share a place and
+     * the next place is skipped ("1224").
      * 
-     * @param topPerformer the {@link MRCompetitor} object to set as the top performer
+     * @param competitorID the unique ID of the competitor
+     * @return the rank, starting at 1, or -1 if the competitor does not exist
      */
-    public void setTopPerformer(MRCompetitor topPerformer) {
-        this.topPerformer = topPerformer;
+    public int getRank(int competitorID) {
+        return getRankIndex().getRank(competitorID);
     }
 
     /**
-     * Fetches the top-performing competitor from the database.
+     * Gets the dense rank of a competitor, where tied competitors share a place and no
+     * place is skipped ("1223").
      * 
-     * @return the {@link MRCompetitor} object representing the top performer
+     * @param competitorID the unique ID of the competitor
+     * @return the rank, starting at 1, or -1 if the competitor does not exist
      */
-    private MRCompetitor fetchTopPerformer() {
-        String sql = "SELECT * FROM mrcompetitors ORDER BY overallScore DESC LIMIT 1";
-        try (PreparedStatement statement = db.getConnection().prepareStatement(sql)) {
-            ResultSet rs = statement.executeQuery();
-            if (rs.next()) {
-                int competitorID = rs.getInt("competitorID");
-                String firstName = rs.getString("firstName");
-                String middleName = rs.getString("middleName");
-                String lastName = rs.getString("lastName");
-                String competitionLevel = rs.getString("CompetitionLevel");
-                String gender = rs.getString("gender");
-                String beltColor = rs.getString("BelbeltColort");
-
-                int[] scores = new int[5];
-                scores[0] = rs.getInt("score1");
-                scores[1] = rs.getInt("score2");
-                scores[2] = rs.getInt("score3");
-                scores[3] = rs.getInt("score4");
-                scores[4] = rs.getInt("score5");
-
-                Name name = new Name(firstName, middleName, lastName);
-                return new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
-            }
-        } catch (SQLException e) {
-            System.err.println("Error fetching top performer: " + e.getMessage());
+    public int getDenseRank(int competitorID) {
+        return getRankIndex().getDenseRank(competitorID);
+    }
+
+    /**
+     * Retrieves the competitor at a place in the standings. Tied competitors are placed
+     * by ascending ID.
+     * 
+     * @param position the place, starting at 1
+     * @return the {@link MRCompetitor} at that place, or {@code null} if there is none
+     */
+    public MRCompetitor getCompetitorAtRank(int position) {
+        return getRankIndex().getCompetitorAtRank(position);
+    }
+
+    /**
+     * Retrieves the competitors at a range of places in the standings.
+     * 
+     * @param fromPosition the first place, starting at 1
+     * @param toPosition the last place, inclusive
+     * @return a {@link List} of competitors, best first
+     */
+    public List<MRCompetitor> getCompetitorsByRank(int fromPosition, int toPosition) {
+        return getRankIndex().getCompetitorsByRank(fromPosition, toPosition);
+    }
+
+    /**
+     * Retrieves the competitors whose overall score lies in a range.
+     * 
+     * @param minScore the lowest score, inclusive
+     * @param maxScore the highest score, inclusive
+     * @return a {@link List} of competitors, best first
+     */
+    public List<MRCompetitor> getCompetitorsInScoreRange(double minScore, double maxScore) {
+        return getRankIndex().getCompetitorsInScoreRange(minScore, maxScore);
+    }
+
+    /**
+     * Gets the live standings used for rank lookups. They are filled from storage the
+     * first time this is called and kept current from then on.
+     * 
+     * @return the {@link RankIndex}
+     */
+    public synchronized RankIndex getRankIndex() {
+        if (rankIndex == null) {
+            rankIndex = new RankIndex();
+            addChangeListener(rankIndex);
+        }
+        return rankIndex;
+    }
+
+    /**
+     * Registers a view to be kept up to date on every write. The view is cleared and
+     * filled with every stored competitor first.
+     * 
+     * @param listener the view to register
+     */
+    public void addChangeListener(CompetitorChangeListener listener) {
+        listener.clear();
+        repository.forEachCompetitor(listener::competitorSaved);
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops keeping a view up to date.
+     * 
+     * @param listener the view to remove
+     */
+    public void removeChangeListener(CompetitorChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Refills every registered view from storage after a bulk change, in a single pass.
+     */
+    private void reloadListeners() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (CompetitorChangeListener listener : listeners) {
+            listener.clear();
         }
-        return null;
+        repository.forEachCompetitor(competitor -> {
+            for (CompetitorChangeListener listener : listeners) {
+                listener.competitorSaved(competitor);
+            }
+        });
     }
 
     /**
-     * Deletes a competitor from the database by ID.
+     * Deletes a competitor from the database by ID. The registered views are only told
+     * about the deletion if a competitor was removed.
      * 
      * @param competitorID the unique ID of the competitor to delete
+     * @return {@code true} if the competitor was deleted
+     */
+    public boolean deleteCompetitor(int competitorID) {
+        if (!repository.deleteCompetitor(competitorID)) {
+            return false;
+        }
+        cache.invalidate(competitorID);
+        for (CompetitorChangeListener listener : listeners) {
+            listener.competitorDeleted(competitorID);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the full competitor table to the given output, streaming rows from storage
+     * so the table is never held in memory.
+     *
+     * @param out where the table is written; wrap files in a {@link java.io.BufferedWriter}
+     * @return the number of rows written
+     * @throws IOException if writing fails
+     */
+    public long writeCompetitorTable(Appendable out) throws IOException {
+        CompetitorReportWriter writer = new CompetitorReportWriter(out);
+        writer.writeHeader();
+        repository.writeCompetitorTable(writer);
+        writer.flush();
+        return writer.getRowsWritten();
+    }
+
+    /**
+     * Exports every competitor to a roster file, reading ID ranges in parallel.
+     *
+     * @param target the file to write
+     * @param format the format to write
+     * @return the number of competitors written
+     * @throws IOException if the file cannot be written
      */
-    public void deleteCompetitor(int competitorID) {
-        db.deleteCompetitor(competitorID);
+    public long exportRoster(Path target, RosterFormat format) throws IOException {
+        return new RosterExporter(repository).export(target, format);
+    }
+
+    /**
+     * Imports the competitors in a roster file in batches. Cached competitors are dropped and
+     * the leaderboards are refilled afterwards so they match storage, even when the import
+     * stops part way through.
+     *
+     * @param source the file to read
+     * @param format the format of the file
+     * @return the number of competitors inserted and the records that failed
+     * @throws IOException if the file cannot be read
+     */
+    public BatchInsertResult importRoster(Path source, RosterFormat format) throws IOException {
+        try {
+            return new RosterImporter(repository).importFrom(source, format);
+        } finally {
+            // A failed import may still have stored some rows
+            cache.invalidateAll();
+            reloadListeners();
+        }
+    }
+
+    /**
+     * Recomputes and stores the overall score of every competitor in the database with
+     * a {@link RescoringJob}. Cached competitors are dropped and the leaderboards are
+     * refilled afterwards so they show the new scores.
+     *
+     * @param engine the engine that computes the new overall scores
+     * @return the totals of the run, or {@code null} if this manager is not backed by the database
+     */
+    public RescoringJob.Result rescoreAllCompetitors(ScoringEngine engine) {
+        if (!(repository instanceof JdbcCompetitorRepository)) {
+            System.out.println("Rescoring is only available for competitors stored in the database.");
+            return null;
+        }
+        CompetitorDB db = ((JdbcCompetitorRepository) repository).getCompetitorDB();
+        RescoringJob.Result result = new RescoringJob(db, engine).run();
+        cache.invalidateAll();
+        reloadListeners();
+        return result;
+    }
+
+    /**
+     * Makes an engine the active {@link ScoringEngine}, so competitors added or updated from
+     * now on are scored with it, and rescores every stored competitor to match. The
+     * database is rescored with a {@link RescoringJob}; other storage is rewritten one
+     * competitor at a time, skipping competitors whose score does not change.
+     *
+     * @param engine the engine to score with from now on
+     */
+    public void setScoringEngine(ScoringEngine engine) {
+        ScoringEngine.setActive(engine);
+        if (repository instanceof JdbcCompetitorRepository) {
+            rescoreAllCompetitors(engine);
+            return;
+        }
+        for (MRCompetitor competitor : repository.getAllCompetitors()) {
+            double overallScore = engine.score(competitor.getScores());
+            if (Double.compare(overallScore, competitor.getOverallScore()) != 0) {
+                repository.updateCompetitor(new MRCompetitor(competitor.getCompetitorID(), competitor.getName(),
+                        competitor.getCompetitionLevel(), competitor.getgender(), competitor.getBelbeltColor(),
+                        competitor.getScores(), overallScore));
+            }
+        }
+        cache.invalidateAll();
+        reloadListeners();
     }
 
     /**
@@ -206,14 +535,14 @@ public class Manager {
     public void displayStatisticalSummary() {
         System.out.println("\n--- Statistical Summary ---");
 
-        List<MRCompetitor> allCompetitors = getAllCompetitors();
+        ScoreSummary summary = getStatisticalSummary();
+        int totalCompetitors = summary.getTotalCompetitors();
 
-        if (allCompetitors.isEmpty()) {
+        if (totalCompetitors == 0) {
             System.out.println("No competitors available to display statistics.");
             return;
         }
 
-        int totalCompetitors = allCompetitors.size();
         System.out.println("Total number of competitors: " + totalCompetitors);
 
         MRCompetitor topPerformer = getTopPerformer();
@@ -224,7 +553,15 @@ public class Manager {
             System.out.println("No top performer found.");
         }
 
-        Map<Integer, Integer> scoreFrequency = getScoreFrequency();
+        System.out.println("\nAverage Overall Score by Level:");
+        System.out.printf("%-10s %-12s %-10s\n", "Level", "Competitors", "Average");
+        System.out.println("--------------------------------");
+        for (Map.Entry<String, Double> entry : summary.getLevelAverages().entrySet()) {
+            System.out.printf("%-10s %-12d %-10.2f\n", entry.getKey(),
+                    summary.getLevelCounts().get(entry.getKey()), entry.getValue());
+        }
+
+        Map<Integer, Integer> scoreFrequency = summary.getScoreFrequency();
         System.out.println("\nScore Frequency:");
         System.out.printf("%-10s %-10s\n", "Score", "Frequency");
         System.out.println("--------------------");
@@ -234,19 +571,103 @@ public class Manager {
     }
 
     /**
-     * Calculates the frequency of individual scores among all competitors.
+     * Gets the frequency of individual scores among all competitors from the running totals.
      * 
      * @return a {@link Map} where the key is the score and the value is its frequency
      */
     public Map<Integer, Integer> getScoreFrequency() {
-        List<MRCompetitor> allCompetitors = getAllCompetitors();
-        Map<Integer, Integer> frequencyMap = new HashMap<>();
+        return getStatistics().getScoreFrequency();
+    }
 
-        for (MRCompetitor competitor : allCompetitors) {
-            for (int score : competitor.getScores()) {
-                frequencyMap.put(score, frequencyMap.getOrDefault(score, 0) + 1);
-            }
+    /**
+     * Gets the statistical summary from the running totals, without reading storage.
+     * 
+     * @return a {@link ScoreSummary} of all competitors
+     */
+    public ScoreSummary getStatisticalSummary() {
+        return getStatistics().getSummary();
+    }
+
+    /**
+     * Gets how often each individual score was given, as a dense histogram, from the
+     * running totals.
+     * 
+     * @return a {@link ScoreHistogram} of all individual scores
+     */
+    public ScoreHistogram getScoreHistogram() {
+        return getStatistics().getScoreHistogram();
+    }
+
+    /**
+     * Computes exact distribution figures, such as the median, percentiles and standard
+     * deviation, for the overall scores of all competitors.
+     * 
+     * @return the {@link OverallScoreStatistics}
+     */
+    public OverallScoreStatistics getOverallScoreStatistics() {
+        return repository.getOverallScoreStatistics();
+    }
+
+    /**
+     * Builds a {@link QuantileSketch} of the overall scores of all competitors in one
+     * streaming pass, for rosters too large to hold every score in memory.
+     * 
+     * @param relativeAccuracy the largest relative error of the quantiles, for example 0.01
+     * @return the sketch
+     */
+    public QuantileSketch getOverallScoreSketch(double relativeAccuracy) {
+        QuantileSketch sketch = new QuantileSketch(relativeAccuracy);
+        repository.forEachCompetitor(competitor -> sketch.add(competitor.getOverallScore()));
+        return sketch;
+    }
+
+    /**
+     * Copies every competitor into a {@link ColumnarCompetitorStore}, so that repeated
+     * analytics over a large roster scan primitive columns instead of competitor objects.
+     * The store is a snapshot and does not see later changes.
+     * 
+     * @return a new {@link ColumnarCompetitorStore} with one row per competitor
+     */
+    public ColumnarCompetitorStore getColumnarSnapshot() {
+        return ColumnarCompetitorStore.load(repository);
+    }
+
+    /**
+     * Copies every competitor into an {@link OffHeapCompetitorTable}, so that a large
+     * archived roster can be scanned without holding competitor objects on the heap. The
+     * table is a snapshot and must be closed by the caller.
+     * 
+     * @return a new {@link OffHeapCompetitorTable} with one row per competitor
+     */
+    public OffHeapCompetitorTable getOffHeapSnapshot() {
+        return OffHeapCompetitorTable.load(repository);
+    }
+
+    /**
+     * Aggregates the roster in one parallel pass with a {@link ParallelAggregator}: score
+     * frequency, the best competitors, and the count and mean of every division. The
+     * roster set with {@link #setAllCompetitors(List)} is used if there is one, and
+     * otherwise all competitors are loaded from storage.
+     * 
+     * @param topN the number of best competitors to include
+     * @return the aggregated figures
+     */
+    public ParallelAggregator.Result aggregateAllCompetitors(int topN) {
+        List<MRCompetitor> roster = allCompetitors != null ? allCompetitors : repository.getAllCompetitors();
+        return new ParallelAggregator().aggregate(roster, topN);
+    }
+
+    /**
+     * Gets the running totals behind the statistical summary. They are filled from
+     * storage the first time this is called and kept current from then on.
+     * 
+     * @return the {@link LiveScoreStatistics}
+     */
+    public synchronized LiveScoreStatistics getStatistics() {
+        if (statistics == null) {
+            statistics = new LiveScoreStatistics();
+            addChangeListener(statistics);
         }
-        return frequencyMap;
+        return statistics;
     }
 }
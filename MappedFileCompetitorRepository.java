@@ -0,0 +1,887 @@
+package Main;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The {@code MappedFileCompetitorRepository} class stores competitors in a local file
+ * instead of MySQL, for events without a reliable database server. The file holds
+ * fixed-width records and is memory-mapped with {@link FileChannel#map}, so lookups and
+ * report scans read straight from the mapped buffer at memory speed. Aggregations such
+ * as score frequency and the statistical summary read the fields in place without
+ * building {@link MRCompetitor} objects.
+ * <p>
+ * Writes only append: an update appends the new version of the record and marks the
+ * old one as a tombstone, and a delete marks the record as a tombstone. An in-memory
+ * index maps each competitor ID to its record. When tombstones outnumber live records,
+ * a background thread compacts the file by rewriting only the live records; it can also
+ * be compacted on demand with {@link #compact()}.
+ * <p>
+ * Names and text fields are limited to {@value #NAME_BYTES} and {@value #SHORT_TEXT_BYTES}
+ * bytes of UTF-8 (including a length byte). A mapped buffer is limited to 2 GB, which
+ * allows roughly eight million records. All methods are thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class MappedFileCompetitorRepository implements CompetitorRepository {
+
+    private static final int MAGIC = 0x4D524331; // "MRC1"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOT_COUNT = 8;
+    private static final int HEADER_HIGHEST_ID = 12;
+
+    /**
+     * Size in bytes of every record.
+     */
+    public static final int RECORD_SIZE = 256;
+
+    /**
+     * Size of the level, gender and belt color fields, including the length byte.
+     */
+    public static final int SHORT_TEXT_BYTES = 16;
+
+    /**
+     * Size of each name field, including the length byte.
+     */
+    public static final int NAME_BYTES = 48;
+
+    private static final int STATUS = 0;
+    private static final int ID = 4;
+    private static final int SCORES = 8;
+    private static final int OVERALL_SCORE = 32;
+    private static final int LEVEL = 40;
+    private static final int GENDER = LEVEL + SHORT_TEXT_BYTES;
+    private static final int BELT = GENDER + SHORT_TEXT_BYTES;
+    private static final int FIRST_NAME = BELT + SHORT_TEXT_BYTES;
+    private static final int MIDDLE_NAME = FIRST_NAME + NAME_BYTES;
+    private static final int LAST_NAME = MIDDLE_NAME + NAME_BYTES;
+
+    private static final byte TOMBSTONE = 0;
+    private static final byte LIVE = 1;
+
+    /**
+     * Length byte that marks a {@code null} text field.
+     */
+    private static final int NULL_LENGTH = 0xFF;
+
+    private static final int INITIAL_CAPACITY = HEADER_SIZE + 1024 * RECORD_SIZE;
+
+    /**
+     * Compaction only starts once at least this many tombstones have built up.
+     */
+    private static final int COMPACTION_MIN_TOMBSTONES = 1000;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Record slot of every live competitor, by competitor ID.
+     */
+    private IntIntHashMap index = new IntIntHashMap();
+
+    private int slotCount;
+    private int tombstoneCount;
+    private int highestID;
+
+    /**
+     * Competitor IDs in ascending order, rebuilt on demand after writes.
+     */
+    private volatile int[] idOrder;
+
+    /**
+     * Record slots by descending overall score, rebuilt on demand after writes.
+     */
+    private volatile int[] scoreOrder;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService compactor;
+    private boolean compactionScheduled;
+    private long compactionCount;
+    private boolean closed;
+
+    /**
+     * The error of the last background compaction that failed, or {@code null}. Once set,
+     * no more compactions are started in the background.
+     */
+    private volatile IOException compactionFailure;
+
+    /**
+     * Opens the storage file, creating it if it does not exist.
+     *
+     * @param path the file that holds the competitor records
+     * @throws IOException if the file cannot be opened or is not a competitor file
+     */
+    public MappedFileCompetitorRepository(Path path) throws IOException {
+        this.path = path;
+        this.compactor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "competitor-file-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        open();
+    }
+
+    /**
+     * Maps the file and rebuilds the ID index from its records.
+     *
+     * @throws IOException if the file cannot be mapped or has the wrong format
+     */
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean isNew = channel.size() < HEADER_SIZE;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), INITIAL_CAPACITY));
+
+        if (isNew) {
+            buffer.putInt(HEADER_MAGIC, MAGIC);
+            buffer.putInt(HEADER_VERSION, FORMAT_VERSION);
+            buffer.putInt(HEADER_SLOT_COUNT, 0);
+            buffer.putInt(HEADER_HIGHEST_ID, 0);
+        } else if (buffer.getInt(HEADER_MAGIC) != MAGIC || buffer.getInt(HEADER_VERSION) != FORMAT_VERSION) {
+            channel.close();
+            throw new IOException(path + " is not a competitor storage file");
+        }
+
+        slotCount = buffer.getInt(HEADER_SLOT_COUNT);
+        highestID = buffer.getInt(HEADER_HIGHEST_ID);
+        index = new IntIntHashMap(slotCount);
+        tombstoneCount = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int offset = offset(slot);
+            if (buffer.get(offset + STATUS) == LIVE) {
+                index.put(buffer.getInt(offset + ID), slot);
+            } else {
+                tombstoneCount++;
+            }
+        }
+        invalidateOrders();
+    }
+
+    @Override
+    public int nextCompetitorID() {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            highestID++;
+            buffer.putInt(HEADER_HIGHEST_ID, highestID);
+            return highestID;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean addCompetitor(MRCompetitor competitor) {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            if (index.containsKey(competitor.getCompetitorID())) {
+                System.err.println("Error adding competitor: Competitor ID " + competitor.getCompetitorID() + " already exists.");
+                return false;
+            }
+            append(competitor);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error adding competitor: " + e.getMessage());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public BatchInsertResult addCompetitorsBatch(Collection<MRCompetitor> competitors, int batchSize) {
+        BatchInsertResult result = new BatchInsertResult();
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            int rowIndex = 0;
+            for (MRCompetitor competitor : competitors) {
+                try {
+                    if (index.containsKey(competitor.getCompetitorID())) {
+                        result.addFailure(new BatchInsertResult.Failure(rowIndex, competitor.getCompetitorID(), "Duplicate competitor ID"));
+                    } else {
+                        append(competitor);
+                        result.addInserted(1);
+                    }
+                } catch (IOException | IllegalArgumentException e) {
+                    result.addFailure(new BatchInsertResult.Failure(rowIndex, competitor.getCompetitorID(), e.getMessage()));
+                }
+                rowIndex++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean updateCompetitor(MRCompetitor competitor) {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            int oldSlot = index.get(competitor.getCompetitorID());
+            if (oldSlot == IntIntHashMap.NO_VALUE) {
+                System.out.println("No competitor found with ID " + competitor.getCompetitorID());
+                return false;
+            }
+            append(competitor);
+            markTombstone(oldSlot);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error while updating competitor: " + e.getMessage());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteCompetitor(int competitorID) {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            int slot = index.remove(competitorID);
+            if (slot == IntIntHashMap.NO_VALUE) {
+                return false;
+            }
+            markTombstone(slot);
+            invalidateOrders();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public MRCompetitor getCompetitorsById(int competitorID) {
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            int slot = index.get(competitorID);
+            return slot == IntIntHashMap.NO_VALUE ? null : read(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MRCompetitor> getAllCompetitors() {
+        List<MRCompetitor> competitors = new ArrayList<>();
+        forEachCompetitor(competitors::add);
+        return competitors;
+    }
+
+    @Override
+    public List<MRCompetitor> getCompetitorsPage(Integer afterId, double afterScore, int limit, CompetitorSortKey sortKey) {
+        List<MRCompetitor> page = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            if (sortKey == CompetitorSortKey.OVERALL_SCORE) {
+                int[] ordered = getScoreOrder();
+                int start = afterId == null ? 0 : findAfterInScoreOrder(ordered, afterScore, afterId);
+                for (int i = start; i < ordered.length && page.size() < limit; i++) {
+                    page.add(read(ordered[i]));
+                }
+            } else {
+                int[] ordered = getIdOrder();
+                int start = 0;
+                if (afterId != null) {
+                    start = Arrays.binarySearch(ordered, afterId);
+                    start = start >= 0 ? start + 1 : -start - 1;
+                }
+                for (int i = start; i < ordered.length && page.size() < limit; i++) {
+                    page.add(read(index.get(ordered[i])));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    /**
+     * Streams all competitors. Records are read from the file lazily, one at a time,
+     * and competitors deleted while the stream is open are skipped.
+     *
+     * @return a {@link Stream} of all competitors in ascending ID order
+     */
+    @Override
+    public Stream<MRCompetitor> streamAllCompetitors() {
+        int[] ids;
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            ids = getIdOrder();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Arrays.stream(ids).mapToObj(this::getCompetitorsById).filter(Objects::nonNull);
+    }
+
+    @Override
+    public void forEachCompetitor(Consumer<? super MRCompetitor> action) {
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (buffer.get(offset(slot) + STATUS) == LIVE) {
+                    action.accept(read(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int getMaxCompetitorID() {
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            int[] ordered = getIdOrder();
+            return ordered.length == 0 ? 0 : ordered[ordered.length - 1];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public MRCompetitor getTopPerformer() {
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            int[] ordered = getScoreOrder();
+            return ordered.length == 0 ? null : read(ordered[0]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<Integer, Integer> getScoreFrequency() {
+        Map<Integer, Integer> frequencyMap = new TreeMap<>();
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            for (int slot = 0; slot < slotCount; slot++) {
+                int offset = offset(slot);
+                if (buffer.get(offset + STATUS) == LIVE) {
+                    for (int i = 0; i < CompetitorRowMapper.SCORE_COLUMNS; i++) {
+                        frequencyMap.merge(buffer.getInt(offset + SCORES + i * 4), 1, Integer::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return frequencyMap;
+    }
+
+    @Override
+    public ScoreSummary getStatisticalSummary() {
+        ScoreSummary summary = new ScoreSummary();
+        Map<String, double[]> levels = new TreeMap<>();
+        double max = 0.0;
+        int count = 0;
+
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            for (int slot = 0; slot < slotCount; slot++) {
+                int offset = offset(slot);
+                if (buffer.get(offset + STATUS) != LIVE) {
+                    continue;
+                }
+                double overall = buffer.getDouble(offset + OVERALL_SCORE);
+                max = Math.max(max, overall);
+                count++;
+                String level = readText(offset + LEVEL);
+                double[] totals = levels.computeIfAbsent(level == null ? "Unknown" : level, key -> new double[2]);
+                totals[0]++;
+                totals[1] += overall;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        summary.setTotalCompetitors(count);
+        summary.setMaxOverallScore(max);
+        for (Map.Entry<Integer, Integer> entry : getScoreFrequency().entrySet()) {
+            summary.putScoreFrequency(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, double[]> entry : levels.entrySet()) {
+            double[] totals = entry.getValue();
+            summary.putLevel(entry.getKey(), (int) totals[0], totals[1] / totals[0]);
+        }
+        return summary;
+    }
+
+    @Override
+    public int getTotalNumberOfCompetitors() {
+        lock.readLock().lock();
+        try {
+            requireOpen();
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of compactions run since the file was opened.
+     *
+     * @return the number of compactions
+     */
+    public long getCompactionCount() {
+        lock.readLock().lock();
+        try {
+            return compactionCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the error of the last background compaction that failed. After such a failure
+     * no more compactions are started in the background, but {@link #compact()} can still
+     * be called.
+     *
+     * @return the error, or {@code null} if no background compaction failed
+     */
+    public IOException getCompactionFailure() {
+        return compactionFailure;
+    }
+
+    /**
+     * Flushes the mapped buffer to disk, unmaps it and closes the file. A compaction that
+     * has not started yet is cancelled. Every other method throws
+     * {@link IllegalStateException} once the repository is closed.
+     */
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.force();
+            channel.close();
+            unmap(buffer);
+            buffer = null;
+        } catch (IOException e) {
+            System.err.println("Error closing competitor file: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a competitor into the next free slot and points the index at it.
+     * Must be called with the write lock held.
+     *
+     * @param competitor the competitor to write
+     * @throws IOException if the file cannot be grown
+     * @throws IllegalArgumentException if a text field is too long for its column
+     */
+    private void append(MRCompetitor competitor) throws IOException {
+        Name name = competitor.getName();
+        byte[] level = encode(competitor.getCompetitionLevel(), SHORT_TEXT_BYTES, "Competition level");
+        byte[] gender = encode(competitor.getgender(), SHORT_TEXT_BYTES, "Gender");
+        byte[] belt = encode(competitor.getBelbeltColor(), SHORT_TEXT_BYTES, "Belt color");
+        byte[] firstName = encode(name == null ? null : name.getFirstName(), NAME_BYTES, "First name");
+        byte[] middleName = encode(name == null ? null : name.getMiddleName(), NAME_BYTES, "Middle name");
+        byte[] lastName = encode(name == null ? null : name.getLastName(), NAME_BYTES, "Last name");
+
+        ensureCapacity(slotCount + 1);
+        int slot = slotCount;
+        int offset = offset(slot);
+
+        buffer.putInt(offset + ID, competitor.getCompetitorID());
+        for (int i = 0; i < CompetitorRowMapper.SCORE_COLUMNS; i++) {
+            int[] scores = competitor.getScores();
+            buffer.putInt(offset + SCORES + i * 4, scores != null && i < scores.length ? scores[i] : 0);
+        }
+        buffer.putDouble(offset + OVERALL_SCORE, competitor.getOverallScore());
+        writeText(offset + LEVEL, level);
+        writeText(offset + GENDER, gender);
+        writeText(offset + BELT, belt);
+        writeText(offset + FIRST_NAME, firstName);
+        writeText(offset + MIDDLE_NAME, middleName);
+        writeText(offset + LAST_NAME, lastName);
+        // The status byte is written last so a half-written record is never seen as live
+        buffer.put(offset + STATUS, LIVE);
+
+        slotCount++;
+        buffer.putInt(HEADER_SLOT_COUNT, slotCount);
+        if (competitor.getCompetitorID() > highestID) {
+            highestID = competitor.getCompetitorID();
+            buffer.putInt(HEADER_HIGHEST_ID, highestID);
+        }
+        index.put(competitor.getCompetitorID(), slot);
+        invalidateOrders();
+    }
+
+    /**
+     * Marks a record as deleted and schedules compaction when there are many tombstones.
+     * Must be called with the write lock held.
+     *
+     * @param slot the record slot
+     */
+    private void markTombstone(int slot) {
+        buffer.put(offset(slot) + STATUS, TOMBSTONE);
+        tombstoneCount++;
+        if (!closed && !compactionScheduled && compactionFailure == null
+                && tombstoneCount >= COMPACTION_MIN_TOMBSTONES && tombstoneCount > index.size()) {
+            compactionScheduled = true;
+            compactor.execute(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Runs a scheduled compaction, keeping its error for {@link #getCompactionFailure()}.
+     */
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            System.err.println("Error compacting competitor file: " + e.getMessage());
+            compactionFailure = e;
+        } catch (IllegalStateException e) {
+            // The repository was closed before the compaction started
+        }
+    }
+
+    /**
+     * Rewrites the file with only the live records and swaps it in place of the old one.
+     * The old file is unmapped and closed before the swap, because a file that is still
+     * mapped cannot be replaced on every platform. If the swap fails, the old file is
+     * opened again and the error is thrown. If no file can be opened afterwards, the
+     * repository is closed.
+     *
+     * @throws IOException if the compacted file cannot be written or put in place
+     * @throws IllegalStateException if the repository is closed
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            writeLiveRecords(compacted);
+
+            buffer.force();
+            channel.close();
+            unmap(buffer);
+            buffer = null;
+
+            IOException moveFailure = null;
+            try {
+                Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                moveFailure = e;
+            }
+            // Whichever file is now in place, the old one or the compacted one, is opened again
+            try {
+                open();
+            } catch (IOException e) {
+                closed = true;
+                compactor.shutdownNow();
+                if (moveFailure != null) {
+                    e.addSuppressed(moveFailure);
+                }
+                throw e;
+            }
+            if (moveFailure != null) {
+                Files.deleteIfExists(compacted);
+                throw moveFailure;
+            }
+            compactionCount++;
+        } finally {
+            compactionScheduled = false;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the live records, in slot order, to a new file. Must be called with the write
+     * lock held. The file is deleted again if writing fails.
+     *
+     * @param compacted the file to write
+     * @throws IOException if the file cannot be written
+     */
+    private void writeLiveRecords(Path compacted) throws IOException {
+        int live = index.size();
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = target.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(INITIAL_CAPACITY, HEADER_SIZE + (long) live * RECORD_SIZE));
+            int newSlot = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                int offset = offset(slot);
+                if (buffer.get(offset + STATUS) != LIVE) {
+                    continue;
+                }
+                ByteBuffer record = buffer.duplicate();
+                record.limit(offset + RECORD_SIZE).position(offset);
+                out.position(offset(newSlot));
+                out.put(record);
+                newSlot++;
+            }
+            out.putInt(HEADER_MAGIC, MAGIC);
+            out.putInt(HEADER_VERSION, FORMAT_VERSION);
+            out.putInt(HEADER_SLOT_COUNT, newSlot);
+            out.putInt(HEADER_HIGHEST_ID, highestID);
+            out.force();
+            unmap(out);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(compacted);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Throws if the repository is closed. Must be called with a lock held.
+     *
+     * @throws IllegalStateException if the repository is closed
+     */
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("Competitor file " + path + " is closed");
+        }
+    }
+
+    /**
+     * Releases a mapping right away instead of when the buffer is garbage collected, so
+     * the file can be replaced or deleted. The buffer must not be used afterwards. Does
+     * nothing where the JVM does not allow it.
+     *
+     * @param mapped the mapped buffer
+     */
+    private static void unmap(MappedByteBuffer mapped) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), mapped);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The mapping is released when the buffer is collected
+        }
+    }
+
+    /**
+     * Builds a competitor from a record. Must be called with a lock held.
+     *
+     * @param slot the record slot
+     * @return the {@link MRCompetitor} stored in that record
+     */
+    private MRCompetitor read(int slot) {
+        int offset = offset(slot);
+        int[] scores = new int[CompetitorRowMapper.SCORE_COLUMNS];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = buffer.getInt(offset + SCORES + i * 4);
+        }
+        Name name = new Name(readText(offset + FIRST_NAME), readText(offset + MIDDLE_NAME), readText(offset + LAST_NAME));
+        return new MRCompetitor(buffer.getInt(offset + ID), name, readText(offset + LEVEL), readText(offset + GENDER),
+                readText(offset + BELT), scores, buffer.getDouble(offset + OVERALL_SCORE));
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 text field.
+     *
+     * @param offset the position of the field's length byte
+     * @return the text, or {@code null} if none was stored
+     */
+    private String readText(int offset) {
+        int length = buffer.get(offset) & 0xFF;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + 1);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a length-prefixed text field.
+     *
+     * @param offset the position of the field's length byte
+     * @param bytes the encoded text, or {@code null}
+     */
+    private void writeText(int offset, byte[] bytes) {
+        if (bytes == null) {
+            buffer.put(offset, (byte) NULL_LENGTH);
+            return;
+        }
+        buffer.put(offset, (byte) bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + 1 + i, bytes[i]);
+        }
+    }
+
+    /**
+     * Encodes a text value and checks that it fits its field.
+     *
+     * @param text the value, possibly {@code null}
+     * @param fieldBytes the size of the field including its length byte
+     * @param label the field name used in the error message
+     * @return the UTF-8 bytes, or {@code null} for a {@code null} value
+     * @throws IllegalArgumentException if the value is too long
+     */
+    private static byte[] encode(String text, int fieldBytes, String label) {
+        if (text == null) {
+            return null;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > fieldBytes - 1) {
+            throw new IllegalArgumentException(label + " is too long (at most " + (fieldBytes - 1) + " bytes)");
+        }
+        return bytes;
+    }
+
+    /**
+     * Grows the mapping, and with it the file, so it can hold the given number of records.
+     *
+     * @param slots the number of records that must fit
+     * @throws IOException if the file cannot be grown or would exceed 2 GB
+     */
+    private void ensureCapacity(int slots) throws IOException {
+        long required = HEADER_SIZE + (long) slots * RECORD_SIZE;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long newCapacity = Math.min(Integer.MAX_VALUE, Math.max(required, (long) buffer.capacity() * 2));
+        if (newCapacity < required) {
+            throw new IOException("Competitor file is full");
+        }
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+    }
+
+    /**
+     * Gets the byte offset of a record slot.
+     *
+     * @param slot the record slot
+     * @return the offset of the record in the file
+     */
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    /**
+     * Drops the sorted views so they are rebuilt on the next paged or ranked read.
+     */
+    private void invalidateOrders() {
+        idOrder = null;
+        scoreOrder = null;
+    }
+
+    /**
+     * Gets the live competitor IDs in ascending order. Must be called with a lock held.
+     *
+     * @return the sorted IDs
+     */
+    private int[] getIdOrder() {
+        int[] ordered = idOrder;
+        if (ordered == null) {
+            ordered = index.keys();
+            Arrays.sort(ordered);
+            idOrder = ordered;
+        }
+        return ordered;
+    }
+
+    /**
+     * Gets the live record slots by descending overall score, then ascending ID.
+     * Must be called with a lock held.
+     *
+     * @return the sorted slots
+     */
+    private int[] getScoreOrder() {
+        int[] ordered = scoreOrder;
+        if (ordered == null) {
+            int[] ids = getIdOrder();
+            Integer[] slots = new Integer[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                slots[i] = index.get(ids[i]);
+            }
+            Arrays.sort(slots, this::compareByScore);
+            ordered = new int[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                ordered[i] = slots[i];
+            }
+            scoreOrder = ordered;
+        }
+        return ordered;
+    }
+
+    /**
+     * Finds the first position in the score order that comes after a seek key, by binary search.
+     * Must be called with a lock held.
+     *
+     * @param ordered the slots sorted by {@link #compareByScore(int, int)}
+     * @param afterScore the overall score of the seek key
+     * @param afterId the competitor ID of the seek key
+     * @return the position of the first slot after the key, or {@code ordered.length}
+     */
+    private int findAfterInScoreOrder(int[] ordered, double afterScore, int afterId) {
+        int low = 0;
+        int high = ordered.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int offset = offset(ordered[mid]);
+            int byScore = Double.compare(afterScore, buffer.getDouble(offset + OVERALL_SCORE));
+            if (byScore < 0 || (byScore == 0 && buffer.getInt(offset + ID) <= afterId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Orders record slots by descending overall score, then ascending competitor ID.
+     *
+     * @param a the first slot
+     * @param b the second slot
+     * @return a negative number, zero or a positive number as {@code a} comes before, with or after {@code b}
+     */
+    private int compareByScore(int a, int b) {
+        int byScore = Double.compare(buffer.getDouble(offset(b) + OVERALL_SCORE), buffer.getDouble(offset(a) + OVERALL_SCORE));
+        return byScore != 0 ? byScore : Integer.compare(buffer.getInt(offset(a) + ID), buffer.getInt(offset(b) + ID));
+    }
+}
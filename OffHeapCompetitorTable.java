@@ -0,0 +1,468 @@
+package Main;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * The {@code OffHeapCompetitorTable} class keeps competitor rows outside the Java heap,
+ * so that large event archives do not add to garbage collection pauses. Each row is a
+ * fixed-width record in a direct buffer holding the ID, the five scores, the overall
+ * score, the dictionary-encoded level, gender and belt color, and the position of the
+ * row's names in a separate off-heap name area.
+ * <p>
+ * Fields are read through a {@link Row} flyweight that points at one record at a time,
+ * so scans do not build {@link MRCompetitor} or {@link Name} objects. The table must be
+ * closed with {@link #close()} when it is no longer needed; after that the table's
+ * methods and any existing flyweights throw {@link IllegalStateException}.
+ * It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class OffHeapCompetitorTable implements AutoCloseable {
+
+    /**
+     * Size in bytes of every record.
+     */
+    public static final int RECORD_SIZE = 48;
+
+    private static final int ID = 0;
+    private static final int SCORES = 4;
+    private static final int OVERALL_SCORE = 24;
+    private static final int LEVEL = 32;
+    private static final int GENDER = 33;
+    private static final int BELT = 34;
+    private static final int NAME_OFFSET = 36;
+    private static final int NAME_LENGTH = 40;
+
+    /**
+     * Length prefix that marks a {@code null} name part in the name area.
+     */
+    private static final short NULL_LENGTH = -1;
+
+    /**
+     * Largest number of rows a single direct buffer can hold.
+     */
+    private static final int MAX_ROWS = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private ByteBuffer records;
+    private ByteBuffer names;
+    private int size;
+    private boolean closed;
+
+    private final ByteDictionary levelDictionary = new ByteDictionary();
+    private final ByteDictionary genderDictionary = new ByteDictionary();
+    private final ByteDictionary beltColorDictionary = new ByteDictionary();
+
+    /**
+     * Constructs an empty table.
+     */
+    public OffHeapCompetitorTable() {
+        this(1024);
+    }
+
+    /**
+     * Constructs an empty table sized for the given number of competitors.
+     *
+     * @param expectedSize the number of competitors expected
+     */
+    public OffHeapCompetitorTable(int expectedSize) {
+        int capacity = Math.min(Math.max(16, expectedSize), MAX_ROWS);
+        records = allocate(capacity * RECORD_SIZE);
+        names = allocate(capacity * 32);
+    }
+
+    /**
+     * Builds a table holding every competitor in a repository.
+     *
+     * @param repository the repository to copy from
+     * @return a new table with one row per competitor
+     */
+    public static OffHeapCompetitorTable load(CompetitorRepository repository) {
+        OffHeapCompetitorTable table = new OffHeapCompetitorTable(repository.getTotalNumberOfCompetitors());
+        repository.forEachCompetitor(table::add);
+        return table;
+    }
+
+    /**
+     * Appends a competitor as a new row.
+     *
+     * @param competitor the competitor to add
+     * @throws IllegalStateException if the table is closed or full, or a level, gender or belt color has more than 255 distinct values
+     * @throws IllegalArgumentException if a name part is longer than 32767 bytes
+     */
+    public void add(MRCompetitor competitor) {
+        ensureOpen();
+        Name name = competitor.getName();
+        byte[] first = encode(name == null ? null : name.getFirstName());
+        byte[] middle = encode(name == null ? null : name.getMiddleName());
+        byte[] last = encode(name == null ? null : name.getLastName());
+        int nameLength = 6 + length(first) + length(middle) + length(last);
+
+        long recordsRequired = (long) (size + 1) * RECORD_SIZE;
+        long namesRequired = (long) names.position() + nameLength;
+        if (recordsRequired > Integer.MAX_VALUE || namesRequired > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap competitor table is full (" + size + " rows)");
+        }
+        if (recordsRequired > records.capacity()) {
+            records = grow(records, (int) recordsRequired);
+        }
+        if (namesRequired > names.capacity()) {
+            names = grow(names, (int) namesRequired);
+        }
+
+        int nameOffset = names.position();
+        putName(first);
+        putName(middle);
+        putName(last);
+
+        int base = size * RECORD_SIZE;
+        records.putInt(base + ID, competitor.getCompetitorID());
+        int[] scores = competitor.getScores();
+        for (int i = 0; i < CompetitorRowMapper.SCORE_COLUMNS; i++) {
+            records.putInt(base + SCORES + i * 4, scores != null && i < scores.length ? scores[i] : 0);
+        }
+        records.putDouble(base + OVERALL_SCORE, competitor.getOverallScore());
+        records.put(base + LEVEL, levelDictionary.encode(competitor.getCompetitionLevel()));
+        records.put(base + GENDER, genderDictionary.encode(competitor.getgender()));
+        records.put(base + BELT, beltColorDictionary.encode(competitor.getBelbeltColor()));
+        records.putInt(base + NAME_OFFSET, nameOffset);
+        records.putInt(base + NAME_LENGTH, nameLength);
+        size++;
+    }
+
+    /**
+     * Gets the number of rows in the table.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    /**
+     * Gets the number of off-heap bytes reserved by the table.
+     *
+     * @return the capacity of the record and name areas combined
+     */
+    public long getReservedBytes() {
+        ensureOpen();
+        return (long) records.capacity() + names.capacity();
+    }
+
+    /**
+     * Creates a flyweight positioned at the given row. The same flyweight can be moved
+     * to other rows with {@link Row#moveTo(int)}.
+     *
+     * @param row the row index, from 0 to {@code size() - 1}
+     * @return a {@link Row} pointing at the row
+     */
+    public Row row(int row) {
+        return new Row().moveTo(row);
+    }
+
+    /**
+     * Passes every row to the given callback. A single flyweight is moved from row to
+     * row, so the callback must not keep it after it returns.
+     *
+     * @param action the callback to run for each row
+     */
+    public void forEachRow(Consumer<? super Row> action) {
+        ensureOpen();
+        Row flyweight = new Row();
+        for (int row = 0; row < size; row++) {
+            action.accept(flyweight.moveTo(row));
+        }
+    }
+
+    /**
+     * Finds the row with the highest overall score. Ties go to the lowest ID.
+     *
+     * @return the index of the top row, or -1 if the table is empty
+     */
+    public int findTopPerformerRow() {
+        ensureOpen();
+        int best = -1;
+        double bestScore = 0.0;
+        int bestId = 0;
+        for (int row = 0; row < size; row++) {
+            int base = row * RECORD_SIZE;
+            double score = records.getDouble(base + OVERALL_SCORE);
+            int id = records.getInt(base + ID);
+            if (best < 0 || score > bestScore || (score == bestScore && id < bestId)) {
+                best = row;
+                bestScore = score;
+                bestId = id;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Releases the off-heap buffers. Calling this more than once has no effect.
+     * <p>
+     * Java 11 has no supported way to free a direct buffer immediately, so the memory is
+     * returned once the buffers are garbage collected; dropping them here makes that
+     * possible even while the table object itself is still referenced.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        records = null;
+        names = null;
+        size = 0;
+    }
+
+    /**
+     * The {@code Row} class is a flyweight view of one record. It reads fields straight
+     * from the off-heap buffers and holds no copy of the row.
+     */
+    public class Row {
+
+        private int base;
+        private int row;
+
+        private Row() {
+        }
+
+        /**
+         * Points this flyweight at another row.
+         *
+         * @param row the row index, from 0 to {@code size() - 1}
+         * @return this flyweight
+         * @throws IndexOutOfBoundsException if the row does not exist
+         */
+        public Row moveTo(int row) {
+            ensureOpen();
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Row " + row + " out of range 0.." + (size - 1));
+            }
+            this.row = row;
+            this.base = row * RECORD_SIZE;
+            return this;
+        }
+
+        /**
+         * Gets the index of the current row.
+         *
+         * @return the row index
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * Gets the competitor ID.
+         *
+         * @return the competitor ID
+         */
+        public int getCompetitorID() {
+            ensureOpen();
+            return records.getInt(base + ID);
+        }
+
+        /**
+         * Gets one of the five scores.
+         *
+         * @param index the score index, from 0 to 4
+         * @return the score
+         */
+        public int getScore(int index) {
+            if (index < 0 || index >= CompetitorRowMapper.SCORE_COLUMNS) {
+                throw new IndexOutOfBoundsException("Score index " + index);
+            }
+            ensureOpen();
+            return records.getInt(base + SCORES + index * 4);
+        }
+
+        /**
+         * Gets the overall score.
+         *
+         * @return the overall score
+         */
+        public double getOverallScore() {
+            ensureOpen();
+            return records.getDouble(base + OVERALL_SCORE);
+        }
+
+        /**
+         * Gets the competition level. The value is shared with the table's dictionary,
+         * so no string is created.
+         *
+         * @return the competition level
+         */
+        public String getCompetitionLevel() {
+            ensureOpen();
+            return levelDictionary.decode(records.get(base + LEVEL));
+        }
+
+        /**
+         * Gets the gender. The value is shared with the table's dictionary.
+         *
+         * @return the gender
+         */
+        public String getgender() {
+            ensureOpen();
+            return genderDictionary.decode(records.get(base + GENDER));
+        }
+
+        /**
+         * Gets the belt color. The value is shared with the table's dictionary.
+         *
+         * @return the belt color
+         */
+        public String getBelbeltColor() {
+            ensureOpen();
+            return beltColorDictionary.decode(records.get(base + BELT));
+        }
+
+        /**
+         * Gets the first name, decoded from the name area.
+         *
+         * @return the first name
+         */
+        public String getFirstName() {
+            return readName(0);
+        }
+
+        /**
+         * Gets the middle name, decoded from the name area.
+         *
+         * @return the middle name
+         */
+        public String getMiddleName() {
+            return readName(1);
+        }
+
+        /**
+         * Gets the last name, decoded from the name area.
+         *
+         * @return the last name
+         */
+        public String getLastName() {
+            return readName(2);
+        }
+
+        /**
+         * Builds an {@link MRCompetitor} from this row.
+         *
+         * @return a new competitor with the row's values
+         */
+        public MRCompetitor toCompetitor() {
+            int[] scores = new int[CompetitorRowMapper.SCORE_COLUMNS];
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = getScore(i);
+            }
+            return new MRCompetitor(getCompetitorID(), new Name(getFirstName(), getMiddleName(), getLastName()),
+                    getCompetitionLevel(), getgender(), getBelbeltColor(), scores, getOverallScore());
+        }
+
+        /**
+         * Decodes one part of the row's name.
+         *
+         * @param part 0 for the first name, 1 for the middle name, 2 for the last name
+         * @return the name part
+         */
+        private String readName(int part) {
+            ensureOpen();
+            int position = records.getInt(base + NAME_OFFSET);
+            for (int i = 0; i < part; i++) {
+                short length = names.getShort(position);
+                position += 2 + (length == NULL_LENGTH ? 0 : length);
+            }
+            short length = names.getShort(position);
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            ByteBuffer view = names.duplicate();
+            view.position(position + 2);
+            view.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Writes a length-prefixed name part at the end of the name area.
+     *
+     * @param bytes the encoded name part, or {@code null}
+     */
+    private void putName(byte[] bytes) {
+        if (bytes == null) {
+            names.putShort(NULL_LENGTH);
+        } else {
+            names.putShort((short) bytes.length);
+            names.put(bytes);
+        }
+    }
+
+    /**
+     * Encodes a name part as UTF-8.
+     *
+     * @param text the name part, possibly {@code null}
+     * @return the encoded bytes, or {@code null}
+     * @throws IllegalArgumentException if the name part is longer than 32767 bytes
+     */
+    private static byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Name is too long (at most " + Short.MAX_VALUE + " bytes)");
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the length of an encoded name part.
+     *
+     * @param bytes the encoded bytes, or {@code null}
+     * @return the number of bytes
+     */
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    /**
+     * Allocates a direct buffer in native byte order.
+     *
+     * @param capacity the buffer size in bytes
+     * @return the new buffer
+     */
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Copies a buffer into a larger one, at least doubling its capacity.
+     *
+     * @param buffer the buffer to grow
+     * @param required the minimum new capacity
+     * @return the new buffer, with the same position as the old one
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, int required) {
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(required, (long) buffer.capacity() * 2));
+        ByteBuffer grown = allocate(capacity);
+        int position = buffer.position();
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        grown.put(source);
+        grown.position(position);
+        return grown;
+    }
+
+    /**
+     * Checks that the table has not been closed.
+     *
+     * @throws IllegalStateException if the table is closed
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Off-heap competitor table is closed");
+        }
+    }
+}
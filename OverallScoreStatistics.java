@@ -0,0 +1,144 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * The {@code OverallScoreStatistics} class holds exact distribution figures for a set of
+ * overall scores: count, minimum, maximum, mean, standard deviation and any percentile.
+ * The scores are kept sorted in a primitive {@code double[]}, so a percentile is a single
+ * array lookup. Use {@link QuantileSketch} instead when the scores do not fit in memory
+ * or are counted in separate places.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class OverallScoreStatistics {
+
+    private final double[] sorted;
+    private final double mean;
+    private final double standardDeviation;
+
+    /**
+     * Constructs statistics from sorted scores.
+     *
+     * @param sorted the scores in ascending order; not copied
+     */
+    private OverallScoreStatistics(double[] sorted) {
+        this.sorted = sorted;
+        // Welford's method keeps the variance accurate when the scores are large and close together
+        double runningMean = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            double delta = sorted[i] - runningMean;
+            runningMean += delta / (i + 1);
+            sumOfSquares += delta * (sorted[i] - runningMean);
+        }
+        this.mean = sorted.length == 0 ? Double.NaN : runningMean;
+        this.standardDeviation = sorted.length == 0 ? Double.NaN : Math.sqrt(sumOfSquares / sorted.length);
+    }
+
+    /**
+     * Computes statistics for the first {@code count} entries of an array.
+     *
+     * @param scores the overall scores; not changed
+     * @param count the number of entries to use
+     * @return the statistics
+     */
+    public static OverallScoreStatistics of(double[] scores, int count) {
+        double[] sorted = Arrays.copyOf(scores, count);
+        Arrays.sort(sorted);
+        return new OverallScoreStatistics(sorted);
+    }
+
+    /**
+     * Computes statistics for every entry of an array.
+     *
+     * @param scores the overall scores; not changed
+     * @return the statistics
+     */
+    public static OverallScoreStatistics of(double[] scores) {
+        return of(scores, scores.length);
+    }
+
+    /**
+     * Gets the number of scores.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return sorted.length;
+    }
+
+    /**
+     * Gets the lowest score.
+     *
+     * @return the minimum, or {@code NaN} if there are no scores
+     */
+    public double getMin() {
+        return sorted.length == 0 ? Double.NaN : sorted[0];
+    }
+
+    /**
+     * Gets the highest score.
+     *
+     * @return the maximum, or {@code NaN} if there are no scores
+     */
+    public double getMax() {
+        return sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1];
+    }
+
+    /**
+     * Gets the mean score.
+     *
+     * @return the mean, or {@code NaN} if there are no scores
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the population standard deviation of the scores.
+     *
+     * @return the standard deviation, or {@code NaN} if there are no scores
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * Gets a percentile, interpolating linearly between the two nearest scores.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the score at that percentile, or {@code NaN} if there are no scores
+     */
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        double position = percentile / 100 * (sorted.length - 1);
+        int lower = (int) position;
+        if (lower == sorted.length - 1) {
+            return sorted[lower];
+        }
+        double fraction = position - lower;
+        return sorted[lower] + fraction * (sorted[lower + 1] - sorted[lower]);
+    }
+
+    /**
+     * Gets the median score.
+     *
+     * @return the 50th percentile, or {@code NaN} if there are no scores
+     */
+    public double getMedian() {
+        return getPercentile(50);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, min=%.2f, median=%.2f, p90=%.2f, max=%.2f, mean=%.2f, stddev=%.2f",
+                getCount(), getMin(), getMedian(), getPercentile(90), getMax(), getMean(), getStandardDeviation());
+    }
+}
@@ -0,0 +1,394 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code ParallelAggregator} class computes the figures of a summary report over an
+ * in-memory roster in one parallel pass: the frequency of every judge score, the top
+ * {@code N} competitors, and the count, mean and best overall score of every division
+ * (level, gender and belt color).
+ * <p>
+ * The roster is split into partitions on a {@link ForkJoinPool}. Each partition fills
+ * its own accumulator of primitive counters, a {@link ScoreHistogram} and a bounded heap,
+ * so the threads share nothing while they run, and the accumulators are merged pairwise
+ * as the tasks join. The work therefore scales with the number of cores.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ParallelAggregator {
+
+    /**
+     * Partitions smaller than this are not split any further.
+     */
+    private static final int MIN_PARTITION_SIZE = 4096;
+
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Constructs an aggregator that runs on the common fork-join pool.
+     */
+    public ParallelAggregator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an aggregator that runs on the given pool.
+     *
+     * @param forkJoinPool the pool that runs the partitions
+     */
+    public ParallelAggregator(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Aggregates a roster. The competitors must not be changed while this runs.
+     *
+     * @param competitors the roster
+     * @param topN the number of best competitors to keep
+     * @return the aggregated figures
+     */
+    public Result aggregate(List<MRCompetitor> competitors, int topN) {
+        List<MRCompetitor> roster = competitors instanceof RandomAccess ? competitors : new ArrayList<>(competitors);
+        int partitions = forkJoinPool.getParallelism() * 8;
+        int threshold = Math.max(MIN_PARTITION_SIZE, roster.size() / partitions);
+        Accumulator accumulator = forkJoinPool.invoke(new AggregateTask(roster, 0, roster.size(), topN, threshold));
+        return new Result(roster, accumulator);
+    }
+
+    /**
+     * Aggregates one range of the roster, splitting it in half until it is small enough.
+     */
+    private static final class AggregateTask extends RecursiveTask<Accumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<MRCompetitor> roster;
+        private final int from;
+        private final int to;
+        private final int topN;
+        private final int threshold;
+
+        private AggregateTask(List<MRCompetitor> roster, int from, int to, int topN, int threshold) {
+            this.roster = roster;
+            this.from = from;
+            this.to = to;
+            this.topN = topN;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= threshold) {
+                Accumulator accumulator = new Accumulator(roster, topN);
+                for (int row = from; row < to; row++) {
+                    accumulator.add(row);
+                }
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask right = new AggregateTask(roster, middle, to, topN, threshold);
+            right.fork();
+            Accumulator left = new AggregateTask(roster, from, middle, topN, threshold).compute();
+            left.merge(right.join());
+            return left;
+        }
+    }
+
+    /**
+     * Running totals for one division.
+     */
+    private static final class DivisionTotals {
+
+        int count;
+        double sum;
+        double max = Double.NEGATIVE_INFINITY;
+
+        void add(double overallScore) {
+            count++;
+            sum += overallScore;
+            max = Math.max(max, overallScore);
+        }
+
+        void merge(DivisionTotals other) {
+            count += other.count;
+            sum += other.sum;
+            max = Math.max(max, other.max);
+        }
+    }
+
+    /**
+     * The totals of one partition. Divisions are looked up level by level in nested
+     * maps, so no key object is allocated per competitor.
+     */
+    private static final class Accumulator {
+
+        private final List<MRCompetitor> roster;
+        private final ScoreHistogram histogram = new ScoreHistogram();
+        private final Map<String, Map<String, Map<String, DivisionTotals>>> divisions = new HashMap<>();
+        private final TopHeap top;
+        private int count;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        Accumulator(List<MRCompetitor> roster, int topN) {
+            this.roster = roster;
+            this.top = new TopHeap(roster, topN);
+        }
+
+        void add(int row) {
+            MRCompetitor competitor = roster.get(row);
+            double overallScore = competitor.getOverallScore();
+            int[] scores = competitor.getScores();
+            if (scores != null) {
+                histogram.addAll(scores);
+            }
+            divisions.computeIfAbsent(competitor.getCompetitionLevel(), key -> new HashMap<>())
+                    .computeIfAbsent(competitor.getgender(), key -> new HashMap<>())
+                    .computeIfAbsent(competitor.getBelbeltColor(), key -> new DivisionTotals())
+                    .add(overallScore);
+            top.offer(row, overallScore);
+            count++;
+            max = Math.max(max, overallScore);
+        }
+
+        void merge(Accumulator other) {
+            histogram.merge(other.histogram);
+            other.divisions.forEach((level, genders) -> genders.forEach((gender, belts) -> belts.forEach((belt, totals) ->
+                    divisions.computeIfAbsent(level, key -> new HashMap<>())
+                            .computeIfAbsent(gender, key -> new HashMap<>())
+                            .computeIfAbsent(belt, key -> new DivisionTotals())
+                            .merge(totals))));
+            for (int i = 0; i < other.top.size; i++) {
+                top.offer(other.top.rows[i], other.top.scores[i]);
+            }
+            count += other.count;
+            max = Math.max(max, other.max);
+        }
+    }
+
+    /**
+     * A min-heap of roster rows that keeps the best {@code capacity} rows seen. The worst
+     * kept row sits at the root, so a better row replaces it in O(log capacity).
+     */
+    private static final class TopHeap {
+
+        private final List<MRCompetitor> roster;
+        private final int capacity;
+        private final int[] rows;
+        private final double[] scores;
+        private int size;
+
+        TopHeap(List<MRCompetitor> roster, int capacity) {
+            this.roster = roster;
+            this.capacity = Math.max(0, capacity);
+            this.rows = new int[this.capacity];
+            this.scores = new double[this.capacity];
+        }
+
+        void offer(int row, double score) {
+            if (size < capacity) {
+                rows[size] = row;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (capacity > 0 && isBetter(row, score, rows[0], scores[0])) {
+                rows[0] = row;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Compares two rows by overall score, with ties going to the lower competitor ID.
+         *
+         * @return {@code true} if the first row ranks above the second
+         */
+        boolean isBetter(int row, double score, int otherRow, double otherScore) {
+            int cmp = Double.compare(score, otherScore);
+            if (cmp != 0) {
+                return cmp > 0;
+            }
+            return roster.get(row).getCompetitorID() < roster.get(otherRow).getCompetitorID();
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!isBetter(rows[parent], scores[parent], rows[i], scores[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int worst = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (isBetter(rows[worst], scores[worst], rows[child], scores[child])) {
+                        worst = child;
+                    }
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    /**
+     * The {@code Result} class holds the figures computed by one aggregation.
+     */
+    public static class Result {
+
+        private final int totalCompetitors;
+        private final double maxOverallScore;
+        private final ScoreHistogram scoreHistogram;
+        private final List<MRCompetitor> topCompetitors;
+        private final Map<DivisionLeaderboards.Division, DivisionTotals> divisions = new HashMap<>();
+
+        private Result(List<MRCompetitor> roster, Accumulator accumulator) {
+            this.totalCompetitors = accumulator.count;
+            this.maxOverallScore = accumulator.count == 0 ? 0.0 : accumulator.max;
+            this.scoreHistogram = accumulator.histogram;
+            accumulator.divisions.forEach((level, genders) -> genders.forEach((gender, belts) -> belts.forEach((belt, totals) ->
+                    divisions.put(new DivisionLeaderboards.Division(level, gender, belt), totals))));
+
+            TopHeap top = accumulator.top;
+            Integer[] order = new Integer[top.size];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> top.isBetter(top.rows[a], top.scores[a], top.rows[b], top.scores[b]) ? -1
+                    : top.isBetter(top.rows[b], top.scores[b], top.rows[a], top.scores[a]) ? 1 : 0);
+            List<MRCompetitor> best = new ArrayList<>(order.length);
+            for (int i : order) {
+                best.add(roster.get(top.rows[i]));
+            }
+            this.topCompetitors = Collections.unmodifiableList(best);
+        }
+
+        /**
+         * Gets the number of competitors aggregated.
+         *
+         * @return the number of competitors
+         */
+        public int getTotalCompetitors() {
+            return totalCompetitors;
+        }
+
+        /**
+         * Gets the highest overall score.
+         *
+         * @return the highest overall score, or 0.0 if the roster was empty
+         */
+        public double getMaxOverallScore() {
+            return maxOverallScore;
+        }
+
+        /**
+         * Gets how often each judge score was given.
+         *
+         * @return the {@link ScoreHistogram}
+         */
+        public ScoreHistogram getScoreHistogram() {
+            return scoreHistogram;
+        }
+
+        /**
+         * Gets the best competitors.
+         *
+         * @return up to {@code topN} competitors, best first, with ties going to the lower ID
+         */
+        public List<MRCompetitor> getTopCompetitors() {
+            return topCompetitors;
+        }
+
+        /**
+         * Gets the divisions that have at least one competitor.
+         *
+         * @return an unmodifiable view of the divisions
+         */
+        public Set<DivisionLeaderboards.Division> getDivisions() {
+            return Collections.unmodifiableSet(divisions.keySet());
+        }
+
+        /**
+         * Gets the number of competitors in a division.
+         *
+         * @param division the division
+         * @return the count, or 0 if the division has no competitors
+         */
+        public int getDivisionCount(DivisionLeaderboards.Division division) {
+            DivisionTotals totals = divisions.get(division);
+            return totals == null ? 0 : totals.count;
+        }
+
+        /**
+         * Gets the mean overall score of a division.
+         *
+         * @param division the division
+         * @return the mean, or {@code NaN} if the division has no competitors
+         */
+        public double getDivisionMean(DivisionLeaderboards.Division division) {
+            DivisionTotals totals = divisions.get(division);
+            return totals == null ? Double.NaN : totals.sum / totals.count;
+        }
+
+        /**
+         * Gets the highest overall score in a division.
+         *
+         * @param division the division
+         * @return the highest score, or {@code NaN} if the division has no competitors
+         */
+        public double getDivisionMax(DivisionLeaderboards.Division division) {
+            DivisionTotals totals = divisions.get(division);
+            return totals == null ? Double.NaN : totals.max;
+        }
+
+        /**
+         * Builds the statistical summary shown by {@link Manager#displayStatisticalSummary()},
+         * combining the divisions of each level. Competitors without a level are counted
+         * under {@code "Unknown"}.
+         *
+         * @return the {@link ScoreSummary}
+         */
+        public ScoreSummary toScoreSummary() {
+            ScoreSummary summary = new ScoreSummary();
+            summary.setTotalCompetitors(totalCompetitors);
+            summary.setMaxOverallScore(Math.max(0.0, maxOverallScore));
+            for (Map.Entry<Integer, Integer> entry : scoreHistogram.toMap().entrySet()) {
+                summary.putScoreFrequency(entry.getKey(), entry.getValue());
+            }
+            Map<String, DivisionTotals> levels = new TreeMap<>();
+            divisions.forEach((division, totals) -> levels.computeIfAbsent(
+                    division.getLevel() == null ? "Unknown" : division.getLevel(), key -> new DivisionTotals()).merge(totals));
+            for (Map.Entry<String, DivisionTotals> entry : levels.entrySet()) {
+                DivisionTotals totals = entry.getValue();
+                summary.putLevel(entry.getKey(), totals.count, totals.sum / totals.count);
+            }
+            return summary;
+        }
+    }
+}
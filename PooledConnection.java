@@ -0,0 +1,143 @@
+package Main;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code PooledConnection} class wraps a {@link Connection} borrowed from a
+ * {@link ConnectionPool}. Closing it returns the connection to the pool instead of
+ * closing the physical connection, so it can be used with try-with-resources.
+ * <p>
+ * Each connection keeps a small cache of prepared statements keyed by their SQL
+ * text, so statements that are run again and again are only prepared once per
+ * connection.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class PooledConnection implements AutoCloseable {
+
+    /**
+     * Maximum number of prepared statements cached per connection.
+     */
+    public static final int STATEMENT_CACHE_SIZE = 32;
+
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private long lastUsed;
+
+    /**
+     * Whether the current borrower has already given the connection back.
+     */
+    private final AtomicBoolean returned = new AtomicBoolean();
+
+    /**
+     * Prepared statements by SQL text, least recently used first.
+     */
+    private final Map<String, PreparedStatement> statementCache =
+            new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > STATEMENT_CACHE_SIZE) {
+                        closeQuietly(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+
+    /**
+     * Constructs a {@code PooledConnection} owned by the given pool.
+     *
+     * @param pool the pool this connection belongs to
+     * @param connection the physical JDBC connection
+     */
+    PooledConnection(ConnectionPool pool, Connection connection) {
+        this.pool = pool;
+        this.connection = connection;
+        touch();
+    }
+
+    /**
+     * Gets the underlying JDBC connection. It must not be closed directly.
+     *
+     * @return the {@link Connection} object
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing a cached one when this
+     * connection has prepared the same SQL before. The statement belongs to the cache:
+     * callers must close the result sets they open but must not close the statement.
+     *
+     * @param sql the SQL text of the statement
+     * @return a {@link PreparedStatement} ready to have its parameters set
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statementCache.get(sql);
+        if (statement != null && !statement.isClosed()) {
+            pool.recordStatementCacheHit();
+            statement.clearParameters();
+            return statement;
+        }
+
+        pool.recordStatementCacheMiss();
+        statement = connection.prepareStatement(sql);
+        statementCache.put(sql, statement);
+        return statement;
+    }
+
+    /**
+     * Closes a cached statement without reporting errors.
+     *
+     * @param statement the statement to close
+     */
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // The statement is being discarded anyway
+        }
+    }
+
+    /**
+     * Gets the time this connection was last returned to the pool.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    /**
+     * Marks the connection as handed out to a new borrower.
+     */
+    void markBorrowed() {
+        returned.set(false);
+    }
+
+    /**
+     * Records that the connection has just been used.
+     */
+    void touch() {
+        lastUsed = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the connection to its pool. Closing it again before it is borrowed
+     * anew has no effect, so the pool never gets the same connection back twice.
+     */
+    @Override
+    public void close() {
+        if (returned.compareAndSet(false, true)) {
+            pool.release(this);
+        }
+    }
+}
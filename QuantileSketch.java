@@ -0,0 +1,205 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * The {@code QuantileSketch} class estimates quantiles of a large set of non-negative
+ * values, such as overall scores, in a small fixed amount of memory. It follows the
+ * DDSketch design: values are counted in logarithmic buckets whose bounds grow by a factor
+ * of {@code (1 + a) / (1 - a)}, so every quantile it returns is within a relative error of
+ * {@code a} of the true value. Sketches built with the same accuracy can be merged
+ * exactly, so parts of the roster can be sketched on separate threads or machines and
+ * combined. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class QuantileSketch {
+
+    /**
+     * Values at or below this are counted as zero.
+     */
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private int offset;
+    private long[] buckets = new long[0];
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double sum;
+
+    /**
+     * Constructs an empty sketch.
+     *
+     * @param relativeAccuracy the largest relative error allowed, for example {@code 0.01} for 1%
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Gets the relative accuracy the sketch was built with.
+     *
+     * @return the relative accuracy
+     */
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     * @throws IllegalArgumentException if the value is negative or not a number
+     */
+    public void add(double value) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Only finite non-negative values can be sketched: " + value);
+        }
+        if (value <= MIN_INDEXABLE_VALUE) {
+            zeroCount++;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / logGamma);
+            ensureCovers(index);
+            buckets[index - offset]++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of another sketch to this one.
+     *
+     * @param other the sketch to merge in
+     * @throws IllegalArgumentException if the sketches were built with different accuracies
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracies");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (other.buckets.length > 0) {
+            ensureCovers(other.offset);
+            ensureCovers(other.offset + other.buckets.length - 1);
+            for (int i = 0; i < other.buckets.length; i++) {
+                buckets[other.offset + i - offset] += other.buckets[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param quantile the quantile, from 0 to 1, for example {@code 0.5} for the median
+     * @return the estimate, or {@code NaN} if the sketch is empty
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0.0;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (rank < seen) {
+                // The midpoint of the bucket in relative terms keeps the error within the accuracy
+                double estimate = 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of values added.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the exact mean of the values added.
+     *
+     * @return the mean, or {@code NaN} if the sketch is empty
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Gets the exact lowest value added.
+     *
+     * @return the minimum, or {@code NaN} if the sketch is empty
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Gets the exact highest value added.
+     *
+     * @return the maximum, or {@code NaN} if the sketch is empty
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Widens the bucket array so that it includes a bucket index.
+     *
+     * @param index the bucket index to cover
+     */
+    private void ensureCovers(int index) {
+        if (buckets.length == 0) {
+            offset = index;
+            buckets = new long[16];
+            return;
+        }
+        if (index >= offset && index < offset + buckets.length) {
+            return;
+        }
+        int low = Math.min(offset, index);
+        int high = Math.max(offset + buckets.length - 1, index);
+        int length = Math.max(high - low + 1, buckets.length + (buckets.length >> 1));
+        if (low < offset) {
+            low = high - length + 1;
+        }
+        long[] grown = new long[length];
+        System.arraycopy(buckets, 0, grown, offset - low, buckets.length);
+        buckets = grown;
+        offset = low;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{count=" + count + ", accuracy=" + relativeAccuracy
+                + ", buckets=" + Arrays.stream(buckets).filter(b -> b != 0).count() + "}";
+    }
+}
@@ -0,0 +1,153 @@
+package Main;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code RankIndex} class answers "what place am I?" for every competitor. It keeps
+ * the roster in a {@link ScoreOrderTree}, so rank lookups, the competitor at a given place
+ * and range queries all run in O(log n) (plus the size of the answer) however large the
+ * roster grows.
+ * <p>
+ * Two ranks are offered for tied scores. The competition rank counts everyone who scored
+ * higher, so two competitors tied for second are followed by fourth place ("1224"). The
+ * dense rank counts only the different higher scores ("1223"). Positions, as used by
+ * {@link #getCompetitorAtRank(int)}, list tied competitors by ascending ID.
+ * <p>
+ * Register it with {@link Manager#addChangeListener} to keep it current. All methods are
+ * thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class RankIndex implements CompetitorChangeListener {
+
+    /**
+     * A private copy of a competitor together with the score it is filed under. The copy
+     * is never handed out, so changing a competitor cannot move it in the standings.
+     */
+    private static final class Entry {
+
+        final double overallScore;
+        final MRCompetitor competitor;
+
+        Entry(MRCompetitor competitor) {
+            this.competitor = competitor.copy();
+            this.overallScore = this.competitor.getOverallScore();
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ScoreOrderTree tree = new ScoreOrderTree();
+
+    @Override
+    public synchronized void competitorSaved(MRCompetitor competitor) {
+        int id = competitor.getCompetitorID();
+        Entry entry = new Entry(competitor);
+        Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            tree.remove(id, previous.overallScore);
+        }
+        tree.add(id, entry.overallScore);
+    }
+
+    @Override
+    public synchronized void competitorDeleted(int competitorID) {
+        Entry previous = entries.remove(competitorID);
+        if (previous != null) {
+            tree.remove(competitorID, previous.overallScore);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        tree.clear();
+    }
+
+    /**
+     * Gets the number of ranked competitors.
+     *
+     * @return the number of competitors
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the competition rank of a competitor: one more than the number of competitors
+     * with a higher overall score.
+     *
+     * @param competitorID the competitor ID
+     * @return the rank, starting at 1, or -1 if the competitor is not ranked
+     */
+    public synchronized int getRank(int competitorID) {
+        Entry entry = entries.get(competitorID);
+        return entry == null ? -1 : tree.countGreater(entry.overallScore) + 1;
+    }
+
+    /**
+     * Gets the dense rank of a competitor: one more than the number of different overall
+     * scores higher than theirs.
+     *
+     * @param competitorID the competitor ID
+     * @return the rank, starting at 1, or -1 if the competitor is not ranked
+     */
+    public synchronized int getDenseRank(int competitorID) {
+        Entry entry = entries.get(competitorID);
+        return entry == null ? -1 : tree.countDistinctGreater(entry.overallScore) + 1;
+    }
+
+    /**
+     * Gets the competitor at a place in the standings.
+     *
+     * @param position the place, starting at 1
+     * @return a copy of the competitor, or {@code null} if there is no such place
+     */
+    public synchronized MRCompetitor getCompetitorAtRank(int position) {
+        if (position < 1 || position > tree.size()) {
+            return null;
+        }
+        return entries.get(tree.idAt(position - 1)).competitor.copy();
+    }
+
+    /**
+     * Gets the competitors at a range of places in the standings.
+     *
+     * @param fromPosition the first place, starting at 1
+     * @param toPosition the last place, inclusive
+     * @return copies of the competitors, best first
+     */
+    public synchronized List<MRCompetitor> getCompetitorsByRank(int fromPosition, int toPosition) {
+        List<MRCompetitor> result = new ArrayList<>();
+        tree.forEachInRange(fromPosition - 1, toPosition, id -> result.add(entries.get(id).competitor.copy()));
+        return result;
+    }
+
+    /**
+     * Gets the competitors whose overall score lies in a range.
+     *
+     * @param minScore the lowest score, inclusive
+     * @param maxScore the highest score, inclusive
+     * @return copies of the competitors, best first
+     */
+    public synchronized List<MRCompetitor> getCompetitorsInScoreRange(double minScore, double maxScore) {
+        List<MRCompetitor> result = new ArrayList<>();
+        tree.forEachInRange(tree.countGreater(maxScore), tree.countAtLeast(minScore),
+                id -> result.add(entries.get(id).competitor.copy()));
+        return result;
+    }
+
+    /**
+     * Counts the competitors whose overall score lies in a range.
+     *
+     * @param minScore the lowest score, inclusive
+     * @param maxScore the highest score, inclusive
+     * @return the number of competitors
+     */
+    public synchronized int countInScoreRange(double minScore, double maxScore) {
+        return Math.max(0, tree.countAtLeast(minScore) - tree.countGreater(maxScore));
+    }
+}
@@ -0,0 +1,346 @@
+package Main;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * The {@code RescoringJob} class recomputes the stored {@code overallScore} of every
+ * competitor, for example after the scoring rule has changed or rows were edited
+ * outside the application. The table is streamed through a server-side cursor in
+ * chunks of {@link #CHUNK_SIZE} rows. Each chunk is scored in parallel on a
+ * {@link ForkJoinPool}, and only the rows whose score changed are written back in JDBC
+ * batches on a second connection while the next chunk is being read.
+ * <p>
+ * Progress is reported after every chunk, by default to {@code System.out}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class RescoringJob {
+
+    /**
+     * Number of rows read and scored together.
+     */
+    public static final int CHUNK_SIZE = 20_000;
+
+    /**
+     * Number of rows scored by one fork-join task before it stops splitting.
+     */
+    private static final int SPLIT_THRESHOLD = 2048;
+
+    /**
+     * Stored scores within this distance of the recomputed score are left alone.
+     */
+    private static final double EPSILON = 1e-9;
+
+    private static final String SELECT_SCORES_SQL =
+            "SELECT competitorID, score1, score2, score3, score4, score5, overallScore FROM mrcompetitors";
+
+    private final CompetitorDB db;
+    private final ScoringEngine engine;
+    private final ForkJoinPool forkJoinPool;
+    private Consumer<Result> progressListener = progress -> System.out.println(progress);
+
+    /**
+     * Constructs a job that scores on the common fork-join pool.
+     *
+     * @param db the database whose competitors are rescored
+     * @param engine the engine that computes the new overall scores
+     */
+    public RescoringJob(CompetitorDB db, ScoringEngine engine) {
+        this(db, engine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a job that scores on the given fork-join pool.
+     *
+     * @param db the database whose competitors are rescored
+     * @param engine the engine that computes the new overall scores
+     * @param forkJoinPool the pool that runs the scoring tasks
+     */
+    public RescoringJob(CompetitorDB db, ScoringEngine engine, ForkJoinPool forkJoinPool) {
+        this.db = db;
+        this.engine = engine;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Sets the callback that receives the running totals after every chunk.
+     *
+     * @param progressListener the progress callback
+     */
+    public void setProgressListener(Consumer<Result> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Rescores every competitor and writes back the changed scores.
+     *
+     * @return the totals of the run; {@link Result#isComplete()} is {@code false} if reading or writing failed
+     */
+    public Result run() {
+        Result result = new Result(System.nanoTime());
+        ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "rescoring-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+        try (PooledConnection pooled = db.getConnection();
+             PreparedStatement statement = pooled.getConnection().prepareStatement(SELECT_SCORES_SQL,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(CompetitorDB.STREAM_FETCH_SIZE);
+            try (ResultSet rs = statement.executeQuery()) {
+                int judges = CompetitorRowMapper.SCORE_COLUMNS;
+                boolean more = true;
+                while (more) {
+                    Chunk chunk = new Chunk(CHUNK_SIZE, judges);
+                    more = chunk.read(rs);
+                    if (chunk.rows == 0) {
+                        break;
+                    }
+
+                    forkJoinPool.invoke(new ScoreTask(chunk, 0, chunk.rows));
+                    int changed = chunk.collectChanged();
+
+                    // Keep at most one write in flight so memory stays bounded
+                    pendingWrite.join();
+                    result.addScanned(chunk.rows, changed);
+                    if (!result.isComplete()) {
+                        break;
+                    }
+                    pendingWrite = CompletableFuture.runAsync(() -> {
+                        if (changed > 0) {
+                            int written = db.updateOverallScores(chunk.changedIds, chunk.changedScores, changed, CompetitorDB.DEFAULT_BATCH_SIZE);
+                            result.addWritten(written);
+                        }
+                        progressListener.accept(result);
+                    }, writer);
+                }
+            }
+            pendingWrite.join();
+        } catch (SQLException e) {
+            System.err.println("Error rescoring competitors: " + e.getMessage());
+            pendingWrite.join();
+            result.fail();
+        } finally {
+            writer.shutdown();
+        }
+
+        result.finish();
+        return result;
+    }
+
+    /**
+     * One chunk of rows: the IDs, the scores as a row-major matrix, and the stored and
+     * recomputed overall scores.
+     */
+    private final class Chunk {
+
+        private final int judges;
+        private final int[] ids;
+        private final int[] matrix;
+        private final double[] stored;
+        private final double[] rescored;
+        private int[] changedIds;
+        private double[] changedScores;
+        private int rows;
+
+        private Chunk(int capacity, int judges) {
+            this.judges = judges;
+            this.ids = new int[capacity];
+            this.matrix = new int[capacity * judges];
+            this.stored = new double[capacity];
+            this.rescored = new double[capacity];
+        }
+
+        /**
+         * Reads rows from the cursor until the chunk is full.
+         *
+         * @param rs the open cursor
+         * @return {@code true} if the cursor may have more rows
+         * @throws SQLException if a row cannot be read
+         */
+        private boolean read(ResultSet rs) throws SQLException {
+            while (rows < ids.length) {
+                if (!rs.next()) {
+                    return false;
+                }
+                ids[rows] = rs.getInt(1);
+                int offset = rows * judges;
+                for (int i = 0; i < judges; i++) {
+                    matrix[offset + i] = rs.getInt(2 + i);
+                }
+                double overall = rs.getDouble(2 + judges);
+                stored[rows] = rs.wasNull() ? Double.NaN : overall;
+                rows++;
+            }
+            return true;
+        }
+
+        /**
+         * Gathers the rows whose recomputed score differs from the stored one.
+         *
+         * @return the number of changed rows
+         */
+        private int collectChanged() {
+            int changed = 0;
+            for (int row = 0; row < rows; row++) {
+                if (Double.isNaN(stored[row]) || Math.abs(rescored[row] - stored[row]) > EPSILON) {
+                    changed++;
+                }
+            }
+            changedIds = new int[changed];
+            changedScores = new double[changed];
+            int next = 0;
+            for (int row = 0; row < rows; row++) {
+                if (Double.isNaN(stored[row]) || Math.abs(rescored[row] - stored[row]) > EPSILON) {
+                    changedIds[next] = ids[row];
+                    changedScores[next] = rescored[row];
+                    next++;
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Scores a range of a chunk's rows, splitting it in half until it is small enough.
+     */
+    private final class ScoreTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+
+        private ScoreTask(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                ScoringRule rule = engine.getRule();
+                int[] scratch = new int[chunk.judges];
+                for (int row = from; row < to; row++) {
+                    chunk.rescored[row] = rule.score(chunk.matrix, row * chunk.judges, chunk.judges, scratch);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(chunk, from, middle), new ScoreTask(chunk, middle, to));
+        }
+    }
+
+    /**
+     * The {@code Result} class holds the running totals of a rescoring run.
+     */
+    public static class Result {
+
+        private final long startNanos;
+        private volatile long endNanos;
+        private volatile long scanned;
+        private volatile long changed;
+        private volatile long written;
+        private volatile boolean complete = true;
+
+        private Result(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private synchronized void addScanned(int rows, int changedRows) {
+            scanned += rows;
+            changed += changedRows;
+        }
+
+        private synchronized void addWritten(int rows) {
+            if (rows < 0) {
+                complete = false;
+            } else {
+                written += rows;
+            }
+        }
+
+        private void fail() {
+            complete = false;
+        }
+
+        private void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        /**
+         * Gets the number of rows read and rescored.
+         *
+         * @return the number of rows scanned
+         */
+        public long getScanned() {
+            return scanned;
+        }
+
+        /**
+         * Gets the number of rows whose overall score changed.
+         *
+         * @return the number of changed rows
+         */
+        public long getChanged() {
+            return changed;
+        }
+
+        /**
+         * Gets the number of changed rows written back.
+         *
+         * @return the number of rows written
+         */
+        public long getWritten() {
+            return written;
+        }
+
+        /**
+         * Checks whether the run read and wrote every row without error.
+         *
+         * @return {@code true} if no error occurred
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * Gets the time spent so far, or the total time once the run has finished.
+         *
+         * @return the elapsed time in milliseconds
+         */
+        public long getElapsedMillis() {
+            long end = endNanos == 0 ? System.nanoTime() : endNanos;
+            return (end - startNanos) / 1_000_000;
+        }
+
+        /**
+         * Gets the number of rows scanned per second.
+         *
+         * @return the throughput
+         */
+        public double getRowsPerSecond() {
+            long millis = getElapsedMillis();
+            return millis == 0 ? scanned : scanned * 1000.0 / millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Rescored %d rows, %d changed, %d written in %d ms (%.0f rows/s)%s",
+                    scanned, changed, written, getElapsedMillis(), getRowsPerSecond(), complete ? "" : " - incomplete");
+        }
+    }
+}
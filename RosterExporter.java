@@ -0,0 +1,170 @@
+package Main;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code RosterExporter} class writes every competitor to a roster file in one of the
+ * {@link RosterFormat formats}. The ID space is split into ranges that are read and
+ * encoded in parallel, each into its own part file, and the parts are then joined in ID
+ * order with {@link FileChannel#transferTo}. Every range is streamed, so the full table
+ * is never held in memory.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class RosterExporter {
+
+    /**
+     * Ranges smaller than this are not worth a thread of their own.
+     */
+    private static final int MIN_RANGE_SIZE = 10_000;
+
+    private final CompetitorRepository repository;
+    private final int parallelism;
+
+    /**
+     * Constructs a {@code RosterExporter}.
+     *
+     * @param repository the repository to export from
+     * @param parallelism the number of ID ranges to export at the same time
+     */
+    public RosterExporter(CompetitorRepository repository, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.repository = repository;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Constructs a {@code RosterExporter} that uses one thread per available processor.
+     *
+     * @param repository the repository to export from
+     */
+    public RosterExporter(CompetitorRepository repository) {
+        this(repository, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Exports every competitor, in ascending ID order, to a file. An existing file is
+     * replaced.
+     *
+     * @param target the file to write
+     * @param format the format to write
+     * @return the number of competitors written
+     * @throws IOException if a file cannot be written
+     */
+    public long export(Path target, RosterFormat format) throws IOException {
+        int maxId = repository.getMaxCompetitorID();
+        int ranges = (int) Math.min(parallelism, Math.max(1, (long) maxId / MIN_RANGE_SIZE));
+        if (ranges == 1) {
+            try (OutputStream out = Files.newOutputStream(target)) {
+                return exportRange(Integer.MIN_VALUE, Integer.MAX_VALUE, out, format, true);
+            }
+        }
+
+        long rangeSize = ((long) maxId + ranges) / ranges;
+        List<Path> parts = new ArrayList<>(ranges);
+        List<Future<Long>> results = new ArrayList<>(ranges);
+        ExecutorService executor = Executors.newFixedThreadPool(ranges);
+        try {
+            for (int i = 0; i < ranges; i++) {
+                // The first and last ranges are open-ended so that no ID is missed
+                int fromId = i == 0 ? Integer.MIN_VALUE : (int) (1 + i * rangeSize);
+                int toId = i == ranges - 1 ? Integer.MAX_VALUE : (int) (1 + (i + 1) * rangeSize);
+                Path part = Paths.get(target + ".part" + i);
+                boolean writeHeader = i == 0;
+                parts.add(part);
+                results.add(executor.submit(() -> {
+                    try (OutputStream out = Files.newOutputStream(part)) {
+                        return exportRange(fromId, toId, out, format, writeHeader);
+                    }
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            concatenate(parts, target);
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Export failed: " + cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+            for (Path part : parts) {
+                Files.deleteIfExists(part);
+            }
+        }
+    }
+
+    /**
+     * Writes the competitors of one ID range to a stream.
+     *
+     * @param fromId the lowest ID to include
+     * @param toId the ID to stop before
+     * @param out the stream to write to
+     * @param format the format to write
+     * @param writeHeader {@code true} to start with the format's header
+     * @return the number of competitors written
+     * @throws IOException if writing fails
+     */
+    private long exportRange(int fromId, int toId, OutputStream out, RosterFormat format, boolean writeHeader) throws IOException {
+        long[] count = new long[1];
+        try (RosterWriter writer = format.openWriter(out, writeHeader)) {
+            repository.forEachCompetitorInRange(fromId, toId, competitor -> {
+                try {
+                    writer.write(competitor);
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    /**
+     * Joins part files, in order, into the target file.
+     *
+     * @param parts the part files
+     * @param target the file to write
+     * @throws IOException if a file cannot be read or written
+     */
+    private static void concatenate(List<Path> parts, Path target) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = in.size();
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package Main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The {@code RosterFormat} enum lists the file formats used to export and import the
+ * competitor roster.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public enum RosterFormat {
+
+    /**
+     * Comma-separated values with a header row, quoted as described in RFC 4180.
+     */
+    CSV(".csv") {
+        @Override
+        public RosterWriter openWriter(OutputStream out, boolean writeHeader) throws IOException {
+            return new CsvRosterCodec.Writer(out, writeHeader);
+        }
+
+        @Override
+        public RosterReader openReader(InputStream in) throws IOException {
+            return new CsvRosterCodec.Reader(in);
+        }
+    },
+
+    /**
+     * One JSON object per line.
+     */
+    JSON_LINES(".jsonl") {
+        @Override
+        public RosterWriter openWriter(OutputStream out, boolean writeHeader) {
+            return new JsonLinesRosterCodec.Writer(out);
+        }
+
+        @Override
+        public RosterReader openReader(InputStream in) {
+            return new JsonLinesRosterCodec.Reader(in);
+        }
+    },
+
+    /**
+     * Compact length-prefixed binary records.
+     */
+    BINARY(".mrr") {
+        @Override
+        public RosterWriter openWriter(OutputStream out, boolean writeHeader) throws IOException {
+            return new BinaryRosterCodec.Writer(out, writeHeader);
+        }
+
+        @Override
+        public RosterReader openReader(InputStream in) throws IOException {
+            return new BinaryRosterCodec.Reader(in);
+        }
+    };
+
+    private final String extension;
+
+    RosterFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the usual file name extension of the format.
+     *
+     * @return the extension, including the dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Opens a writer on a stream. Formats with a file header write it only when asked, so
+     * that parts exported in parallel can be joined into one file.
+     *
+     * @param out the stream to write to; it is closed when the writer is closed
+     * @param writeHeader {@code true} to start with the format's header, if it has one
+     * @return the writer
+     * @throws IOException if the header cannot be written
+     */
+    public abstract RosterWriter openWriter(OutputStream out, boolean writeHeader) throws IOException;
+
+    /**
+     * Opens a reader on a stream, checking the format's header if it has one.
+     *
+     * @param in the stream to read from; it is closed when the reader is closed
+     * @return the reader
+     * @throws IOException if the header is missing or cannot be read
+     */
+    public abstract RosterReader openReader(InputStream in) throws IOException;
+
+    /**
+     * Finds the format of a file from its extension.
+     *
+     * @param fileName the file name
+     * @return the matching format
+     * @throws IllegalArgumentException if the extension is not recognised
+     */
+    public static RosterFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        for (RosterFormat format : values()) {
+            if (lower.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown roster file type: " + fileName);
+    }
+}
@@ -0,0 +1,124 @@
+package Main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code RosterImporter} class reads a roster file in one of the
+ * {@link RosterFormat formats} and inserts its competitors in batches. The file is
+ * streamed, so only one batch is held in memory at a time.
+ * <p>
+ * A record that cannot be parsed, or that the repository rejects, is reported as a
+ * {@link BatchInsertResult.Failure} whose row index is the record's position in the file,
+ * and the import carries on with the next record.
+ * <p>
+ * Overall scores stored in the file are not trusted: every competitor is scored again
+ * with the active {@link ScoringEngine}, whichever repository it goes into.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class RosterImporter {
+
+    private final CompetitorRepository repository;
+    private final int batchSize;
+
+    /**
+     * Constructs a {@code RosterImporter}.
+     *
+     * @param repository the repository to insert into
+     * @param batchSize the number of competitors to insert per batch
+     */
+    public RosterImporter(CompetitorRepository repository, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.repository = repository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Constructs a {@code RosterImporter} that uses the default batch size.
+     *
+     * @param repository the repository to insert into
+     */
+    public RosterImporter(CompetitorRepository repository) {
+        this(repository, CompetitorDB.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Imports every competitor in a file.
+     *
+     * @param source the file to read
+     * @param format the format of the file
+     * @return the number of competitors inserted and the records that failed
+     * @throws IOException if the file cannot be read or is truncated
+     */
+    public BatchInsertResult importFrom(Path source, RosterFormat format) throws IOException {
+        BatchInsertResult result = new BatchInsertResult();
+        List<MRCompetitor> batch = new ArrayList<>(batchSize);
+        int[] recordIndexes = new int[batchSize];
+
+        try (InputStream in = Files.newInputStream(source);
+             RosterReader reader = format.openReader(in)) {
+            while (true) {
+                MRCompetitor competitor;
+                try {
+                    competitor = reader.read();
+                } catch (RuntimeException e) {
+                    // Bad values surface from the parser or from the Name and MRCompetitor constructors
+                    result.addFailure(new BatchInsertResult.Failure(reader.getRecordIndex(), null, e.getMessage()));
+                    continue;
+                }
+                if (competitor == null) {
+                    break;
+                }
+                recordIndexes[batch.size()] = reader.getRecordIndex();
+                batch.add(rescore(competitor));
+                if (batch.size() == batchSize) {
+                    flush(batch, recordIndexes, result);
+                }
+            }
+        }
+        flush(batch, recordIndexes, result);
+        return result;
+    }
+
+    /**
+     * Copies a competitor read from the file without its stored overall score, so that
+     * the active {@link ScoringEngine} computes it.
+     *
+     * @param competitor the competitor as read
+     * @return the same competitor, scored by the active engine
+     */
+    private static MRCompetitor rescore(MRCompetitor competitor) {
+        return new MRCompetitor(competitor.getCompetitorID(), competitor.getName(), competitor.getCompetitionLevel(),
+                competitor.getgender(), competitor.getBelbeltColor(), competitor.getScores());
+    }
+
+    /**
+     * Inserts a batch and adds its outcome to the result, mapping failed rows back to
+     * their position in the file.
+     *
+     * @param batch the competitors to insert; cleared afterwards
+     * @param recordIndexes the file position of each competitor in the batch
+     * @param result the result to add to
+     */
+    private void flush(List<MRCompetitor> batch, int[] recordIndexes, BatchInsertResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        BatchInsertResult batchResult = repository.addCompetitorsBatch(batch, batchSize);
+        result.addInserted(batchResult.getInsertedCount());
+        for (BatchInsertResult.Failure failure : batchResult.getFailures()) {
+            int row = failure.getRowIndex();
+            int recordIndex = row >= 0 && row < batch.size() ? recordIndexes[row] : row;
+            result.addFailure(new BatchInsertResult.Failure(recordIndex, failure.getCompetitorID(), failure.getMessage()));
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package Main;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The {@code RosterReader} interface reads competitors from an import file in one of the
+ * {@link RosterFormat formats}, one record at a time. A malformed record is reported with
+ * an {@link IllegalArgumentException} after it has been consumed, so the caller can
+ * record the error and carry on with the next record.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public interface RosterReader extends Closeable {
+
+    /**
+     * Reads the next competitor.
+     *
+     * @return the competitor, or {@code null} at the end of the file
+     * @throws IllegalArgumentException if the record is malformed; the reader moves past it
+     * @throws IOException if reading fails or the file is truncated
+     */
+    MRCompetitor read() throws IOException;
+
+    /**
+     * Gets the index of the record returned or rejected by the last call to {@link #read()}.
+     *
+     * @return the zero-based record index, or -1 before the first record
+     */
+    int getRecordIndex();
+}
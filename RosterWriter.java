@@ -0,0 +1,30 @@
+package Main;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * The {@code RosterWriter} interface writes competitors to an export file in one of the
+ * {@link RosterFormat formats}, one record at a time.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public interface RosterWriter extends Closeable {
+
+    /**
+     * Writes one competitor.
+     *
+     * @param competitor the competitor to write
+     * @throws IOException if writing fails
+     */
+    void write(MRCompetitor competitor) throws IOException;
+
+    /**
+     * Flushes buffered records and closes the underlying stream.
+     *
+     * @throws IOException if flushing or closing fails
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,383 @@
+package Main;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code ScoreHistogram} class counts judge scores in a dense {@code int[]} indexed
+ * by score, so recording a score is an array increment and nothing is boxed. The range of
+ * scores it covers grows as needed, up to {@value #MAX_RANGE} consecutive values. A score
+ * that would stretch the range further, such as a stray typo far from the rest, is counted
+ * in a small sorted map instead, so any {@code int} can be recorded. Histograms can be
+ * merged, for example after counting parts of the roster on separate threads. It is not
+ * thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ScoreHistogram {
+
+    /**
+     * The widest range of scores the dense array covers.
+     */
+    public static final int MAX_RANGE = 1 << 20;
+
+    private int offset;
+    private int[] counts = new int[0];
+    private long total;
+
+    /**
+     * Counts of scores outside the dense range, by score. No key lies inside the range.
+     */
+    private TreeMap<Integer, Integer> outliers = new TreeMap<>();
+    private long outlierTotal;
+
+    /**
+     * Counts one occurrence of a score.
+     *
+     * @param score the score
+     */
+    public void add(int score) {
+        add(score, 1);
+    }
+
+    /**
+     * Counts occurrences of a score. A negative count takes occurrences away.
+     *
+     * @param score the score
+     * @param count the number of occurrences to add
+     * @throws IllegalArgumentException if more occurrences are taken away than were counted
+     */
+    public void add(int score, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (count < 0 && getCount(score) + count < 0) {
+            throw new IllegalArgumentException("Score " + score + " was counted only " + getCount(score) + " times");
+        }
+        if (ensureCovers(score)) {
+            counts[score - offset] += count;
+        } else {
+            outliers.merge(score, count, (a, b) -> a + b == 0 ? null : a + b);
+            outlierTotal += count;
+        }
+        total += count;
+    }
+
+    /**
+     * Takes away one occurrence of a score.
+     *
+     * @param score the score
+     * @throws IllegalArgumentException if the score was not counted
+     */
+    public void remove(int score) {
+        add(score, -1);
+    }
+
+    /**
+     * Counts every score in an array.
+     *
+     * @param scores the scores
+     */
+    public void addAll(int[] scores) {
+        for (int score : scores) {
+            add(score, 1);
+        }
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     *
+     * @param other the histogram to merge in
+     */
+    public void merge(ScoreHistogram other) {
+        if (other.total > other.outlierTotal) {
+            int lowest = other.offset + other.firstDenseSlot();
+            int highest = other.offset + other.lastDenseSlot();
+            if (ensureCovers(lowest) && ensureCovers(highest)) {
+                for (int score = lowest; score <= highest; score++) {
+                    counts[score - offset] += other.counts[score - other.offset];
+                }
+                total += other.total - other.outlierTotal;
+            } else {
+                for (int score = lowest; score <= highest; score++) {
+                    add(score, other.counts[score - other.offset]);
+                }
+            }
+        }
+        for (Map.Entry<Integer, Integer> entry : other.outliers.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Gets the number of times a score was counted.
+     *
+     * @param score the score
+     * @return the count
+     */
+    public int getCount(int score) {
+        long slot = (long) score - offset;
+        if (slot >= 0 && slot < counts.length) {
+            return counts[(int) slot];
+        }
+        return outliers.getOrDefault(score, 0);
+    }
+
+    /**
+     * Gets the number of scores counted.
+     *
+     * @return the total count
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the lowest score counted.
+     *
+     * @return the lowest score
+     * @throws IllegalStateException if the histogram is empty
+     */
+    public int getLowestScore() {
+        requireNotEmpty();
+        if (!outliers.isEmpty() && (outliers.firstKey() < offset || total == outlierTotal)) {
+            return outliers.firstKey();
+        }
+        return offset + firstDenseSlot();
+    }
+
+    /**
+     * Gets the highest score counted.
+     *
+     * @return the highest score
+     * @throws IllegalStateException if the histogram is empty
+     */
+    public int getHighestScore() {
+        requireNotEmpty();
+        if (!outliers.isEmpty() && (outliers.lastKey() > offset || total == outlierTotal)) {
+            return outliers.lastKey();
+        }
+        return offset + lastDenseSlot();
+    }
+
+    /**
+     * Gets the mean of the scores counted.
+     *
+     * @return the mean, or {@code NaN} if the histogram is empty
+     */
+    public double getMean() {
+        if (total == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            sum += (double) counts[i] * (offset + i);
+        }
+        for (Map.Entry<Integer, Integer> entry : outliers.entrySet()) {
+            sum += (double) entry.getValue() * entry.getKey();
+        }
+        return sum / total;
+    }
+
+    /**
+     * Gets the population standard deviation of the scores counted.
+     *
+     * @return the standard deviation, or {@code NaN} if the histogram is empty
+     */
+    public double getStandardDeviation() {
+        double mean = getMean();
+        if (Double.isNaN(mean)) {
+            return mean;
+        }
+        double sumOfSquares = 0;
+        for (int i = 0; i < counts.length; i++) {
+            double deviation = offset + i - mean;
+            sumOfSquares += counts[i] * deviation * deviation;
+        }
+        for (Map.Entry<Integer, Integer> entry : outliers.entrySet()) {
+            double deviation = entry.getKey() - mean;
+            sumOfSquares += entry.getValue() * deviation * deviation;
+        }
+        return Math.sqrt(sumOfSquares / total);
+    }
+
+    /**
+     * Gets a percentile of the scores counted, using the nearest-rank method: the lowest
+     * score that at least {@code percentile} percent of the scores are at or below.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the score at that percentile
+     * @throws IllegalStateException if the histogram is empty
+     */
+    public int getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        requireNotEmpty();
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (Map.Entry<Integer, Integer> entry : outliers.headMap(offset).entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return offset + i;
+            }
+        }
+        for (Map.Entry<Integer, Integer> entry : outliers.tailMap(offset, false).entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        return getHighestScore();
+    }
+
+    /**
+     * Gets the median of the scores counted.
+     *
+     * @return the score at the 50th percentile
+     * @throws IllegalStateException if the histogram is empty
+     */
+    public int getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Copies the counts into a map, for callers that expect the older
+     * {@code getScoreFrequency()} form.
+     *
+     * @return a {@link Map} from score to frequency, ordered by score, without zero counts
+     */
+    public Map<Integer, Integer> toMap() {
+        Map<Integer, Integer> frequencyMap = new TreeMap<>(outliers);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                frequencyMap.put(offset + i, counts[i]);
+            }
+        }
+        return frequencyMap;
+    }
+
+    /**
+     * Creates a histogram from a map of score frequencies.
+     *
+     * @param frequencyMap a {@link Map} from score to frequency
+     * @return the histogram
+     */
+    public static ScoreHistogram fromMap(Map<Integer, Integer> frequencyMap) {
+        ScoreHistogram histogram = new ScoreHistogram();
+        for (Map.Entry<Integer, Integer> entry : frequencyMap.entrySet()) {
+            histogram.add(entry.getKey(), entry.getValue());
+        }
+        return histogram;
+    }
+
+    /**
+     * Creates an independent copy of this histogram.
+     *
+     * @return the copy
+     */
+    public ScoreHistogram copy() {
+        ScoreHistogram copy = new ScoreHistogram();
+        copy.offset = offset;
+        copy.counts = counts.clone();
+        copy.total = total;
+        copy.outliers = new TreeMap<>(outliers);
+        copy.outlierTotal = outlierTotal;
+        return copy;
+    }
+
+    /**
+     * Widens the dense range so that it includes a score, unless that would make it wider
+     * than {@link #MAX_RANGE}. Outliers that fall inside the widened range are moved into it.
+     *
+     * @param score the score to cover
+     * @return {@code true} if the dense range now covers the score
+     */
+    private boolean ensureCovers(int score) {
+        if (counts.length == 0) {
+            offset = score;
+            counts = new int[8];
+            return true;
+        }
+        long low = Math.min(offset, score);
+        long high = Math.max((long) offset + counts.length - 1, score);
+        if (low == offset && high < (long) offset + counts.length) {
+            return true;
+        }
+        if (high - low + 1 > MAX_RANGE) {
+            return false;
+        }
+        // Grow by at least half so a slowly widening range does not copy on every score
+        long length = Math.min(MAX_RANGE, Math.max(high - low + 1, counts.length + (counts.length >> 1)));
+        if (low < offset) {
+            low = Math.max(Integer.MIN_VALUE, high - length + 1);
+        }
+        int[] grown = new int[(int) length];
+        System.arraycopy(counts, 0, grown, (int) (offset - low), counts.length);
+        counts = grown;
+        offset = (int) low;
+
+        if (!outliers.isEmpty()) {
+            long end = low + length;
+            Map<Integer, Integer> covered = end > Integer.MAX_VALUE
+                    ? outliers.tailMap(offset, true)
+                    : outliers.subMap(offset, true, (int) end, false);
+            for (Map.Entry<Integer, Integer> entry : covered.entrySet()) {
+                counts[entry.getKey() - offset] += entry.getValue();
+                outlierTotal -= entry.getValue();
+            }
+            covered.clear();
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first non-zero slot of the dense array. Only valid when it counts something.
+     *
+     * @return the slot index
+     */
+    private int firstDenseSlot() {
+        int i = 0;
+        while (counts[i] == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Finds the last non-zero slot of the dense array. Only valid when it counts something.
+     *
+     * @return the slot index
+     */
+    private int lastDenseSlot() {
+        int i = counts.length - 1;
+        while (counts[i] == 0) {
+            i--;
+        }
+        return i;
+    }
+
+    private void requireNotEmpty() {
+        if (total == 0) {
+            throw new IllegalStateException("The histogram is empty");
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (total == outlierTotal) {
+            return "ScoreHistogram{total=" + total + ", counts=[], outliers=" + outliers + "}";
+        }
+        return "ScoreHistogram{total=" + total + ", counts=" + Arrays.toString(
+                Arrays.copyOfRange(counts, firstDenseSlot(), lastDenseSlot() + 1))
+                + (outliers.isEmpty() ? "" : ", outliers=" + outliers) + "}";
+    }
+}
@@ -0,0 +1,385 @@
+package Main;
+
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code ScoreOrderTree} class is an order-statistic tree of competitor IDs ordered by
+ * overall score, highest first, with ties broken by the lower ID. It is a treap in which
+ * every node also records the size of its subtree and the number of distinct scores in
+ * it, so positions, tie-aware ranks and the entry at a given position are all found in
+ * O(log n) expected time. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ScoreOrderTree {
+
+    private static final class Node {
+
+        final double score;
+        final int id;
+        final int priority;
+        Node left;
+        Node right;
+        int size;
+        int distinct;
+        double firstScore;
+        double lastScore;
+
+        Node(double score, int id, int priority) {
+            this.score = score;
+            this.id = id;
+            this.priority = priority;
+            update();
+        }
+
+        /**
+         * Recomputes the subtree totals from the children. Equal scores sit next to each
+         * other in the order, so a score shared with the end of a child is counted once.
+         */
+        void update() {
+            size = 1;
+            distinct = 1;
+            firstScore = score;
+            lastScore = score;
+            if (left != null) {
+                size += left.size;
+                distinct += left.distinct - (sameScore(left.lastScore, score) ? 1 : 0);
+                firstScore = left.firstScore;
+            }
+            if (right != null) {
+                size += right.size;
+                distinct += right.distinct - (sameScore(right.firstScore, score) ? 1 : 0);
+                lastScore = right.lastScore;
+            }
+        }
+    }
+
+    private Node root;
+    private int seed = 0x2545F491;
+
+    /**
+     * Adds an entry. The caller must not add the same ID twice.
+     *
+     * @param id the competitor ID
+     * @param score the overall score
+     */
+    public void add(int id, double score) {
+        Node[] parts = split(root, score, id);
+        root = merge(merge(parts[0], new Node(score, id, nextPriority())), parts[1]);
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param id the competitor ID
+     * @param score the overall score it was added with
+     * @return {@code true} if the entry was found
+     */
+    public boolean remove(int id, double score) {
+        int before = size();
+        root = remove(root, score, id);
+        return size() < before;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Gets the zero-based position of an entry in score order.
+     *
+     * @param id the competitor ID
+     * @param score the overall score it was added with
+     * @return the number of entries ordered before it
+     */
+    public int indexOf(int id, double score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, id, node);
+            if (cmp == 0) {
+                return count + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the entries with a higher score.
+     *
+     * @param score the score
+     * @return the number of entries scoring more than {@code score}
+     */
+    public int countGreater(double score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (Double.compare(node.score, score) > 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the entries with the same or a higher score.
+     *
+     * @param score the score
+     * @return the number of entries scoring at least {@code score}
+     */
+    public int countAtLeast(double score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (Double.compare(node.score, score) >= 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the distinct scores higher than a score.
+     *
+     * @param score the score
+     * @return the number of different scores above {@code score}
+     */
+    public int countDistinctGreater(double score) {
+        int count = 0;
+        boolean hasPrevious = false;
+        double previousScore = 0;
+        Node node = root;
+        while (node != null) {
+            if (Double.compare(node.score, score) > 0) {
+                // The left subtree and this node come next in order after what was counted so far
+                Node left = node.left;
+                double chunkFirst = left == null ? node.score : left.firstScore;
+                count += 1;
+                if (left != null) {
+                    count += left.distinct - (sameScore(left.lastScore, node.score) ? 1 : 0);
+                }
+                if (hasPrevious && sameScore(previousScore, chunkFirst)) {
+                    count--;
+                }
+                hasPrevious = true;
+                previousScore = node.score;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the ID at a position in score order.
+     *
+     * @param index the zero-based position
+     * @return the competitor ID
+     * @throws IndexOutOfBoundsException if there is no entry at that position
+     */
+    public int idAt(int index) {
+        return nodeAt(index).id;
+    }
+
+    /**
+     * Gets the score at a position in score order.
+     *
+     * @param index the zero-based position
+     * @return the overall score
+     * @throws IndexOutOfBoundsException if there is no entry at that position
+     */
+    public double scoreAt(int index) {
+        return nodeAt(index).score;
+    }
+
+    /**
+     * Passes the IDs at a range of positions to a callback, in score order.
+     *
+     * @param fromIndex the first position, inclusive
+     * @param toIndex the last position, exclusive
+     * @param action the callback to run for each ID
+     */
+    public void forEachInRange(int fromIndex, int toIndex, IntConsumer action) {
+        visit(root, 0, Math.max(0, fromIndex), Math.min(size(), toIndex), action);
+    }
+
+    /**
+     * Walks the part of a subtree that lies inside a range of positions.
+     *
+     * @param node the subtree
+     * @param offset the position of the first entry of the subtree
+     * @param fromIndex the first position, inclusive
+     * @param toIndex the last position, exclusive
+     * @param action the callback to run for each ID
+     */
+    private static void visit(Node node, int offset, int fromIndex, int toIndex, IntConsumer action) {
+        if (node == null || offset >= toIndex || offset + node.size <= fromIndex) {
+            return;
+        }
+        int position = offset + size(node.left);
+        visit(node.left, offset, fromIndex, toIndex, action);
+        if (position >= fromIndex && position < toIndex) {
+            action.accept(node.id);
+        }
+        visit(node.right, position + 1, fromIndex, toIndex, action);
+    }
+
+    /**
+     * Finds the node at a position.
+     *
+     * @param index the zero-based position
+     * @return the node
+     */
+    private Node nodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Splits a subtree into the entries ordered before a key and the rest.
+     *
+     * @param node the subtree
+     * @param score the score of the key
+     * @param id the ID of the key
+     * @return the entries before the key, then the others
+     */
+    private static Node[] split(Node node, double score, int id) {
+        if (node == null) {
+            return new Node[2];
+        }
+        Node[] parts;
+        if (compare(score, id, node) > 0) {
+            parts = split(node.right, score, id);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+        } else {
+            parts = split(node.left, score, id);
+            node.left = parts[1];
+            node.update();
+            parts[1] = node;
+        }
+        return parts;
+    }
+
+    /**
+     * Joins two subtrees where every entry of the first comes before every entry of the second.
+     *
+     * @param first the earlier entries
+     * @param second the later entries
+     * @return the joined subtree
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    /**
+     * Removes a key from a subtree.
+     *
+     * @param node the subtree
+     * @param score the score of the key
+     * @param id the ID of the key
+     * @return the subtree without the key
+     */
+    private static Node remove(Node node, double score, int id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, id);
+        } else {
+            node.right = remove(node.right, score, id);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Compares a key with a node in tree order: higher scores first, then lower IDs.
+     *
+     * @param score the score of the key
+     * @param id the ID of the key
+     * @param node the node
+     * @return a negative number, zero or a positive number if the key comes before, at or after the node
+     */
+    private static int compare(double score, int id, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : Integer.compare(id, node.id);
+    }
+
+    private static boolean sameScore(double a, double b) {
+        return Double.compare(a, b) == 0;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Draws the next random priority with an xorshift generator.
+     *
+     * @return the priority
+     */
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,108 @@
+package Main;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code ScoreSummary} class holds the aggregated statistics shown in the
+ * statistical summary: the number of competitors, the highest overall score,
+ * how often each individual score was given, and the number of competitors and
+ * average overall score for each competition level.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ScoreSummary {
+
+    private int totalCompetitors;
+    private double maxOverallScore;
+    private final Map<Integer, Integer> scoreFrequency = new TreeMap<>();
+    private final Map<String, Integer> levelCounts = new TreeMap<>();
+    private final Map<String, Double> levelAverages = new TreeMap<>();
+
+    /**
+     * Sets the total number of competitors.
+     *
+     * @param totalCompetitors the number of competitors
+     */
+    void setTotalCompetitors(int totalCompetitors) {
+        this.totalCompetitors = totalCompetitors;
+    }
+
+    /**
+     * Sets the highest overall score.
+     *
+     * @param maxOverallScore the highest overall score
+     */
+    void setMaxOverallScore(double maxOverallScore) {
+        this.maxOverallScore = maxOverallScore;
+    }
+
+    /**
+     * Records how many times a score was given.
+     *
+     * @param score the score
+     * @param frequency the number of times it was given
+     */
+    void putScoreFrequency(int score, int frequency) {
+        scoreFrequency.put(score, frequency);
+    }
+
+    /**
+     * Records the number of competitors and the average overall score of a level.
+     *
+     * @param level the competition level
+     * @param count the number of competitors at that level
+     * @param averageOverallScore the average overall score at that level
+     */
+    void putLevel(String level, int count, double averageOverallScore) {
+        levelCounts.put(level, count);
+        levelAverages.put(level, averageOverallScore);
+    }
+
+    /**
+     * Gets the total number of competitors.
+     *
+     * @return the number of competitors
+     */
+    public int getTotalCompetitors() {
+        return totalCompetitors;
+    }
+
+    /**
+     * Gets the highest overall score.
+     *
+     * @return the highest overall score, or 0.0 if there are no competitors
+     */
+    public double getMaxOverallScore() {
+        return maxOverallScore;
+    }
+
+    /**
+     * Gets how often each individual score was given, ordered by score.
+     *
+     * @return an unmodifiable {@link Map} from score to frequency
+     */
+    public Map<Integer, Integer> getScoreFrequency() {
+        return Collections.unmodifiableMap(scoreFrequency);
+    }
+
+    /**
+     * Gets the number of competitors at each competition level.
+     *
+     * @return an unmodifiable {@link Map} from level to competitor count
+     */
+    public Map<String, Integer> getLevelCounts() {
+        return Collections.unmodifiableMap(levelCounts);
+    }
+
+    /**
+     * Gets the average overall score at each competition level.
+     *
+     * @return an unmodifiable {@link Map} from level to average overall score
+     */
+    public Map<String, Double> getLevelAverages() {
+        return Collections.unmodifiableMap(levelAverages);
+    }
+}
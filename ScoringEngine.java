@@ -0,0 +1,157 @@
+package Main;
+
+import java.util.List;
+
+/**
+ * The {@code ScoringEngine} class applies a {@link ScoringRule} to a whole event at once.
+ * Scores are passed as a flat, row-major matrix with one row per competitor and one
+ * column per judge, so any number of judges is supported and scoring a large event
+ * allocates only one scratch buffer and the result array.
+ * <p>
+ * One engine is the active engine, set with {@link #setActive(ScoringEngine)}. It computes
+ * the overall score of every competitor that is created or written, so all storage agrees
+ * on one rule. It starts as an engine using {@link ScoringRules#STANDARD}.
+ * <p>
+ * Engines are immutable and thread-safe as long as their rule is.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class ScoringEngine {
+
+    private static volatile ScoringEngine active = new ScoringEngine();
+
+    private final ScoringRule rule;
+
+    /**
+     * Constructs an engine using {@link ScoringRules#STANDARD}.
+     */
+    public ScoringEngine() {
+        this(ScoringRules.STANDARD);
+    }
+
+    /**
+     * Constructs an engine using the given rule.
+     *
+     * @param rule the rule that turns a panel's scores into an overall score
+     */
+    public ScoringEngine(ScoringRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Scoring rule cannot be null");
+        }
+        this.rule = rule;
+    }
+
+    /**
+     * Gets the engine that computes overall scores when competitors are created or written.
+     *
+     * @return the active engine
+     */
+    public static ScoringEngine getActive() {
+        return active;
+    }
+
+    /**
+     * Makes an engine the active one. Overall scores already stored are not changed; use
+     * {@link Manager#setScoringEngine(ScoringEngine)} to rescore them as well.
+     *
+     * @param engine the engine to use from now on
+     */
+    public static void setActive(ScoringEngine engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("Scoring engine cannot be null");
+        }
+        active = engine;
+    }
+
+    /**
+     * Gets the rule used by this engine.
+     *
+     * @return the scoring rule
+     */
+    public ScoringRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Scores one competitor.
+     *
+     * @param scores the competitor's scores, one per judge
+     * @return the overall score
+     */
+    public double score(int[] scores) {
+        return rule.score(scores);
+    }
+
+    /**
+     * Scores every row of a score matrix.
+     *
+     * @param matrix the scores, row-major with {@code judges} scores per competitor
+     * @param judges the number of judges
+     * @return one overall score per competitor
+     * @throws IllegalArgumentException if the matrix length is not a multiple of {@code judges}
+     */
+    public double[] scoreMatrix(int[] matrix, int judges) {
+        double[] results = new double[rowCount(matrix, judges)];
+        scoreMatrix(matrix, judges, results);
+        return results;
+    }
+
+    /**
+     * Scores every row of a score matrix into an existing array, so repeated scoring of
+     * the same event allocates nothing but the scratch buffer.
+     *
+     * @param matrix the scores, row-major with {@code judges} scores per competitor
+     * @param judges the number of judges
+     * @param results the array receiving one overall score per competitor
+     * @throws IllegalArgumentException if the matrix length is not a multiple of {@code judges}
+     *         or {@code results} is too small
+     */
+    public void scoreMatrix(int[] matrix, int judges, double[] results) {
+        int rows = rowCount(matrix, judges);
+        if (results.length < rows) {
+            throw new IllegalArgumentException("Result array holds " + results.length + " scores, need " + rows);
+        }
+        int[] scratch = new int[judges];
+        for (int row = 0, offset = 0; row < rows; row++, offset += judges) {
+            results[row] = rule.score(matrix, offset, judges, scratch);
+        }
+    }
+
+    /**
+     * Scores a list of competitors using their five stored scores.
+     *
+     * @param competitors the competitors to score
+     * @return one overall score per competitor, in list order
+     */
+    public double[] scoreCompetitors(List<MRCompetitor> competitors) {
+        int judges = CompetitorRowMapper.SCORE_COLUMNS;
+        int[] matrix = new int[competitors.size() * judges];
+        int offset = 0;
+        for (MRCompetitor competitor : competitors) {
+            int[] scores = competitor.getScores();
+            if (scores != null) {
+                System.arraycopy(scores, 0, matrix, offset, Math.min(judges, scores.length));
+            }
+            offset += judges;
+        }
+        return scoreMatrix(matrix, judges);
+    }
+
+    /**
+     * Checks a matrix's shape and gets its number of rows.
+     *
+     * @param matrix the score matrix
+     * @param judges the number of judges
+     * @return the number of competitors in the matrix
+     */
+    private static int rowCount(int[] matrix, int judges) {
+        if (judges < 1) {
+            throw new IllegalArgumentException("There must be at least one judge");
+        }
+        if (matrix.length % judges != 0) {
+            throw new IllegalArgumentException("Matrix of " + matrix.length + " scores is not a multiple of " + judges + " judges");
+        }
+        return matrix.length / judges;
+    }
+}
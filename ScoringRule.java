@@ -0,0 +1,37 @@
+package Main;
+
+/**
+ * The {@code ScoringRule} interface turns the scores given by a panel of judges into one
+ * overall score. Rules work on a slice of a flat {@code int[]} so that a whole event can
+ * be scored from a single score matrix without creating an object per competitor.
+ * Standard rules are available from {@link ScoringRules}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public interface ScoringRule {
+
+    /**
+     * Computes the overall score for one competitor.
+     *
+     * @param scores the array holding the scores
+     * @param offset the index of the competitor's first score
+     * @param judges the number of scores, one per judge
+     * @param scratch a working buffer of at least {@code judges} elements that the rule may overwrite
+     * @return the overall score
+     */
+    double score(int[] scores, int offset, int judges, int[] scratch);
+
+    /**
+     * Computes the overall score for one competitor from an array holding only their scores.
+     *
+     * @param scores the scores, one per judge
+     * @return the overall score, or 0.0 if {@code scores} is {@code null}
+     */
+    default double score(int[] scores) {
+        if (scores == null) {
+            return 0.0;
+        }
+        return score(scores, 0, scores.length, new int[scores.length]);
+    }
+}
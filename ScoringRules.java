@@ -0,0 +1,224 @@
+package Main;
+
+import java.util.Arrays;
+
+/**
+ * The {@code ScoringRules} class provides the standard {@link ScoringRule} implementations.
+ * Every rule accepts any number of judges.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public final class ScoringRules {
+
+    /**
+     * The rule of the default active {@link ScoringEngine}: drop the highest and the
+     * lowest score and average the rest.
+     */
+    public static final ScoringRule STANDARD = trimmedMean(1);
+
+    private ScoringRules() {
+    }
+
+    /**
+     * Drops the {@code k} highest and {@code k} lowest scores and averages the rest.
+     * Panels with {@code 2 * k} judges or fewer score 0.0.
+     *
+     * @param k the number of scores dropped at each end
+     * @return the trimmed mean rule
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static ScoringRule trimmedMean(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Cannot drop a negative number of scores");
+        }
+        return new TrimmedMean(k);
+    }
+
+    /**
+     * Uses the median score. With an even number of judges the two middle scores are averaged.
+     *
+     * @return the median rule
+     */
+    public static ScoringRule median() {
+        return (scores, offset, judges, scratch) -> {
+            if (judges == 0) {
+                return 0.0;
+            }
+            sortInto(scores, offset, judges, scratch);
+            int middle = judges / 2;
+            return judges % 2 == 1 ? scratch[middle] : (scratch[middle - 1] + (double) scratch[middle]) / 2.0;
+        };
+    }
+
+    /**
+     * Computes a weighted average where each judge's score counts according to their weight,
+     * for panels where senior judges count more.
+     *
+     * @param weights one weight per judge, in panel order; must not all be zero
+     * @return the weighted panel rule
+     * @throws IllegalArgumentException if a weight is negative or all weights are zero
+     */
+    public static ScoringRule weightedPanel(double... weights) {
+        double[] panel = weights.clone();
+        double total = 0.0;
+        for (double weight : panel) {
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("Judge weights cannot be negative");
+            }
+            total += weight;
+        }
+        if (total == 0.0) {
+            throw new IllegalArgumentException("At least one judge weight must be positive");
+        }
+        return (scores, offset, judges, scratch) -> {
+            if (judges != panel.length) {
+                throw new IllegalArgumentException("Expected " + panel.length + " judges but got " + judges);
+            }
+            double weighted = 0.0;
+            double weightSum = 0.0;
+            for (int i = 0; i < judges; i++) {
+                weighted += scores[offset + i] * panel[i];
+                weightSum += panel[i];
+            }
+            return weighted / weightSum;
+        };
+    }
+
+    /**
+     * Drops the {@code k} scores furthest from the median and averages the rest, so
+     * a single biased judge is removed whether they scored too high or too low. Panels
+     * with {@code k} judges or fewer score 0.0.
+     *
+     * @param k the number of outlying scores to drop
+     * @return the outlier-dropping rule
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static ScoringRule dropOutliers(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Cannot drop a negative number of scores");
+        }
+        return (scores, offset, judges, scratch) -> {
+            if (judges <= k) {
+                return 0.0;
+            }
+            sortInto(scores, offset, judges, scratch);
+            double median = judges % 2 == 1 ? scratch[judges / 2]
+                    : (scratch[judges / 2 - 1] + (double) scratch[judges / 2]) / 2.0;
+
+            // The furthest scores are always at the ends of the sorted panel, so drop
+            // from whichever end is further from the median
+            int low = 0;
+            int high = judges - 1;
+            for (int dropped = 0; dropped < k; dropped++) {
+                if (median - scratch[low] > scratch[high] - median) {
+                    low++;
+                } else {
+                    high--;
+                }
+            }
+            int kept = high - low + 1;
+            return sum(scratch, low, kept) / (double) kept;
+        };
+    }
+
+    /**
+     * The {@code TrimmedMean} class implements {@link #trimmedMean(int)}. Dropping one
+     * score or none at each end needs no sorting, so scoring a single panel with those
+     * rules does not allocate a scratch buffer.
+     */
+    private static final class TrimmedMean implements ScoringRule {
+
+        private final int k;
+
+        /**
+         * Constructs the rule.
+         *
+         * @param k the number of scores dropped at each end
+         */
+        TrimmedMean(int k) {
+            this.k = k;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double score(int[] scores, int offset, int judges, int[] scratch) {
+            if (judges <= 2 * k) {
+                return 0.0;
+            }
+            if (k == 0) {
+                return sum(scores, offset, judges) / (double) judges;
+            }
+            if (k == 1) {
+                // One pass for the common case, no sorting needed
+                long sum = 0;
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int i = offset; i < offset + judges; i++) {
+                    int score = scores[i];
+                    sum += score;
+                    min = Math.min(min, score);
+                    max = Math.max(max, score);
+                }
+                return (sum - min - max) / (double) (judges - 2);
+            }
+            sortInto(scores, offset, judges, scratch);
+            return sum(scratch, k, judges - 2 * k) / (double) (judges - 2 * k);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double score(int[] scores) {
+            if (scores == null) {
+                return 0.0;
+            }
+            return score(scores, 0, scores.length, k <= 1 ? null : new int[scores.length]);
+        }
+    }
+
+    /**
+     * Copies a slice of scores into the scratch buffer and sorts it.
+     *
+     * @param scores the array holding the scores
+     * @param offset the index of the first score
+     * @param judges the number of scores
+     * @param scratch the buffer receiving the sorted scores
+     */
+    private static void sortInto(int[] scores, int offset, int judges, int[] scratch) {
+        System.arraycopy(scores, offset, scratch, 0, judges);
+        if (judges <= 16) {
+            // Insertion sort is faster than Arrays.sort for typical panel sizes
+            for (int i = 1; i < judges; i++) {
+                int value = scratch[i];
+                int j = i - 1;
+                while (j >= 0 && scratch[j] > value) {
+                    scratch[j + 1] = scratch[j];
+                    j--;
+                }
+                scratch[j + 1] = value;
+            }
+        } else {
+            Arrays.sort(scratch, 0, judges);
+        }
+    }
+
+    /**
+     * Sums a slice of an array.
+     *
+     * @param values the array
+     * @param offset the index of the first value
+     * @param count the number of values
+     * @return the sum, without overflow
+     */
+    private static long sum(int[] values, int offset, int count) {
+        long sum = 0;
+        for (int i = offset; i < offset + count; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,41 @@
+package Main;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code StringDeduplicator} class hands out one shared instance for every equal
+ * string it sees, so a roster where many competitors share a first or last name keeps
+ * each distinct name in memory only once. Unlike {@link String#intern()} the pool
+ * belongs to the caller and is garbage collected with it. It is not thread-safe.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+public class StringDeduplicator {
+
+    private final Map<String, String> pool = new HashMap<>();
+
+    /**
+     * Gets the shared instance of a string.
+     *
+     * @param value the string, possibly {@code null}
+     * @return the first equal string seen by this deduplicator, or {@code null}
+     */
+    public String dedupe(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = pool.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    /**
+     * Gets the number of distinct strings held.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,62 @@
+package Main;
+
+import java.util.Random;
+
+/**
+ * The {@code BenchmarkData} class builds the synthetic competitors the benchmarks run on.
+ * Every benchmark seeds its own {@link Random}, so runs see the same data.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+final class BenchmarkData {
+
+    /**
+     * Number of distinct objects cycled through by the per-object benchmarks, so the
+     * JIT compiler cannot specialise for a single input. A power of two, used as a mask.
+     */
+    static final int SAMPLE_SIZE = 1024;
+
+    /**
+     * Columns of the {@code mrcompetitors} table, for the embedded database.
+     */
+    static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS mrcompetitors ("
+            + "competitorID INT PRIMARY KEY, firstName VARCHAR(50), middleName VARCHAR(50), lastName VARCHAR(50), "
+            + "CompetitionLevel VARCHAR(20), gender VARCHAR(20), BelbeltColort VARCHAR(20), "
+            + "score1 INT, score2 INT, score3 INT, score4 INT, score5 INT, overallScore DOUBLE)";
+
+    private static final String[] FIRST_NAMES = {"Ana", "Ben", "Carla", "Dmitri", "Eva", "Farid", "Grace", "Hugo"};
+    private static final String[] LAST_NAMES = {"Silva", "Kowalski", "Nguyen", "Smith", "Garcia", "Muller"};
+    private static final String[] BELT_COLORS = {"White", "Yellow", "Blue", "Purple", "Brown", "Black"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds a competitor with random details and five scores from 0 to 5.
+     *
+     * @param id the competitor ID
+     * @param random the source of random values
+     * @return a new {@link MRCompetitor}
+     */
+    static MRCompetitor randomCompetitor(int id, Random random) {
+        int[] scores = new int[CompetitorRowMapper.SCORE_COLUMNS];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(6);
+        }
+        return new MRCompetitor(id, randomName(random), Integer.toString(1 + random.nextInt(5)),
+                random.nextBoolean() ? "Male" : "Female", BELT_COLORS[random.nextInt(BELT_COLORS.length)], scores);
+    }
+
+    /**
+     * Builds a name with random parts, with a middle name half of the time.
+     *
+     * @param random the source of random values
+     * @return a new {@link Name}
+     */
+    static Name randomName(Random random) {
+        return new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                random.nextBoolean() ? null : FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+    }
+}
@@ -0,0 +1,135 @@
+package Main;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code CompetitorBenchmarks} class times the per-competitor hot paths: the overall
+ * score, both memoized and computed from raw scores, the {@code getFullDetails},
+ * {@code getShortDetails} and {@code toString} renderings, {@link Name#getFullName()}
+ * and building a {@link Name}, which computes the initials. Each call takes the next of
+ * {@link BenchmarkData#SAMPLE_SIZE} prebuilt inputs.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompetitorBenchmarks {
+
+    private MRCompetitor[] competitors;
+    private int[][] scores;
+    private Name[] names;
+    private int next;
+
+    /**
+     * Builds the sample competitors and names.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        competitors = new MRCompetitor[BenchmarkData.SAMPLE_SIZE];
+        scores = new int[BenchmarkData.SAMPLE_SIZE][];
+        names = new Name[BenchmarkData.SAMPLE_SIZE];
+        for (int i = 0; i < BenchmarkData.SAMPLE_SIZE; i++) {
+            competitors[i] = BenchmarkData.randomCompetitor(i + 1, random);
+            scores[i] = competitors[i].getScores().clone();
+            names[i] = BenchmarkData.randomName(random);
+        }
+    }
+
+    /**
+     * Gets the next sample index.
+     *
+     * @return an index into the sample arrays
+     */
+    private int nextIndex() {
+        return next++ & (BenchmarkData.SAMPLE_SIZE - 1);
+    }
+
+    /**
+     * Reads the cached overall score.
+     *
+     * @return the overall score
+     */
+    @Benchmark
+    public double getOverallScoreMemoized() {
+        return competitors[nextIndex()].getOverallScore();
+    }
+
+    /**
+     * Computes an overall score from raw scores with the active engine.
+     *
+     * @return the overall score
+     */
+    @Benchmark
+    public double computeOverallScore() {
+        return ScoringEngine.getActive().score(scores[nextIndex()]);
+    }
+
+    /**
+     * Renders the full details of a competitor.
+     *
+     * @return the details
+     */
+    @Benchmark
+    public String getFullDetails() {
+        return competitors[nextIndex()].getFullDetails();
+    }
+
+    /**
+     * Renders the short details of a competitor.
+     *
+     * @return the details
+     */
+    @Benchmark
+    public String getShortDetails() {
+        return competitors[nextIndex()].getShortDetails();
+    }
+
+    /**
+     * Renders a competitor with {@code toString}.
+     *
+     * @return the text
+     */
+    @Benchmark
+    public String competitorToString() {
+        return competitors[nextIndex()].toString();
+    }
+
+    /**
+     * Joins the parts of a name.
+     *
+     * @return the full name
+     */
+    @Benchmark
+    public String getFullName() {
+        return names[nextIndex()].getFullName();
+    }
+
+    /**
+     * Builds a name, which computes its initials.
+     *
+     * @return the new name
+     */
+    @Benchmark
+    public Name newName() {
+        Name name = names[nextIndex()];
+        return new Name(name.getFirstName(), name.getMiddleName(), name.getLastName());
+    }
+}
@@ -0,0 +1,121 @@
+package Main;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code RowMappingBenchmarks} class times turning {@code mrcompetitors} rows into
+ * competitors with {@link CompetitorRowMapper}, reading from an embedded H2 database in
+ * MySQL mode so no server is needed. Times are per row and include the driver's cost of
+ * producing the row.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmarks {
+
+    private static final int ROWS = 10_000;
+
+    private static final String URL = "jdbc:h2:mem:rowmapping;MODE=MySQL;DB_CLOSE_DELAY=-1;"
+            + "INIT=CREATE SCHEMA IF NOT EXISTS competitors\\;SET SCHEMA competitors";
+
+    private static final String INSERT_SQL = "INSERT INTO mrcompetitors VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)";
+
+    private Connection connection;
+    private PreparedStatement selectAll;
+
+    /**
+     * Creates and fills the table and prepares the query.
+     *
+     * @throws SQLException if the embedded database cannot be set up
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(BenchmarkData.CREATE_TABLE_SQL);
+        }
+
+        Random random = new Random(4);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 1; i <= ROWS; i++) {
+                MRCompetitor competitor = BenchmarkData.randomCompetitor(i, random);
+                Name name = competitor.getName();
+                insert.setInt(1, i);
+                insert.setString(2, name.getFirstName());
+                insert.setString(3, name.getMiddleName());
+                insert.setString(4, name.getLastName());
+                insert.setString(5, competitor.getCompetitionLevel());
+                insert.setString(6, competitor.getgender());
+                insert.setString(7, competitor.getBelbeltColor());
+                int[] scores = competitor.getScores();
+                for (int j = 0; j < scores.length; j++) {
+                    insert.setInt(8 + j, scores[j]);
+                }
+                insert.setDouble(13, competitor.getOverallScore());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        selectAll = connection.prepareStatement("SELECT * FROM mrcompetitors");
+    }
+
+    /**
+     * Closes the connection and drops the database.
+     *
+     * @throws SQLException if closing fails
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        selectAll.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    /**
+     * Reads the whole table and maps every row.
+     *
+     * @return the last competitor mapped
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public MRCompetitor mapAllRows() throws SQLException {
+        MRCompetitor last = null;
+        try (ResultSet rs = selectAll.executeQuery()) {
+            CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+            while (rs.next()) {
+                last = mapper.map(rs);
+            }
+        }
+        return last;
+    }
+}
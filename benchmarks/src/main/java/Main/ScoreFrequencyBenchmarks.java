@@ -0,0 +1,101 @@
+package Main;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code ScoreFrequencyBenchmarks} class times counting how often each judge score
+ * occurs over synthetic in-memory rosters. {@link #repositoryScan()} counts every score on
+ * each call. {@link Manager#getScoreFrequency()} reads the {@link LiveScoreStatistics} it
+ * filled once, so {@link #managerLiveStatistics()} shows the cost of copying the
+ * maintained counts, not of counting. {@link #columnarScan()} counts every score over the
+ * primitive columns of a {@link ColumnarCompetitorStore} snapshot.
+ * <p>
+ * Rosters of ten million competitors need a larger heap, for example
+ * {@code -p size=10000000 -jvmArgs -Xmx8g}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreFrequencyBenchmarks {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private InMemoryCompetitorRepository repository;
+    private Manager manager;
+    private ColumnarCompetitorStore columnarStore;
+
+    /**
+     * Fills the roster, lets the manager build its live statistics and takes a columnar snapshot.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        repository = new InMemoryCompetitorRepository();
+        for (int i = 1; i <= size; i++) {
+            repository.addCompetitor(BenchmarkData.randomCompetitor(i, random));
+        }
+        manager = new Manager(repository);
+        manager.getScoreFrequency();
+        columnarStore = manager.getColumnarSnapshot();
+    }
+
+    /**
+     * Closes the manager and the roster.
+     */
+    @TearDown
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Counts every score in the roster.
+     *
+     * @return the frequency map
+     */
+    @Benchmark
+    public Map<Integer, Integer> repositoryScan() {
+        return repository.getScoreFrequency();
+    }
+
+    /**
+     * Copies the score counts the manager keeps up to date.
+     *
+     * @return the frequency map
+     */
+    @Benchmark
+    public Map<Integer, Integer> managerLiveStatistics() {
+        return manager.getScoreFrequency();
+    }
+
+    /**
+     * Counts every score in the columnar snapshot.
+     *
+     * @return the frequency map
+     */
+    @Benchmark
+    public Map<Integer, Integer> columnarScan() {
+        return columnarStore.getScoreFrequency();
+    }
+}
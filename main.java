@@ -1,7 +1,13 @@
 package Main;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Scanner;
 import java.util.Arrays;
+import java.util.function.Consumer;
 /**
  * The {@code Main} class provides the main menu and methods for managing competitors
  * in the Competitor Management System. It supports adding, updating, deleting,
@@ -12,6 +18,11 @@ import java.util.Arrays;
  * @since 2024
  */
 public class main {
+
+    /**
+     * Number of competitors shown per page in listings.
+     */
+    private static final int PAGE_SIZE = 10;
 	/**
      * Main entry point for the application. Displays a menu-driven interface
      * for managing competitors.
@@ -21,7 +32,6 @@ public class main {
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
         Manager manager = new Manager();
-        CompetitorDB competitorDB = new CompetitorDB();
 
         boolean running = true;
 
@@ -64,7 +74,7 @@ public class main {
 
                 case 4:
                     // Display All Competitors
-                    displayAllCompetitors(manager);
+                    displayAllCompetitors(scanner, manager);
                     break;
                     
                 case 5:
@@ -84,7 +94,7 @@ public class main {
                     deleteCompetitor(scanner, manager);
                     break;    
                 case 9:
-                    generateCompetitorTable(manager);
+                    generateCompetitorTable(scanner, manager);
                     break;
                 case 10:
                 	 manager.displayStatisticalSummary();;
@@ -102,6 +112,7 @@ public class main {
         }
 
         scanner.close();
+        manager.close();
     }
     /**
      * Retrieves full details of a competitor by ID and displays them.
@@ -170,7 +181,11 @@ public class main {
     private static void addCompetitor(Scanner scanner, Manager manager) {
         System.out.println("Adding New Competitor...");
 
-        int competitorID = CompetitorDB.fetchMaxCompetitorID() + 1;
+        int competitorID = manager.nextCompetitorID();
+        if (competitorID < 0) {
+            System.out.println("Could not generate a Competitor ID. Please try again later.");
+            return;
+        }
         System.out.println("Generated Competitor ID: " + competitorID);
 
         String firstName = validateNonEmptyString(scanner, "Enter First Name (cannot be empty):");
@@ -187,8 +202,9 @@ public class main {
         MRCompetitor competitor = new MRCompetitor(competitorID, name, competitionLevel, gender, beltColor, scores);
 
         // Add to manager
-        manager.addCompetitor(competitor);
-        System.out.println("Competitor added successfully!");
+        if (manager.addCompetitor(competitor)) {
+            System.out.println("Competitor added successfully!");
+        }
     }
 
     /**
@@ -393,8 +409,9 @@ public class main {
         }
 
         
-        manager.updateCompetitor(competitor);
-        System.out.println("All changes have been saved.");
+        if (manager.updateCompetitor(competitor)) {
+            System.out.println("All changes have been saved.");
+        }
     }
 
 
@@ -430,22 +447,57 @@ public class main {
     }
 
     /**
-     * Displays all competitors in the system.
+     * Displays all competitors in the system, one page at a time.
      * 
+     * @param scanner the {@link Scanner} object for user input
      * @param manager the {@link Manager} object managing competitors
      */
-    private static void displayAllCompetitors(Manager manager) {
+    private static void displayAllCompetitors(Scanner scanner, Manager manager) {
         System.out.println("Fetching all competitors...");
 
-        List<MRCompetitor> allCompetitors = manager.getAllCompetitors();
+        int shown = pageThroughCompetitors(scanner, manager, page -> {
+            for (MRCompetitor competitor : page) {
+                System.out.println(competitor.getFullDetails());
+            }
+        });
 
-        if (allCompetitors.isEmpty()) {
+        if (shown == 0) {
             System.out.println("No competitors found.");
-        } else {
-            for (MRCompetitor competitor : allCompetitors) {
-                System.out.println(competitor.getFullDetails());
+        }
+    }
+
+    /**
+     * Fetches competitors page by page in ID order, printing each page and asking
+     * the user whether to continue.
+     * 
+     * @param scanner the {@link Scanner} object for user input
+     * @param manager the {@link Manager} object managing competitors
+     * @param printPage prints one page of competitors
+     * @return the number of competitors shown
+     */
+    private static int pageThroughCompetitors(Scanner scanner, Manager manager, Consumer<List<MRCompetitor>> printPage) {
+        int shown = 0;
+        Integer afterId = null;
+
+        while (true) {
+            List<MRCompetitor> page = manager.getCompetitorsPage(afterId, 0, PAGE_SIZE, CompetitorSortKey.COMPETITOR_ID);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            printPage.accept(page);
+            shown += page.size();
+            afterId = page.get(page.size() - 1).getCompetitorID();
+
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            System.out.println("Press Enter for the next page or Q to return to the menu:");
+            if (scanner.nextLine().trim().equalsIgnoreCase("Q")) {
+                break;
             }
         }
+        return shown;
     }
     /**
      * Displays the top performer among the competitors.
@@ -508,8 +560,9 @@ public class main {
             String input = scanner.nextLine().trim().toUpperCase();
 
             if (input.equals("Y")) {
-                manager.deleteCompetitor(competitorID); 
-                System.out.println("Competitor ID " + competitorID + " has been successfully deleted.");
+                if (manager.deleteCompetitor(competitorID)) {
+                    System.out.println("Competitor ID " + competitorID + " has been successfully deleted.");
+                }
                 break;
             } else if (input.equals("N")) {
                 System.out.println("Deletion cancelled.");
@@ -521,29 +574,44 @@ public class main {
     }
 
     /**
-     * Generates Competitor table
+     * Generates the competitor table. The user can write the whole table to a file,
+     * streamed from the database, or page through it on screen.
      * 
+     * @param scanner the {@link Scanner} object for user input
      * @param manager the {@link Manager} object managing competitors
      */
-    private static void generateCompetitorTable(Manager manager) {
+    private static void generateCompetitorTable(Scanner scanner, Manager manager) {
         System.out.println("\n--- Comprehensive Competitor Table ---");
-        
-        List<MRCompetitor> allCompetitors = manager.getAllCompetitors();
+        System.out.println("Enter a file name to write the full table to, or press Enter to view it page by page:");
+        String fileName = scanner.nextLine().trim();
+
+        if (!fileName.isEmpty()) {
+            long start = System.currentTimeMillis();
+            try (Writer writer = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+                long rows = manager.writeCompetitorTable(writer);
+                System.out.println("Wrote " + rows + " competitors to " + fileName +
+                        " in " + (System.currentTimeMillis() - start) + " ms.");
+            } catch (IOException e) {
+                System.err.println("Error writing competitor table: " + e.getMessage());
+            }
+            return;
+        }
 
-        if (allCompetitors.isEmpty()) {
-            System.out.println("No competitors found in the database.");
-        } else {
-            System.out.printf("%-10s %-20s %-15s %-25s %-10s\n", "ID", "Name", "Level", "Scores", "Overall");
-            System.out.println("----------------------------------------------------------------------------");
-            for (MRCompetitor competitor : allCompetitors) {
-                String scores = Arrays.toString(competitor.getScores()).replaceAll("[\\[\\]]", "");
-                System.out.printf("%-10d %-20s %-15s %-25s %-10.2f\n",
-                        competitor.getCompetitorID(),
-                        competitor.getName().getFullName(),
-                        competitor.getCompetitionLevel(),
-                        scores,
-                        competitor.getOverallScore());
+        CompetitorReportWriter report = new CompetitorReportWriter(System.out);
+        int shown = pageThroughCompetitors(scanner, manager, page -> {
+            try {
+                report.writeHeader();
+                for (MRCompetitor competitor : page) {
+                    report.writeRow(competitor);
+                }
+                report.flush();
+            } catch (IOException e) {
+                System.err.println("Error writing competitor table: " + e.getMessage());
             }
+        });
+
+        if (shown == 0) {
+            System.out.println("No competitors found in the database.");
         }
     } 
     
@@ -0,0 +1,104 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ColumnarCompetitorStore}: that the column scans give the same figures
+ * as the repository, and that rows survive the columns growing.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class ColumnarCompetitorStoreTest {
+
+    @Test
+    void snapshotMatchesTheRepository() {
+        InMemoryCompetitorRepository repository = new InMemoryCompetitorRepository();
+        for (int id = 1; id <= 100; id++) {
+            repository.addCompetitor(competitor(id, id % 3 == 0 ? "Expert" : "Novice",
+                    new int[] {id % 6, (id + 1) % 6, (id + 2) % 6, (id * 7) % 6, 5}));
+        }
+        Manager manager = new Manager(repository);
+        try {
+            ColumnarCompetitorStore store = manager.getColumnarSnapshot();
+
+            assertEquals(100, store.size());
+            assertEquals(repository.getScoreFrequency(), store.getScoreFrequency());
+
+            ScoreSummary expected = repository.getStatisticalSummary();
+            ScoreSummary actual = store.getStatisticalSummary();
+            assertEquals(expected.getTotalCompetitors(), actual.getTotalCompetitors());
+            assertEquals(expected.getMaxOverallScore(), actual.getMaxOverallScore());
+            assertEquals(expected.getLevelCounts(), actual.getLevelCounts());
+            assertEquals(expected.getLevelAverages().keySet(), actual.getLevelAverages().keySet());
+            for (String level : expected.getLevelAverages().keySet()) {
+                assertEquals(expected.getLevelAverages().get(level), actual.getLevelAverages().get(level), 1e-9);
+            }
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    void rowsSurviveGrowth() {
+        ColumnarCompetitorStore store = new ColumnarCompetitorStore(1);
+        for (int id = 1; id <= 40; id++) {
+            store.add(competitor(id, id % 2 == 0 ? null : "Novice", new int[] {id % 6, 1, 2, 3, 4}));
+        }
+
+        assertEquals(40, store.size());
+        MRCompetitor row = store.getCompetitor(36);
+        assertEquals(37, row.getCompetitorID());
+        assertEquals("Last37", row.getName().getLastName());
+        assertEquals("Novice", row.getCompetitionLevel());
+        assertArrayEquals(new int[] {1, 1, 2, 3, 4}, row.getScores());
+        assertNull(store.getCompetitor(37).getCompetitionLevel());
+        assertEquals(Integer.valueOf(20), store.getStatisticalSummary().getLevelCounts().get("Unknown"));
+    }
+
+    @Test
+    void topPerformerTiesGoToTheLowestId() {
+        ColumnarCompetitorStore store = new ColumnarCompetitorStore();
+        assertNull(store.getTopPerformer());
+
+        store.add(competitor(9, "Novice", new int[] {5, 5, 5, 5, 5}));
+        store.add(competitor(4, "Novice", new int[] {5, 5, 5, 5, 5}));
+        store.add(competitor(2, "Novice", new int[] {1, 1, 1, 1, 1}));
+
+        assertEquals(4, store.getTopPerformer().getCompetitorID());
+    }
+
+    @Test
+    void wideScoreRangesAreCountedSparsely() {
+        ColumnarCompetitorStore store = new ColumnarCompetitorStore();
+        store.add(competitor(1, "Novice", new int[] {-100000, 0, 0, 100000, 7}));
+
+        Map<Integer, Integer> expected = new TreeMap<>();
+        expected.put(-100000, 1);
+        expected.put(0, 2);
+        expected.put(7, 1);
+        expected.put(100000, 1);
+        assertEquals(expected, store.getScoreFrequency());
+    }
+
+    @Test
+    void missingRowsAreRejected() {
+        ColumnarCompetitorStore store = new ColumnarCompetitorStore();
+        store.add(competitor(1, "Novice", new int[] {1, 2, 3, 4, 5}));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getCompetitor(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getCompetitor(-1));
+    }
+
+    private static MRCompetitor competitor(int id, String level, int[] scores) {
+        return new MRCompetitor(id, new Name("First", null, "Last" + id), level, "Male", "Red", scores);
+    }
+}
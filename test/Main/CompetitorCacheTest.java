@@ -0,0 +1,110 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompetitorCache}: read-through loading, copies on every lookup,
+ * invalidation, eviction and expiry.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class CompetitorCacheTest {
+
+    private final Map<Integer, MRCompetitor> stored = new HashMap<>();
+    private int loads;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 3; id++) {
+            stored.put(id, new MRCompetitor(id, new Name("First", null, "Last" + id), "Novice", "Male", "Red",
+                    new int[] {1, 2, 3, 4, 5}));
+        }
+    }
+
+    @Test
+    void loadsOnMissAndServesHitsFromTheCache() {
+        CompetitorCache cache = new CompetitorCache(this::load, 10, 60_000);
+
+        assertEquals("Last1", cache.get(1).getName().getLastName());
+        assertEquals("Last1", cache.get(1).getName().getLastName());
+        assertNull(cache.get(99));
+
+        assertEquals(2, loads);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void editingAReturnedCompetitorDoesNotChangeTheCache() {
+        CompetitorCache cache = new CompetitorCache(this::load, 10, 60_000);
+
+        MRCompetitor loaded = cache.get(1);
+        loaded.getName().setFirstName("Unsaved");
+        loaded.setScores(new int[] {0, 0, 0, 0, 0});
+        MRCompetitor hit = cache.get(1);
+        hit.getName().setLastName("Unsaved");
+
+        MRCompetitor again = cache.get(1);
+        assertNotSame(hit, again);
+        assertEquals("First", again.getName().getFirstName());
+        assertEquals("Last1", again.getName().getLastName());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, again.getScores());
+        assertEquals(1, loads);
+    }
+
+    @Test
+    void invalidatedEntriesAreLoadedAgain() {
+        CompetitorCache cache = new CompetitorCache(this::load, 10, 60_000);
+        cache.get(1);
+        cache.get(2);
+
+        stored.get(1).getName().setLastName("Renamed");
+        cache.invalidate(1);
+        assertEquals("Renamed", cache.get(1).getName().getLastName());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        cache.get(2);
+        assertEquals(4, loads);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedAndExpiresOldEntries() throws InterruptedException {
+        CompetitorCache cache = new CompetitorCache(this::load, 2, 60_000);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+
+        assertEquals(1, cache.getEvictions());
+        cache.get(1);
+        assertEquals(3, loads);
+        cache.get(2);
+        assertEquals(4, loads);
+
+        CompetitorCache expiring = new CompetitorCache(this::load, 10, 1);
+        expiring.get(1);
+        Thread.sleep(5);
+        expiring.get(1);
+        assertEquals(1, expiring.getExpirations());
+        assertThrows(IllegalArgumentException.class, () -> new CompetitorCache(this::load, 0, 1));
+    }
+
+    private MRCompetitor load(int competitorID) {
+        loads++;
+        MRCompetitor competitor = stored.get(competitorID);
+        return competitor == null ? null : competitor.copy();
+    }
+}
@@ -0,0 +1,107 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the batch insert and rollback paths of {@link CompetitorDB}, run against an
+ * in-memory H2 database.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class CompetitorDBBatchTest {
+
+    private TestDatabase database;
+    private CompetitorDB db;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.create();
+        db = database.open();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        db.close();
+        database.drop();
+    }
+
+    @Test
+    void insertsEveryRowInChunks() {
+        List<MRCompetitor> competitors = new ArrayList<>();
+        for (int id = 1; id <= 250; id++) {
+            competitors.add(competitor(id));
+        }
+
+        BatchInsertResult result = db.addCompetitorsBatch(competitors, 100);
+
+        assertTrue(result.isComplete());
+        assertEquals(250, result.getInsertedCount());
+        assertEquals(250, db.getTotalNumberOfCompetitors());
+        assertEquals("Last125", db.getCompetitorsById(125).getName().getLastName());
+    }
+
+    @Test
+    void duplicateRowsAreReportedAndValidRowsKept() {
+        assertTrue(db.addCompetitorDB(competitor(2), competitor(2).getName()));
+
+        BatchInsertResult result = db.addCompetitorsBatch(
+                Arrays.asList(competitor(1), competitor(2), competitor(3), competitor(3), competitor(4)), 3);
+
+        assertFalse(result.isComplete());
+        assertEquals(3, result.getInsertedCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getRowIndex());
+        assertEquals(3, result.getFailures().get(1).getRowIndex());
+        assertEquals(4, db.getTotalNumberOfCompetitors());
+    }
+
+    @Test
+    void rowThatCannotBeBoundIsReportedAndItsChunkRolledBack() {
+        MRCompetitor unnamed = new MRCompetitor(5, null, "Novice", "Male", "Red", new int[] {1, 2, 3, 4, 5});
+
+        BatchInsertResult result = db.addCompetitorsBatch(
+                Arrays.asList(competitor(1), competitor(2), competitor(3), competitor(4), unnamed, competitor(6)), 3);
+
+        assertFalse(result.isComplete());
+        assertEquals(5, result.getInsertedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(4, result.getFailures().get(0).getRowIndex());
+        assertEquals(5, db.getTotalNumberOfCompetitors());
+        assertNull(db.getCompetitorsById(5));
+
+        // Row 4 was queued before the failure; it was rolled back and stored once by the retry
+        BatchInsertResult next = db.addCompetitorsBatch(Arrays.asList(competitor(7), competitor(8)), 3);
+        assertTrue(next.isComplete());
+        assertEquals(2, next.getInsertedCount());
+        assertEquals(7, db.getTotalNumberOfCompetitors());
+    }
+
+    @Test
+    void updatesOverallScoresInBatches() {
+        db.addCompetitorsBatch(Arrays.asList(competitor(1), competitor(2), competitor(3)), 10);
+
+        int written = db.updateOverallScores(new int[] {1, 3, 99}, new double[] {1.25, 4.75, 0.0}, 2, 1);
+
+        assertEquals(2, written);
+        assertEquals(1.25, db.getCompetitorsById(1).getOverallScore());
+        assertEquals(4.75, db.getCompetitorsById(3).getOverallScore());
+    }
+
+    private static MRCompetitor competitor(int id) {
+        return new MRCompetitor(id, new Name("First", null, "Last" + id), "Novice", "Male", "Red",
+                new int[] {1, 2, 3, 4, 5});
+    }
+}
@@ -0,0 +1,68 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the keyset pagination of {@link CompetitorDB}, run against an in-memory H2
+ * database.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class CompetitorDBPagingTest {
+
+    private TestDatabase database;
+    private CompetitorDB db;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.create();
+        db = database.open();
+        int[] ids = {-5, 0, 3, 4, 7};
+        int[][] scores = {{5, 5, 5, 5, 5}, {5, 5, 5, 5, 5}, {1, 1, 1, 1, 1}, {3, 3, 3, 3, 3}, {3, 3, 3, 3, 3}};
+        List<MRCompetitor> competitors = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            competitors.add(new MRCompetitor(ids[i], new Name("First", null, "Last"), "Novice", "Male", "Red", scores[i]));
+        }
+        db.addCompetitorsBatch(competitors);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        db.close();
+        database.drop();
+    }
+
+    @Test
+    void pagesInIdOrderFromTheFirstPage() {
+        assertEquals(Arrays.asList(-5, 0, 3, 4, 7), pageThrough(CompetitorSortKey.COMPETITOR_ID, 2));
+    }
+
+    @Test
+    void pagesInScoreOrderAcrossNonPositiveSeekKeys() {
+        assertEquals(Arrays.asList(-5, 0, 4, 7, 3), pageThrough(CompetitorSortKey.OVERALL_SCORE, 1));
+        assertEquals(Arrays.asList(-5, 0, 4, 7, 3), pageThrough(CompetitorSortKey.OVERALL_SCORE, 2));
+    }
+
+    private List<Integer> pageThrough(CompetitorSortKey sortKey, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        List<MRCompetitor> page = db.getCompetitorsPage(null, 0, limit, sortKey);
+        while (!page.isEmpty()) {
+            for (MRCompetitor competitor : page) {
+                ids.add(competitor.getCompetitorID());
+            }
+            MRCompetitor last = page.get(page.size() - 1);
+            page = db.getCompetitorsPage(last.getCompetitorID(), last.getOverallScore(), limit, sortKey);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,101 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompetitorRowMapper}, reading rows from an in-memory H2 database.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class CompetitorRowMapperTest {
+
+    private TestDatabase database;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.create();
+        database.execute("INSERT INTO mrcompetitors VALUES "
+                + "(1, 'Ana', NULL, 'Silva', 'Novice', 'Female', 'Blue', 1, 2, 3, 4, 5, 9.5), "
+                + "(2, 'Ben', 'J', 'Smith', 'Expert', 'Male', 'Black', 1, 2, 3, 4, 5, NULL)");
+        connection = DriverManager.getConnection(database.getUrl(), "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        database.drop();
+    }
+
+    @Test
+    void mapsEveryColumnAndTrustsAStoredScore() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM mrcompetitors WHERE competitorID = 1")) {
+            CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+            assertTrue(rs.next());
+
+            MRCompetitor competitor = mapper.map(rs);
+
+            assertEquals(1, competitor.getCompetitorID());
+            assertEquals("Ana", competitor.getName().getFirstName());
+            assertNull(competitor.getName().getMiddleName());
+            assertEquals("Silva", competitor.getName().getLastName());
+            assertEquals("Blue", competitor.getBelbeltColor());
+            assertEquals(5, competitor.getScore5());
+            assertEquals(9.5, competitor.getOverallScore());
+            assertEquals(9.5, mapper.readOverallScore(rs));
+        }
+    }
+
+    @Test
+    void computesAMissingStoredScore() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM mrcompetitors WHERE competitorID = 2")) {
+            CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+            assertTrue(rs.next());
+
+            assertEquals(3.0, mapper.map(rs).getOverallScore());
+            assertEquals(3.0, mapper.readOverallScore(rs));
+        }
+    }
+
+    @Test
+    void computesTheScoreWhenTheColumnIsNotSelected() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT competitorID, lastName, score1, score2, score3, score4, score5 FROM mrcompetitors WHERE competitorID = 1")) {
+            CompetitorRowMapper mapper = new CompetitorRowMapper(rs);
+            assertTrue(rs.next());
+
+            MRCompetitor competitor = mapper.map(rs);
+
+            assertNull(competitor.getName().getFirstName());
+            assertEquals(3.0, competitor.getOverallScore());
+            assertEquals(3.0, mapper.readOverallScore(rs));
+        }
+    }
+
+    @Test
+    void databaseLookupsComputeAMissingStoredScore() {
+        CompetitorDB db = database.open();
+        try {
+            assertEquals(3.0, db.getCompetitorsById(2).getOverallScore());
+            assertEquals(1, db.getTopPerformer().getCompetitorID());
+        } finally {
+            db.close();
+        }
+    }
+}
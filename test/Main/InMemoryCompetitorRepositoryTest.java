@@ -0,0 +1,142 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link InMemoryCompetitorRepository}: writes, copies on read, paging and
+ * aggregates.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class InMemoryCompetitorRepositoryTest {
+
+    private InMemoryCompetitorRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryCompetitorRepository();
+    }
+
+    @Test
+    void writesReportWhetherTheyApplied() {
+        assertTrue(repository.addCompetitor(competitor(1, 3.0)));
+        assertFalse(repository.addCompetitor(competitor(1, 4.0)));
+        assertTrue(repository.updateCompetitor(competitor(1, 4.0)));
+        assertFalse(repository.updateCompetitor(competitor(2, 4.0)));
+        assertTrue(repository.deleteCompetitor(1));
+        assertFalse(repository.deleteCompetitor(1));
+        assertEquals(0, repository.getTotalNumberOfCompetitors());
+    }
+
+    @Test
+    void batchReportsDuplicatesAndKeepsTheRest() {
+        repository.addCompetitor(competitor(2, 1.0));
+
+        BatchInsertResult result = repository.addCompetitorsBatch(
+                Arrays.asList(competitor(1, 1.0), competitor(2, 1.0), competitor(3, 1.0)), 2);
+
+        assertEquals(2, result.getInsertedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getRowIndex());
+        assertEquals(3, repository.getTotalNumberOfCompetitors());
+        assertEquals(4, repository.nextCompetitorID());
+    }
+
+    @Test
+    void storedAndReturnedCompetitorsAreCopies() {
+        MRCompetitor original = competitor(1, 3.0);
+        repository.addCompetitor(original);
+        original.getName().setLastName("Changed");
+        original.setScores(new int[] {0, 0, 0, 0, 0});
+
+        MRCompetitor read = repository.getCompetitorsById(1);
+        assertEquals("Last1", read.getName().getLastName());
+        read.getName().setLastName("Changed");
+        read.getScores()[0] = 0;
+        repository.getAllCompetitors().get(0).getName().setLastName("Changed");
+        repository.getTopPerformer().getName().setLastName("Changed");
+
+        MRCompetitor again = repository.getCompetitorsById(1);
+        assertEquals("Last1", again.getName().getLastName());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, again.getScores());
+    }
+
+    @Test
+    void pagesInIdAndScoreOrder() {
+        double[] scores = {2.0, 5.0, 2.0, 4.0, 5.0, 1.0};
+        for (int i = 0; i < scores.length; i++) {
+            repository.addCompetitor(competitor(i + 1, scores[i]));
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3), ids(repository.getCompetitorsPage(null, 0, 3, CompetitorSortKey.COMPETITOR_ID)));
+        assertEquals(Arrays.asList(4, 5, 6), ids(repository.getCompetitorsPage(3, 0, 3, CompetitorSortKey.COMPETITOR_ID)));
+
+        List<Integer> byScore = new ArrayList<>();
+        List<MRCompetitor> page = repository.getCompetitorsPage(null, 0, 2, CompetitorSortKey.OVERALL_SCORE);
+        while (!page.isEmpty()) {
+            byScore.addAll(ids(page));
+            MRCompetitor last = page.get(page.size() - 1);
+            page = repository.getCompetitorsPage(last.getCompetitorID(), last.getOverallScore(), 2, CompetitorSortKey.OVERALL_SCORE);
+        }
+        assertEquals(Arrays.asList(2, 5, 4, 1, 3, 6), byScore);
+        assertEquals(2, repository.getTopPerformer().getCompetitorID());
+        assertEquals(6, repository.getMaxCompetitorID());
+    }
+
+    @Test
+    void pagesFromNonPositiveIds() {
+        int[] ids = {-5, 0, 3};
+        double[] scores = {4.0, 4.0, 2.0};
+        for (int i = 0; i < ids.length; i++) {
+            repository.addCompetitor(competitor(ids[i], scores[i]));
+        }
+
+        assertEquals(Arrays.asList(-5, 0), ids(repository.getCompetitorsPage(null, 0, 2, CompetitorSortKey.COMPETITOR_ID)));
+        assertEquals(Arrays.asList(0, 3), ids(repository.getCompetitorsPage(-5, 0, 2, CompetitorSortKey.COMPETITOR_ID)));
+        assertEquals(Arrays.asList(0, 3), ids(repository.getCompetitorsPage(-5, 4.0, 2, CompetitorSortKey.OVERALL_SCORE)));
+        assertEquals(Arrays.asList(3), ids(repository.getCompetitorsPage(0, 4.0, 2, CompetitorSortKey.OVERALL_SCORE)));
+
+        List<Integer> scanned = new ArrayList<>();
+        repository.forEachCompetitorInRange(Integer.MIN_VALUE, 1, competitor -> scanned.add(competitor.getCompetitorID()));
+        assertEquals(Arrays.asList(-5, 0), scanned);
+    }
+
+    @Test
+    void countsScoreFrequencies() {
+        repository.addCompetitor(competitor(1, 3.0));
+        repository.addCompetitor(competitor(2, 3.0));
+
+        Map<Integer, Integer> frequency = repository.getScoreFrequency();
+
+        assertEquals(5, frequency.size());
+        assertEquals(2, frequency.get(4));
+        assertNull(frequency.get(0));
+        assertEquals(2, repository.getStatisticalSummary().getTotalCompetitors());
+    }
+
+    private static MRCompetitor competitor(int id, double overallScore) {
+        return new MRCompetitor(id, new Name("First", null, "Last" + id), "Novice", "Male", "Red",
+                new int[] {1, 2, 3, 4, 5}, overallScore);
+    }
+
+    private static List<Integer> ids(List<MRCompetitor> competitors) {
+        List<Integer> ids = new ArrayList<>();
+        for (MRCompetitor competitor : competitors) {
+            ids.add(competitor.getCompetitorID());
+        }
+        return ids;
+    }
+}
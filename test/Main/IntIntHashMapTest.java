@@ -0,0 +1,80 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link IntIntHashMap}, checked against a {@link HashMap}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class IntIntHashMapTest {
+
+    @Test
+    void putGetAndRemove() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        assertEquals(IntIntHashMap.NO_VALUE, map.put(7, 70));
+        assertEquals(70, map.put(7, 71));
+        assertEquals(71, map.get(7));
+        assertTrue(map.containsKey(7));
+        assertEquals(IntIntHashMap.NO_VALUE, map.get(8));
+
+        assertEquals(71, map.remove(7));
+        assertFalse(map.containsKey(7));
+        assertEquals(IntIntHashMap.NO_VALUE, map.remove(7));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void handlesZeroAndNegativeKeys() {
+        IntIntHashMap map = new IntIntHashMap(4);
+        map.put(0, 1);
+        map.put(-5, 2);
+        map.put(Integer.MIN_VALUE, 3);
+
+        assertEquals(1, map.get(0));
+        assertEquals(2, map.get(-5));
+        assertEquals(3, map.get(Integer.MIN_VALUE));
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -5, 0}, keys);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomUpdates() {
+        Random random = new Random(7);
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int step = 0; step < 100000; step++) {
+            int key = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                assertEquals(previous == null ? IntIntHashMap.NO_VALUE : previous, map.remove(key));
+            } else {
+                int value = random.nextInt(1000);
+                Integer previous = expected.put(key, value);
+                assertEquals(previous == null ? IntIntHashMap.NO_VALUE : previous, map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals((int) entry.getValue(), map.get(entry.getKey()));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(0, map.keys().length);
+    }
+}
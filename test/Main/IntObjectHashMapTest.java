@@ -0,0 +1,68 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link IntObjectHashMap}, checked against a {@link HashMap}.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class IntObjectHashMapTest {
+
+    @Test
+    void putGetAndRemove() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertEquals("b", map.get(1));
+        assertNull(map.get(2));
+
+        assertEquals("b", map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertNull(map.remove(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomUpdates() {
+        Random random = new Random(11);
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>(8);
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int step = 0; step < 100000; step++) {
+            int key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                Integer value = random.nextInt();
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key : map.keys()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        List<Integer> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertEquals(expected.size(), values.size());
+        assertTrue(values.containsAll(expected.values()));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
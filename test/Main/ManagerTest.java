@@ -0,0 +1,169 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Manager} over an {@link InMemoryCompetitorRepository}: the lookup cache
+ * and the views it keeps up to date.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class ManagerTest {
+
+    private Manager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new Manager(new InMemoryCompetitorRepository());
+        manager.addCompetitor(competitor(1, "Last1", new int[] {1, 2, 3, 4, 5}));
+        manager.addCompetitor(competitor(2, "Last2", new int[] {2, 3, 4, 5, 5}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+        ScoringEngine.setActive(new ScoringEngine());
+    }
+
+    @Test
+    void unsavedEditsDoNotReachLaterLookups() {
+        MRCompetitor edited = manager.getCompetitorsById(1);
+        edited.getName().setFirstName("Unsaved");
+        edited.setScores(new int[] {5, 5, 5, 5, 5});
+
+        MRCompetitor again = manager.getCompetitorsById(1);
+        assertEquals("First", again.getName().getFirstName());
+        assertEquals(3.0, again.getOverallScore());
+    }
+
+    @Test
+    void updatesAreSeenByTheNextLookup() {
+        manager.getCompetitorsById(1);
+        MRCompetitor edited = manager.getCompetitorsById(1);
+        edited.getName().setLastName("Saved");
+
+        assertTrue(manager.updateCompetitor(edited));
+        assertEquals("Saved", manager.getCompetitorsById(1).getName().getLastName());
+
+        assertTrue(manager.deleteCompetitor(1));
+        assertNull(manager.getCompetitorsById(1));
+    }
+
+    @Test
+    void failedUpdateDropsTheCachedCompetitor() {
+        manager.getCompetitorsById(2);
+        long before = manager.getCompetitorCache().getMisses();
+
+        assertFalse(manager.updateCompetitor(competitor(3, "Missing", new int[] {1, 1, 1, 1, 1})));
+        MRCompetitor missing = competitor(2, "Changed", new int[] {1, 1, 1, 1, 1});
+        manager.getRepository().deleteCompetitor(2);
+        assertFalse(manager.updateCompetitor(missing));
+
+        assertNull(manager.getCompetitorsById(2));
+        assertEquals(before + 1, manager.getCompetitorCache().getMisses());
+    }
+
+    @Test
+    void changingTheScoringEngineRescoresStoredCompetitors() {
+        assertEquals(2, manager.getTopPerformer().getCompetitorID());
+        assertEquals(4.0, manager.getStatisticalSummary().getMaxOverallScore());
+        manager.getCompetitorsById(1);
+
+        manager.setScoringEngine(new ScoringEngine(ScoringRules.trimmedMean(0)));
+
+        assertEquals(3.0, manager.getRepository().getCompetitorsById(1).getOverallScore());
+        assertEquals(3.8, manager.getRepository().getCompetitorsById(2).getOverallScore(), 1e-9);
+        assertEquals(3.0, manager.getCompetitorsById(1).getOverallScore());
+        assertEquals(3.8, manager.getStatisticalSummary().getMaxOverallScore(), 1e-9);
+        assertEquals(2, manager.getTopPerformer().getCompetitorID());
+    }
+
+    @Test
+    void changingTheScoringEngineCanReorderTheStandings() {
+        manager.addCompetitor(competitor(3, "Last3", new int[] {0, 0, 5, 5, 5}));
+        assertEquals(2, manager.getTopPerformer().getCompetitorID());
+
+        manager.setScoringEngine(new ScoringEngine(ScoringRules.median()));
+
+        assertEquals(3, manager.getTopPerformer().getCompetitorID());
+        assertEquals(1, manager.getRank(3));
+    }
+
+    @Test
+    void leaderboardsFollowEveryWrite() {
+        DivisionLeaderboards boards = manager.getLeaderboards();
+        assertEquals(2, boards.size());
+        assertEquals(2, boards.getLeader().getCompetitorID());
+
+        assertTrue(manager.addCompetitor(competitor(3, "Last3", new int[] {5, 5, 5, 5, 5})));
+        assertEquals(3, boards.getLeader().getCompetitorID());
+
+        assertTrue(manager.updateCompetitor(competitor(3, "Last3", new int[] {0, 0, 0, 0, 0})));
+        assertEquals(2, boards.getLeader().getCompetitorID());
+        assertEquals(Arrays.asList(2, 1, 3), ids(boards.getTop(10)));
+
+        assertTrue(manager.deleteCompetitor(2));
+        assertEquals(1, boards.getLeader().getCompetitorID());
+        assertEquals(2, boards.size());
+    }
+
+    @Test
+    void rejectedWritesAreNotReported() {
+        DivisionLeaderboards boards = manager.getLeaderboards();
+
+        assertFalse(manager.addCompetitor(competitor(1, "Duplicate", new int[] {5, 5, 5, 5, 5})));
+        assertFalse(manager.updateCompetitor(competitor(9, "Missing", new int[] {5, 5, 5, 5, 5})));
+        assertFalse(manager.deleteCompetitor(9));
+        BatchInsertResult result = manager.addCompetitorsBatch(Arrays.asList(
+                competitor(4, "Last4", new int[] {4, 4, 4, 4, 4}),
+                competitor(2, "Duplicate", new int[] {5, 5, 5, 5, 5})), 10);
+
+        assertEquals(1, result.getInsertedCount());
+        assertEquals(Arrays.asList(2, 4, 1), ids(boards.getTop(10)));
+        assertEquals("Last1", boards.getTop(10).get(2).getName().getLastName());
+    }
+
+    @Test
+    void leaderboardsDoNotShareCompetitorsWithCallers() {
+        MRCompetitor added = competitor(3, "Last3", new int[] {5, 5, 5, 5, 5});
+        manager.addCompetitor(added);
+        added.setScores(new int[] {0, 0, 0, 0, 0});
+        added.getName().setLastName("Changed");
+
+        MRCompetitor leader = manager.getTopPerformer();
+        assertEquals(3, leader.getCompetitorID());
+        assertEquals("Last3", leader.getName().getLastName());
+
+        leader.setScores(new int[] {0, 0, 0, 0, 0});
+        leader.getName().setLastName("Changed");
+        List<MRCompetitor> podium = manager.getDivisionLeaderboard("Novice", "Male", "Red", 3);
+        podium.get(0).getName().setLastName("Changed");
+
+        assertEquals(5.0, manager.getTopPerformer().getOverallScore());
+        assertEquals("Last3", manager.getTopPerformer().getName().getLastName());
+        assertEquals("Last3", manager.getDivisionLeaderboard("Novice", "Male", "Red", 3).get(0).getName().getLastName());
+    }
+
+    private static List<Integer> ids(List<MRCompetitor> competitors) {
+        Integer[] ids = new Integer[competitors.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = competitors.get(i).getCompetitorID();
+        }
+        return Arrays.asList(ids);
+    }
+
+    private static MRCompetitor competitor(int id, String lastName, int[] scores) {
+        return new MRCompetitor(id, new Name("First", null, lastName), "Novice", "Male", "Red", scores);
+    }
+}
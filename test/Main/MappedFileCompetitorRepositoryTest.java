@@ -0,0 +1,139 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MappedFileCompetitorRepository}: writes, reopening and compaction.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class MappedFileCompetitorRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesSurviveReopening() throws IOException {
+        Path file = tempDir.resolve("competitors.dat");
+        try (MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(file)) {
+            assertTrue(repository.addCompetitor(competitor(1, "One", 3.0)));
+            assertTrue(repository.addCompetitor(competitor(2, "Two", 4.0)));
+            assertFalse(repository.addCompetitor(competitor(2, "Again", 1.0)));
+            assertTrue(repository.updateCompetitor(competitor(1, "Renamed", 5.0)));
+            assertTrue(repository.deleteCompetitor(2));
+            assertFalse(repository.deleteCompetitor(2));
+        }
+
+        try (MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(file)) {
+            assertEquals(1, repository.getTotalNumberOfCompetitors());
+            assertEquals("Renamed", repository.getCompetitorsById(1).getName().getLastName());
+            assertEquals(5.0, repository.getCompetitorsById(1).getOverallScore());
+            assertNull(repository.getCompetitorsById(2));
+            assertEquals(1, repository.getTopPerformer().getCompetitorID());
+        }
+    }
+
+    @Test
+    void compactsOnceTombstonesOutnumberLiveRecords() throws Exception {
+        Path file = tempDir.resolve("competitors.dat");
+        MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(file);
+        for (int id = 1; id <= 3000; id++) {
+            repository.addCompetitor(competitor(id, "Last" + id, id % 7));
+        }
+        for (int id = 1; id <= 2500; id++) {
+            repository.deleteCompetitor(id);
+        }
+
+        // Compaction runs in the background
+        for (int attempt = 0; attempt < 100 && repository.getCompactionCount() == 0; attempt++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, repository.getCompactionCount());
+        assertNull(repository.getCompactionFailure());
+        assertEquals(500, repository.getTotalNumberOfCompetitors());
+        assertEquals("Last2600", repository.getCompetitorsById(2600).getName().getLastName());
+        assertNull(repository.getCompetitorsById(10));
+        assertTrue(repository.addCompetitor(competitor(4000, "After", 1.0)));
+        repository.close();
+        // A second close is harmless
+        repository.close();
+
+        try (MappedFileCompetitorRepository reopened = new MappedFileCompetitorRepository(file)) {
+            assertEquals(501, reopened.getTotalNumberOfCompetitors());
+            assertEquals("After", reopened.getCompetitorsById(4000).getName().getLastName());
+        }
+    }
+
+    @Test
+    void compactsOnDemand() throws IOException {
+        Path file = tempDir.resolve("competitors.dat");
+        try (MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(file)) {
+            for (int id = 1; id <= 10; id++) {
+                repository.addCompetitor(competitor(id, "Last" + id, id));
+            }
+            repository.deleteCompetitor(3);
+            repository.updateCompetitor(competitor(4, "Updated", 4));
+
+            repository.compact();
+
+            assertEquals(1, repository.getCompactionCount());
+            assertEquals(9, repository.getTotalNumberOfCompetitors());
+            assertEquals("Updated", repository.getCompetitorsById(4).getName().getLastName());
+            assertEquals(10, repository.getTopPerformer().getCompetitorID());
+            assertTrue(repository.addCompetitor(competitor(11, "After", 1.0)));
+        }
+        assertFalse(Files.exists(tempDir.resolve("competitors.dat.compact")));
+    }
+
+    @Test
+    void failedCompactionIsThrownAndTheOldFileKeepsWorking() throws IOException {
+        Path file = tempDir.resolve("competitors.dat");
+        // A non-empty directory where the compacted file goes makes writing it fail
+        Path blocker = Files.createDirectory(tempDir.resolve("competitors.dat.compact"));
+        Files.createFile(blocker.resolve("keep"));
+        try (MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(file)) {
+            repository.addCompetitor(competitor(1, "One", 1.0));
+            repository.addCompetitor(competitor(2, "Two", 2.0));
+            repository.deleteCompetitor(1);
+
+            assertThrows(IOException.class, repository::compact);
+
+            assertEquals(0, repository.getCompactionCount());
+            assertEquals(1, repository.getTotalNumberOfCompetitors());
+            assertEquals("Two", repository.getCompetitorsById(2).getName().getLastName());
+            assertTrue(repository.addCompetitor(competitor(3, "Three", 3.0)));
+        }
+        try (MappedFileCompetitorRepository reopened = new MappedFileCompetitorRepository(file)) {
+            assertEquals(2, reopened.getTotalNumberOfCompetitors());
+        }
+    }
+
+    @Test
+    void closedRepositoryRejectsUse() throws IOException {
+        MappedFileCompetitorRepository repository = new MappedFileCompetitorRepository(tempDir.resolve("competitors.dat"));
+        repository.addCompetitor(competitor(1, "One", 1.0));
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.getCompetitorsById(1));
+        assertThrows(IllegalStateException.class, () -> repository.addCompetitor(competitor(2, "Two", 2.0)));
+        assertThrows(IllegalStateException.class, repository::compact);
+    }
+
+    private static MRCompetitor competitor(int id, String lastName, double overallScore) {
+        return new MRCompetitor(id, new Name("First", null, lastName), "Novice", "Male", "Red",
+                new int[] {1, 2, 3, 4, 5}, overallScore);
+    }
+}
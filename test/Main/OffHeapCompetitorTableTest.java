@@ -0,0 +1,129 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link OffHeapCompetitorTable}: that rows and names survive the direct
+ * buffers growing, that the flyweight checks its bounds, and that a closed table
+ * refuses to be read.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class OffHeapCompetitorTableTest {
+
+    @Test
+    void rowsSurviveGrowth() {
+        try (OffHeapCompetitorTable table = new OffHeapCompetitorTable(1)) {
+            long reserved = table.getReservedBytes();
+            StringBuilder longName = new StringBuilder();
+            for (int i = 0; i < 200; i++) {
+                longName.append('x');
+            }
+            for (int id = 1; id <= 100; id++) {
+                table.add(new MRCompetitor(id, new Name("Zoë" + id, id % 2 == 0 ? null : "Mid", longName + "-" + id),
+                        id % 3 == 0 ? null : "Novice", "Female", "Blue", new int[] {id % 6, 1, 2, 3, 4}));
+            }
+
+            assertEquals(100, table.size());
+            assertTrue(table.getReservedBytes() > reserved);
+            for (int id = 1; id <= 100; id++) {
+                MRCompetitor competitor = table.row(id - 1).toCompetitor();
+                assertEquals(id, competitor.getCompetitorID());
+                assertEquals("Zoë" + id, competitor.getName().getFirstName());
+                assertEquals(id % 2 == 0 ? null : "Mid", competitor.getName().getMiddleName());
+                assertEquals(longName + "-" + id, competitor.getName().getLastName());
+                assertEquals(id % 3 == 0 ? null : "Novice", competitor.getCompetitionLevel());
+                assertArrayEquals(new int[] {id % 6, 1, 2, 3, 4}, competitor.getScores());
+            }
+        }
+    }
+
+    @Test
+    void snapshotMatchesTheRepository() {
+        InMemoryCompetitorRepository repository = new InMemoryCompetitorRepository();
+        repository.addCompetitor(competitor(1, new int[] {1, 2, 3, 4, 5}));
+        repository.addCompetitor(competitor(2, new int[] {5, 5, 5, 5, 4}));
+        repository.addCompetitor(competitor(3, new int[] {5, 5, 5, 5, 4}));
+        Manager manager = new Manager(repository);
+        try (OffHeapCompetitorTable table = manager.getOffHeapSnapshot()) {
+            assertEquals(3, table.size());
+            assertEquals(2, table.row(table.findTopPerformerRow()).getCompetitorID());
+
+            List<Integer> ids = new ArrayList<>();
+            double total = 0.0;
+            for (int row = 0; row < table.size(); row++) {
+                OffHeapCompetitorTable.Row flyweight = table.row(row);
+                ids.add(flyweight.getCompetitorID());
+                total += flyweight.getOverallScore();
+                assertEquals(repository.getCompetitorsById(flyweight.getCompetitorID()).getOverallScore(),
+                        flyweight.getOverallScore());
+            }
+            assertEquals(3, ids.size());
+            assertEquals(3.0 + 5.0 + 5.0, total, 1e-9);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    void flyweightChecksItsBounds() {
+        try (OffHeapCompetitorTable table = new OffHeapCompetitorTable()) {
+            assertEquals(-1, table.findTopPerformerRow());
+            assertThrows(IndexOutOfBoundsException.class, () -> table.row(0));
+
+            table.add(competitor(1, new int[] {1, 2, 3, 4, 5}));
+            OffHeapCompetitorTable.Row row = table.row(0);
+            assertThrows(IndexOutOfBoundsException.class, () -> row.moveTo(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> row.moveTo(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> row.getScore(5));
+            assertEquals(5, row.getScore(4));
+        }
+    }
+
+    @Test
+    void closedTableRefusesReads() {
+        OffHeapCompetitorTable table = new OffHeapCompetitorTable();
+        table.add(competitor(1, new int[] {1, 2, 3, 4, 5}));
+        OffHeapCompetitorTable.Row row = table.row(0);
+
+        table.close();
+        table.close();
+
+        assertThrows(IllegalStateException.class, table::size);
+        assertThrows(IllegalStateException.class, () -> table.add(competitor(2, new int[] {1, 1, 1, 1, 1})));
+        assertThrows(IllegalStateException.class, row::getCompetitorID);
+        assertThrows(IllegalStateException.class, row::getLastName);
+    }
+
+    @Test
+    void overlongNamesAreRejected() {
+        try (OffHeapCompetitorTable table = new OffHeapCompetitorTable()) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i <= Short.MAX_VALUE; i++) {
+                name.append('a');
+            }
+            assertThrows(IllegalArgumentException.class, () -> table.add(new MRCompetitor(1,
+                    new Name("First", null, name.toString()), "Novice", "Male", "Red", new int[] {1, 1, 1, 1, 1})));
+            assertEquals(0, table.size());
+
+            table.add(competitor(2, new int[] {1, 2, 3, 4, 5}));
+            assertEquals(2, table.row(0).getCompetitorID());
+            assertNull(table.row(0).getMiddleName());
+            assertEquals("Last2", table.row(0).getLastName());
+        }
+    }
+
+    private static MRCompetitor competitor(int id, int[] scores) {
+        return new MRCompetitor(id, new Name("First", null, "Last" + id), "Novice", "Male", "Red", scores);
+    }
+}
@@ -0,0 +1,72 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link QuantileSketch}, checking estimates stay within the relative accuracy.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    void emptySketchHasNoQuantile() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+    }
+
+    @Test
+    void quantilesAreWithinRelativeAccuracy() {
+        Random random = new Random(5);
+        double[] values = new double[20000];
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2);
+            sketch.add(values[i]);
+        }
+
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(values.length, sketch.getCount());
+        assertEquals(sorted[0], sketch.getMin());
+        assertEquals(sorted[sorted.length - 1], sketch.getMax());
+        assertEquals(Arrays.stream(values).average().getAsDouble(), sketch.getMean(), 1e-9);
+        for (double q : new double[] {0.01, 0.1, 0.5, 0.9, 0.99}) {
+            double exact = sorted[(int) (q * (sorted.length - 1))];
+            assertEquals(exact, sketch.getQuantile(q), exact * ACCURACY, "quantile " + q);
+        }
+    }
+
+    @Test
+    void mergeMatchesSingleSketch() {
+        Random random = new Random(9);
+        QuantileSketch all = new QuantileSketch(ACCURACY);
+        QuantileSketch left = new QuantileSketch(ACCURACY);
+        QuantileSketch right = new QuantileSketch(ACCURACY);
+        for (int i = 0; i < 10000; i++) {
+            double value = random.nextInt(3) == 0 ? 0.0 : 1 + random.nextDouble() * 1000;
+            all.add(value);
+            (i % 2 == 0 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMin(), left.getMin());
+        assertEquals(all.getMax(), left.getMax());
+        for (double q : new double[] {0.0, 0.2, 0.5, 0.8, 1.0}) {
+            assertEquals(all.getQuantile(q), left.getQuantile(q), "quantile " + q);
+        }
+    }
+}
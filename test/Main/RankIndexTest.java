@@ -0,0 +1,78 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RankIndex}: competition and dense ranks, positions and score ranges,
+ * and that the competitors it stores and returns are its own.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class RankIndexTest {
+
+    private RankIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RankIndex();
+        index.competitorSaved(competitor(1, new int[] {5, 5, 5, 5, 5}));
+        index.competitorSaved(competitor(2, new int[] {4, 4, 4, 4, 4}));
+        index.competitorSaved(competitor(3, new int[] {4, 4, 4, 4, 4}));
+        index.competitorSaved(competitor(4, new int[] {3, 3, 3, 3, 3}));
+    }
+
+    @Test
+    void ranksSkipOrShareTiedPlaces() {
+        assertEquals(1, index.getRank(1));
+        assertEquals(2, index.getRank(3));
+        assertEquals(4, index.getRank(4));
+        assertEquals(3, index.getDenseRank(4));
+        assertEquals(-1, index.getRank(9));
+
+        assertEquals(3, index.getCompetitorAtRank(3).getCompetitorID());
+        assertNull(index.getCompetitorAtRank(5));
+        assertEquals(2, index.countInScoreRange(3.5, 4.5));
+        assertEquals(2, index.getCompetitorsInScoreRange(3.5, 4.5).get(0).getCompetitorID());
+
+        index.competitorSaved(competitor(4, new int[] {5, 5, 5, 5, 5}));
+        index.competitorDeleted(1);
+        assertEquals(1, index.getRank(4));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void savedCompetitorsAreCopied() {
+        MRCompetitor saved = competitor(5, new int[] {1, 1, 1, 1, 1});
+        index.competitorSaved(saved);
+        saved.setScores(new int[] {5, 5, 5, 5, 5});
+        saved.getName().setLastName("Changed");
+
+        assertEquals(5, index.getRank(5));
+        MRCompetitor last = index.getCompetitorAtRank(5);
+        assertEquals(1.0, last.getOverallScore());
+        assertEquals("Last5", last.getName().getLastName());
+    }
+
+    @Test
+    void returnedCompetitorsAreCopies() {
+        index.getCompetitorAtRank(1).getName().setLastName("Changed");
+        List<MRCompetitor> podium = index.getCompetitorsByRank(1, 3);
+        podium.get(1).setScores(new int[] {0, 0, 0, 0, 0});
+        index.getCompetitorsInScoreRange(0.0, 5.0).get(3).getName().setLastName("Changed");
+
+        assertEquals("Last1", index.getCompetitorAtRank(1).getName().getLastName());
+        assertEquals(4.0, index.getCompetitorAtRank(2).getOverallScore());
+        assertEquals("Last4", index.getCompetitorAtRank(4).getName().getLastName());
+    }
+
+    private static MRCompetitor competitor(int id, int[] scores) {
+        return new MRCompetitor(id, new Name("First", null, "Last" + id), "Novice", "Male", "Red", scores);
+    }
+}
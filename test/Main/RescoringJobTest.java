@@ -0,0 +1,88 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RescoringJob}, run against an in-memory H2 database.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class RescoringJobTest {
+
+    private TestDatabase database;
+    private CompetitorDB db;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.create();
+        db = database.open();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        db.close();
+        database.drop();
+    }
+
+    @Test
+    void rewritesOnlyStaleScores() throws SQLException {
+        ScoringEngine median = new ScoringEngine(ScoringRules.median());
+        int rows = 2500;
+        int stale = 0;
+        for (int id = 1; id <= rows; id++) {
+            int[] scores = {id % 6, (id * 7) % 6, 3, 1, 5};
+            String overall;
+            if (id % 10 == 0) {
+                overall = "NULL";
+                stale++;
+            } else if (id % 3 == 0) {
+                overall = "-1";
+                stale++;
+            } else {
+                overall = String.valueOf(median.score(scores));
+            }
+            database.execute("INSERT INTO mrcompetitors VALUES (" + id + ", 'First', NULL, 'Last', 'Novice', 'Male', 'Red', "
+                    + scores[0] + ", " + scores[1] + ", " + scores[2] + ", " + scores[3] + ", " + scores[4] + ", " + overall + ")");
+        }
+        List<Long> progress = new ArrayList<>();
+        RescoringJob job = new RescoringJob(db, median);
+        job.setProgressListener(result -> progress.add(result.getWritten()));
+
+        RescoringJob.Result result = job.run();
+
+        assertTrue(result.isComplete());
+        assertEquals(rows, result.getScanned());
+        assertEquals(stale, result.getChanged());
+        assertEquals(stale, result.getWritten());
+        assertFalse(progress.isEmpty());
+        for (int id = 1; id <= rows; id++) {
+            MRCompetitor competitor = db.getCompetitorsById(id);
+            assertEquals(median.score(competitor.getScores()), competitor.getOverallScore(), 1e-9, "competitor " + id);
+        }
+
+        RescoringJob.Result again = new RescoringJob(db, median).run();
+        assertTrue(again.isComplete());
+        assertEquals(rows, again.getScanned());
+        assertEquals(0, again.getChanged());
+    }
+
+    @Test
+    void emptyTableCompletesWithNothingToDo() {
+        RescoringJob.Result result = new RescoringJob(db, new ScoringEngine()).run();
+
+        assertTrue(result.isComplete());
+        assertEquals(0, result.getScanned());
+        assertEquals(0, result.getWritten());
+    }
+}
@@ -0,0 +1,233 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Round-trip tests for the CSV, JSON lines and binary roster codecs.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class RosterCodecTest {
+
+    /**
+     * Middle names that need quoting or escaping in at least one format.
+     */
+    private static final String[] MIDDLE_NAMES = {"plain", "", null, "comma, \"quote\"", "line\nbreak",
+            "carriage\r\nreturn", "lone\rreturn", "unicode é中", "back\\slash"};
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(RosterFormat.class)
+    void roundTripsEveryField(RosterFormat format) throws IOException {
+        List<MRCompetitor> competitors = sampleCompetitors();
+
+        List<MRCompetitor> read = readAll(format, writeAll(format, competitors));
+
+        assertEquals(competitors.size(), read.size());
+        for (int i = 0; i < competitors.size(); i++) {
+            assertSameCompetitor(competitors.get(i), read.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RosterFormat.class)
+    void exportAndImportThroughRepository(RosterFormat format) throws IOException {
+        InMemoryCompetitorRepository source = new InMemoryCompetitorRepository();
+        List<MRCompetitor> competitors = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            competitors.add(new MRCompetitor(i, new Name("First" + i, i % 3 == 0 ? null : "M", "Last"),
+                    String.valueOf(i % 5), "Female", "Blue", new int[] {i % 6, 1, 2, 3, 4}));
+        }
+        source.addCompetitorsBatch(competitors, 1000);
+        Path file = tempDir.resolve("roster" + format.getExtension());
+
+        assertEquals(5000, new RosterExporter(source, 4).export(file, format));
+        InMemoryCompetitorRepository target = new InMemoryCompetitorRepository();
+        BatchInsertResult result = new RosterImporter(target, 1000).importFrom(file, format);
+
+        assertEquals(5000, result.getInsertedCount());
+        assertEquals(0, result.getFailures().size());
+        for (MRCompetitor competitor : competitors) {
+            assertSameCompetitor(competitor, target.getCompetitorsById(competitor.getCompetitorID()));
+        }
+    }
+
+    @Test
+    void csvReaderAcceptsCrAndCrlfLineEnds() throws IOException {
+        List<MRCompetitor> competitors = sampleCompetitors();
+        String csv = new String(writeAll(RosterFormat.CSV, competitors), StandardCharsets.UTF_8);
+
+        for (String lineEnd : new String[] {"\r\n", "\r"}) {
+            // Only record ends are unquoted, so quoted line breaks inside names stay untouched
+            StringBuilder converted = new StringBuilder();
+            boolean quoted = false;
+            for (char c : csv.toCharArray()) {
+                if (c == '"') {
+                    quoted = !quoted;
+                }
+                converted.append(c == '\n' && !quoted ? lineEnd : String.valueOf(c));
+            }
+
+            List<MRCompetitor> read = readAll(RosterFormat.CSV, converted.toString().getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(competitors.size(), read.size(), "line end " + Arrays.toString(lineEnd.getBytes()));
+            for (int i = 0; i < competitors.size(); i++) {
+                assertSameCompetitor(competitors.get(i), read.get(i));
+            }
+        }
+    }
+
+    @Test
+    void importReportsBadRowsAndKeepsTheRest() throws IOException {
+        Path file = tempDir.resolve("bad.csv");
+        Files.write(file, Arrays.asList(CsvRosterCodec.HEADER,
+                "1,a,,b,1,F,B,1,2,3,4,5,3.0",
+                "x,a,,b,1,F,B,1,2,3,4,5,3.0",
+                "2,c,,d,1,F,B,1,2,3,4,5,3.0",
+                "1,a,,b,1,F,B,1,2,3,4,5,3.0"));
+        InMemoryCompetitorRepository repository = new InMemoryCompetitorRepository();
+
+        BatchInsertResult result = new RosterImporter(repository, 2).importFrom(file, RosterFormat.CSV);
+
+        assertEquals(2, result.getInsertedCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getRowIndex());
+        assertEquals(3, result.getFailures().get(1).getRowIndex());
+        assertEquals(2, repository.getTotalNumberOfCompetitors());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RosterFormat.class)
+    void importIgnoresStoredOverallScores(RosterFormat format) throws IOException {
+        List<MRCompetitor> competitors = new ArrayList<>();
+        competitors.add(new MRCompetitor(1, new Name("A", null, "B"), "Novice", "Male", "Red", new int[] {1, 2, 3, 4, 5}, 99.0));
+        competitors.add(new MRCompetitor(2, new Name("C", null, "D"), "Novice", "Male", "Red", new int[] {5, 5, 4, 4, 0}, -1.0));
+        Path file = tempDir.resolve("forged" + format.getExtension());
+        Files.write(file, writeAll(format, competitors));
+
+        InMemoryCompetitorRepository inMemory = new InMemoryCompetitorRepository();
+        assertEquals(2, new RosterImporter(inMemory).importFrom(file, format).getInsertedCount());
+        assertEquals(3.0, inMemory.getCompetitorsById(1).getOverallScore());
+        assertEquals(13 / 3.0, inMemory.getCompetitorsById(2).getOverallScore(), 1e-12);
+
+        try (MappedFileCompetitorRepository mapped = new MappedFileCompetitorRepository(tempDir.resolve(format + ".db"))) {
+            assertEquals(2, new RosterImporter(mapped).importFrom(file, format).getInsertedCount());
+            assertEquals(3.0, mapped.getCompetitorsById(1).getOverallScore());
+            assertEquals(13 / 3.0, mapped.getCompetitorsById(2).getOverallScore(), 1e-12);
+        }
+    }
+
+    @Test
+    void jsonLinesRejectsIdsThatAreNotWholeInts() throws IOException {
+        String valid = "{\"competitorID\":7,\"scores\":[1,2,3,4,5]}";
+        String[] invalid = {
+            "{\"competitorID\":7.5,\"scores\":[1,2,3,4,5]}",
+            "{\"competitorID\":4294967297,\"scores\":[1,2,3,4,5]}",
+            "{\"competitorID\":1e999,\"scores\":[1,2,3,4,5]}",
+            "{\"competitorID\":7,\"scores\":[1,2.5,3,4,5]}"
+        };
+        Path file = tempDir.resolve("ids.jsonl");
+        List<String> lines = new ArrayList<>(Arrays.asList(invalid));
+        lines.add(valid);
+        Files.write(file, lines);
+        InMemoryCompetitorRepository repository = new InMemoryCompetitorRepository();
+
+        BatchInsertResult result = new RosterImporter(repository).importFrom(file, RosterFormat.JSON_LINES);
+
+        assertEquals(1, result.getInsertedCount());
+        assertEquals(invalid.length, result.getFailures().size());
+        for (int i = 0; i < invalid.length; i++) {
+            assertEquals(i, result.getFailures().get(i).getRowIndex());
+        }
+        assertEquals(1, repository.getTotalNumberOfCompetitors());
+        assertEquals(7, repository.getAllCompetitors().get(0).getCompetitorID());
+    }
+
+    @Test
+    void binaryReaderOnlyStopsAtARecordBoundary() throws IOException {
+        byte[] data = writeAll(RosterFormat.BINARY, sampleCompetitors().subList(0, 2));
+        int header = 5;
+        int firstRecordEnd = header + 4 + ((data[header] & 0xFF) << 24 | (data[header + 1] & 0xFF) << 16
+                | (data[header + 2] & 0xFF) << 8 | (data[header + 3] & 0xFF));
+
+        assertEquals(1, readAll(RosterFormat.BINARY, Arrays.copyOf(data, firstRecordEnd)).size());
+        for (int cut = firstRecordEnd + 1; cut < data.length; cut++) {
+            byte[] truncated = Arrays.copyOf(data, cut);
+            EOFException e = assertThrows(EOFException.class, () -> readAll(RosterFormat.BINARY, truncated));
+            assertTrue(e.getMessage().startsWith("Truncated record"), e.getMessage());
+        }
+    }
+
+    @Test
+    void formatIsChosenByExtension() {
+        assertEquals(RosterFormat.CSV, RosterFormat.fromFileName("roster.csv"));
+        assertEquals(RosterFormat.JSON_LINES, RosterFormat.fromFileName("roster.jsonl"));
+        assertEquals(RosterFormat.BINARY, RosterFormat.fromFileName("roster.mrr"));
+    }
+
+    private static List<MRCompetitor> sampleCompetitors() {
+        List<MRCompetitor> competitors = new ArrayList<>();
+        for (int i = 0; i < MIDDLE_NAMES.length; i++) {
+            competitors.add(new MRCompetitor(i + 1, new Name("First" + i, MIDDLE_NAMES[i], "Last" + i),
+                    "Novice", i % 2 == 0 ? "Male" : "Female", "Red", new int[] {i, 1, 2, 3, 4}, 2.5 + i / 3.0));
+        }
+        return competitors;
+    }
+
+    private static byte[] writeAll(RosterFormat format, List<MRCompetitor> competitors) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RosterWriter writer = format.openWriter(out, true)) {
+            for (MRCompetitor competitor : competitors) {
+                writer.write(competitor);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<MRCompetitor> readAll(RosterFormat format, byte[] data) throws IOException {
+        List<MRCompetitor> competitors = new ArrayList<>();
+        try (RosterReader reader = format.openReader(new ByteArrayInputStream(data))) {
+            MRCompetitor competitor;
+            while ((competitor = reader.read()) != null) {
+                competitors.add(competitor);
+            }
+            assertNull(reader.read());
+        }
+        return competitors;
+    }
+
+    private static void assertSameCompetitor(MRCompetitor expected, MRCompetitor actual) {
+        assertEquals(expected.getCompetitorID(), actual.getCompetitorID());
+        assertEquals(expected.getName().getFirstName(), actual.getName().getFirstName());
+        assertEquals(expected.getName().getMiddleName(), actual.getName().getMiddleName());
+        assertEquals(expected.getName().getLastName(), actual.getName().getLastName());
+        assertEquals(expected.getCompetitionLevel(), actual.getCompetitionLevel());
+        assertEquals(expected.getgender(), actual.getgender());
+        assertEquals(expected.getBelbeltColor(), actual.getBelbeltColor());
+        assertArrayEquals(expected.getScores(), actual.getScores());
+        assertEquals(expected.getOverallScore(), actual.getOverallScore());
+    }
+}
@@ -0,0 +1,94 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScoreHistogram}, including scores too far apart for the dense array.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class ScoreHistogramTest {
+
+    @Test
+    void summarisesScores() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.addAll(new int[] {3, 1, 4, 1, 5});
+
+        assertEquals(5, histogram.getTotal());
+        assertEquals(2, histogram.getCount(1));
+        assertEquals(1, histogram.getLowestScore());
+        assertEquals(5, histogram.getHighestScore());
+        assertEquals(2.8, histogram.getMean(), 1e-9);
+        assertEquals(3, histogram.getMedian());
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(5, histogram.getPercentile(100));
+    }
+
+    @Test
+    void removingMoreThanWasCountedFails() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(2);
+        histogram.remove(2);
+
+        assertEquals(0, histogram.getTotal());
+        assertThrows(IllegalArgumentException.class, () -> histogram.remove(2));
+        assertThrows(IllegalStateException.class, histogram::getMedian);
+    }
+
+    @Test
+    void farOffScoresMatchBruteForce() {
+        Random random = new Random(3);
+        int[] scores = new int[5000];
+        for (int i = 0; i < scores.length; i++) {
+            // Mostly small scores with a few far outside MAX_RANGE on either side
+            scores[i] = random.nextInt(20) == 0
+                    ? (random.nextBoolean() ? 1 : -1) * (ScoreHistogram.MAX_RANGE * (2 + random.nextInt(100)))
+                    : random.nextInt(100);
+        }
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.addAll(scores);
+
+        int[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted.length, histogram.getTotal());
+        assertEquals(sorted[0], histogram.getLowestScore());
+        assertEquals(sorted[sorted.length - 1], histogram.getHighestScore());
+        for (double p : new double[] {1, 10, 25, 50, 75, 90, 99}) {
+            int rank = (int) Math.ceil(p / 100 * sorted.length);
+            assertEquals(sorted[rank - 1], histogram.getPercentile(p), "percentile " + p);
+        }
+        assertEquals(Arrays.stream(scores).average().getAsDouble(), histogram.getMean(), 1e-6);
+
+        Map<Integer, Integer> expected = new TreeMap<>();
+        for (int score : scores) {
+            expected.merge(score, 1, Integer::sum);
+        }
+        assertEquals(expected, new TreeMap<>(histogram.toMap()));
+        assertEquals(expected, new TreeMap<>(ScoreHistogram.fromMap(expected).toMap()));
+    }
+
+    @Test
+    void mergeAddsCounts() {
+        ScoreHistogram left = new ScoreHistogram();
+        left.addAll(new int[] {1, 2, 2});
+        ScoreHistogram right = new ScoreHistogram();
+        right.addAll(new int[] {2, 3 * ScoreHistogram.MAX_RANGE});
+
+        ScoreHistogram merged = left.copy();
+        merged.merge(right);
+
+        assertEquals(5, merged.getTotal());
+        assertEquals(3, merged.getCount(2));
+        assertEquals(1, merged.getCount(3 * ScoreHistogram.MAX_RANGE));
+        assertEquals(3, left.getTotal());
+    }
+}
@@ -0,0 +1,113 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScoreOrderTree}, checked against a sorted list of the same entries.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class ScoreOrderTreeTest {
+
+    private static final Comparator<double[]> SCORE_ORDER =
+            Comparator.<double[]>comparingDouble(e -> -e[1]).thenComparingDouble(e -> e[0]);
+
+    @Test
+    void ordersByScoreDescendingThenById() {
+        ScoreOrderTree tree = new ScoreOrderTree();
+        tree.add(3, 4.0);
+        tree.add(1, 4.0);
+        tree.add(2, 5.0);
+        tree.add(4, 1.5);
+
+        assertEquals(4, tree.size());
+        assertEquals(2, tree.idAt(0));
+        assertEquals(1, tree.idAt(1));
+        assertEquals(3, tree.idAt(2));
+        assertEquals(4, tree.idAt(3));
+        assertEquals(5.0, tree.scoreAt(0));
+        assertEquals(2, tree.indexOf(3, 4.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.idAt(4));
+    }
+
+    @Test
+    void countsAreTieAware() {
+        ScoreOrderTree tree = new ScoreOrderTree();
+        tree.add(1, 5.0);
+        tree.add(2, 4.0);
+        tree.add(3, 4.0);
+        tree.add(4, 3.0);
+
+        assertEquals(1, tree.countGreater(4.0));
+        assertEquals(3, tree.countAtLeast(4.0));
+        assertEquals(2, tree.countDistinctGreater(3.0));
+        assertEquals(0, tree.countGreater(5.0));
+        assertEquals(4, tree.countAtLeast(0.0));
+    }
+
+    @Test
+    void removeOnlyMatchesTheExactEntry() {
+        ScoreOrderTree tree = new ScoreOrderTree();
+        tree.add(1, 2.0);
+
+        assertFalse(tree.remove(1, 3.0));
+        assertFalse(tree.remove(2, 2.0));
+        assertTrue(tree.remove(1, 2.0));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void matchesSortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        ScoreOrderTree tree = new ScoreOrderTree();
+        TreeSet<double[]> expected = new TreeSet<>(SCORE_ORDER);
+        double[] scoreById = new double[2000];
+
+        for (int step = 0; step < 20000; step++) {
+            int id = random.nextInt(scoreById.length);
+            if (scoreById[id] != 0) {
+                assertTrue(tree.remove(id, scoreById[id]));
+                expected.remove(new double[] {id, scoreById[id]});
+                scoreById[id] = 0;
+            } else {
+                double score = 1 + random.nextInt(40) / 4.0;
+                tree.add(id, score);
+                expected.add(new double[] {id, score});
+                scoreById[id] = score;
+            }
+        }
+
+        List<double[]> order = new ArrayList<>(expected);
+        assertEquals(order.size(), tree.size());
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals((int) order.get(i)[0], tree.idAt(i));
+            assertEquals(order.get(i)[1], tree.scoreAt(i));
+            assertEquals(i, tree.indexOf((int) order.get(i)[0], order.get(i)[1]));
+        }
+
+        List<Integer> range = new ArrayList<>();
+        tree.forEachInRange(10, 20, range::add);
+        for (int i = 0; i < range.size(); i++) {
+            assertEquals((int) order.get(10 + i)[0], range.get(i));
+        }
+        assertEquals(10, range.size());
+
+        double probe = 5.5;
+        long greater = order.stream().filter(e -> e[1] > probe).count();
+        long distinct = order.stream().filter(e -> e[1] > probe).mapToDouble(e -> e[1]).distinct().count();
+        assertEquals(greater, tree.countGreater(probe));
+        assertEquals(distinct, tree.countDistinctGreater(probe));
+    }
+}
@@ -0,0 +1,41 @@
+package Main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the trimmed mean rules of {@link ScoringRules}, through both the single
+ * panel and the score matrix entry points.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+class ScoringRulesTest {
+
+    @Test
+    void standardDropsTheHighestAndLowestScore() {
+        assertEquals(3.0, ScoringRules.STANDARD.score(new int[] {1, 2, 3, 4, 5}));
+        assertEquals(4.0, ScoringRules.STANDARD.score(new int[] {5, 2, 4, 5, 3}));
+        assertEquals(0.0, ScoringRules.STANDARD.score(new int[] {4, 5}));
+        assertEquals(0.0, ScoringRules.STANDARD.score(null));
+    }
+
+    @Test
+    void singlePanelAndMatrixScoringAgree() {
+        int[] matrix = {9, 9, 1, 7, 3, 3, 5, 0, 9};
+        int[] panel = {1, 7, 3, 3, 5, 0, 9};
+        for (int k = 0; k <= 4; k++) {
+            ScoringRule rule = ScoringRules.trimmedMean(k);
+            assertEquals(rule.score(panel), rule.score(matrix, 2, panel.length, new int[panel.length]), 1e-12);
+        }
+        assertEquals((3 + 3 + 5) / 3.0, ScoringRules.trimmedMean(2).score(panel.clone()), 1e-12);
+        assertEquals(0.0, ScoringRules.trimmedMean(4).score(panel));
+    }
+
+    @Test
+    void negativeTrimIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ScoringRules.trimmedMean(-1));
+    }
+}
@@ -0,0 +1,84 @@
+package Main;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code TestDatabase} class creates empty in-memory H2 databases, running in MySQL
+ * mode, with the schema the application expects, so {@link CompetitorDB} can be tested
+ * without a MySQL server.
+ *
+ * @version 1.0
+ * @since 2024
+ */
+final class TestDatabase {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE mrcompetitors ("
+            + "competitorID INT PRIMARY KEY, firstName VARCHAR(50), middleName VARCHAR(50), lastName VARCHAR(50), "
+            + "CompetitionLevel VARCHAR(20), gender VARCHAR(20), BelbeltColort VARCHAR(20), "
+            + "score1 INT, score2 INT, score3 INT, score4 INT, score5 INT, overallScore DOUBLE)";
+
+    private static final AtomicInteger NEXT_DATABASE = new AtomicInteger();
+
+    private final String url;
+
+    private TestDatabase() {
+        url = "jdbc:h2:mem:test" + NEXT_DATABASE.incrementAndGet()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS competitors\\;SET SCHEMA competitors";
+    }
+
+    /**
+     * Creates a new, empty database with the competitors table.
+     *
+     * @return the database
+     * @throws SQLException if the table cannot be created
+     */
+    static TestDatabase create() throws SQLException {
+        TestDatabase database = new TestDatabase();
+        database.execute(CREATE_TABLE_SQL);
+        return database;
+    }
+
+    /**
+     * Opens a {@link CompetitorDB} on this database.
+     *
+     * @return the connected database access object
+     */
+    CompetitorDB open() {
+        return new CompetitorDB(url, "sa", "");
+    }
+
+    /**
+     * Gets the JDBC URL of this database.
+     *
+     * @return the URL
+     */
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Runs a statement on a connection of its own, outside any {@link CompetitorDB}.
+     *
+     * @param sql the statement
+     * @throws SQLException if the statement fails
+     */
+    void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Drops the database.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    void drop() throws SQLException {
+        execute("DROP ALL OBJECTS");
+    }
+}